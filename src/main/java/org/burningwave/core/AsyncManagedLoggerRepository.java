@@ -0,0 +1,432 @@
+/*
+ * This file is part of Burningwave Core.
+ *
+ * Author: Roberto Gentili
+ *
+ * Hosted at: https://github.com/burningwave/core
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2022 Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.burningwave.core;
+
+import static org.burningwave.core.assembler.StaticComponentContainer.Driver;
+import static org.burningwave.core.assembler.StaticComponentContainer.IterableObjectHelper;
+import static org.burningwave.core.assembler.StaticComponentContainer.Objects;
+import static org.burningwave.core.assembler.StaticComponentContainer.Strings;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.burningwave.core.ManagedLogger.Repository;
+import org.burningwave.core.iterable.IterableObjectHelper.ResolveConfig;
+
+public class AsyncManagedLoggerRepository extends Repository.Abst {
+	private Repository delegate;
+	private Event[] buffer;
+	private Event[] batch;
+	private int head;
+	private int count;
+	private boolean dropOnOverflow;
+	private boolean snapshotEnabled;
+	private long droppedEventsCount;
+	private long notifiedDroppedEventsCount;
+	private int waitingProducersCount;
+	private boolean emitterWaiting;
+	private volatile boolean closed;
+	private Thread emitter;
+	private Thread flusher;
+
+	public AsyncManagedLoggerRepository(Map<?, ?> properties) {
+		super(properties);
+	}
+
+	@Override
+	void initSpecificElements(Map<?, ?> properties) {
+		String delegateType = resolveConfigValue(properties, Configuration.Key.ASYNC_DELEGATE_TYPE);
+		if ("async".equalsIgnoreCase(delegateType.trim())) {
+			Driver.throwException("The value of the property '{}' cannot be 'async'", Configuration.Key.ASYNC_DELEGATE_TYPE);
+		}
+		String overflowPolicy = resolveConfigValue(properties, Configuration.Key.ASYNC_OVERFLOW_POLICY).trim();
+		if ("drop".equalsIgnoreCase(overflowPolicy)) {
+			dropOnOverflow = true;
+		} else if (!"block".equalsIgnoreCase(overflowPolicy)) {
+			Driver.throwException("Unsupported value '{}' for the property '{}'", overflowPolicy, Configuration.Key.ASYNC_OVERFLOW_POLICY);
+		}
+		snapshotEnabled = Objects.toBoolean(resolveConfigValue(properties, Configuration.Key.ASYNC_SNAPSHOT_ENABLED).trim());
+		buffer = createEvents(Objects.toInt(resolveConfigValue(properties, Configuration.Key.ASYNC_BUFFER_SIZE).trim()));
+		batch = createEvents(Math.min(Objects.toInt(resolveConfigValue(properties, Configuration.Key.ASYNC_BATCH_SIZE).trim()), buffer.length));
+		delegate = Repository.create(delegateType, properties);
+		if (delegate instanceof Repository.Abst) {
+			((Repository.Abst)delegate).callerDetailsEnabled = false;
+		}
+		emitter = new Thread(this::emitAll, "Burningwave - ManagedLoggerRepository - Async emitter");
+		emitter.setDaemon(true);
+		emitter.start();
+		flusher = new Thread(this::flush, "Burningwave - ManagedLoggerRepository - Async flusher");
+		Runtime.getRuntime().addShutdownHook(flusher);
+	}
+
+	private String resolveConfigValue(Map<?, ?> properties, String key) {
+		return IterableObjectHelper.resolveStringValue(
+			ResolveConfig.forNamedKey(key)
+			.on(properties)
+			.withDefaultValues(Configuration.DEFAULT_VALUES)
+		);
+	}
+
+	private Event[] createEvents(int size) {
+		if (size < 1) {
+			Driver.throwException("The size of the async logging buffers must be greater than zero");
+		}
+		Event[] events = new Event[size];
+		for (int i = 0; i < events.length; i++) {
+			events[i] = new Event();
+		}
+		return events;
+	}
+
+	@Override
+	void resetSpecificElements() {}
+
+	public Repository getDelegate() {
+		return delegate;
+	}
+
+	public long getDroppedEventsCount() {
+		synchronized (buffer) {
+			return droppedEventsCount;
+		}
+	}
+
+	public int getPendingEventsCount() {
+		synchronized (buffer) {
+			return count;
+		}
+	}
+
+	@Override
+	boolean isLoggingLevelEnabledFor(String clientName, LoggingLevel level) {
+		return delegate instanceof Repository.Abst ?
+			((Repository.Abst)delegate).isLoggingLevelEnabledFor(clientName, level) :
+			delegate.isEnabled();
+	}
+
+	//The client name, the filtering and the formatting are resolved by the emitter unless the snapshot is enabled:
+	//in this case they are resolved on the calling thread so that arguments are rendered before they can be modified
+	private void enqueue(LoggingLevel level, Supplier<String> clientNameSupplier, String message, Throwable exception, Object[] arguments) {
+		if (!delegate.isEnabled()) {
+			return;
+		}
+		if (snapshotEnabled) {
+			String clientName = clientNameSupplier.get();
+			if (!isLoggingLevelEnabledFor(clientName, level)) {
+				return;
+			}
+			if (arguments != null) {
+				message = Strings.compile(message, arguments);
+				arguments = null;
+			}
+			clientNameSupplier = () -> clientName;
+		}
+		if (closed || Thread.currentThread() == emitter) {
+			emit(level, clientNameSupplier, message, exception, arguments);
+			return;
+		}
+		synchronized (buffer) {
+			while (count == buffer.length && !closed) {
+				if (dropOnOverflow) {
+					++droppedEventsCount;
+					return;
+				}
+				++waitingProducersCount;
+				try {
+					buffer.wait();
+				} catch (InterruptedException exc) {
+					Thread.currentThread().interrupt();
+					++droppedEventsCount;
+					return;
+				} finally {
+					--waitingProducersCount;
+				}
+			}
+			if (!closed) {
+				buffer[(head + count) % buffer.length].set(level, clientNameSupplier, message, exception, arguments);
+				if (count++ == 0 && emitterWaiting) {
+					buffer.notifyAll();
+				}
+				return;
+			}
+		}
+		emit(level, clientNameSupplier, message, exception, arguments);
+	}
+
+	private void emitAll() {
+		while (true) {
+			int batchCount;
+			long droppedEventsCount;
+			synchronized (buffer) {
+				while (count == 0 && !closed) {
+					emitterWaiting = true;
+					try {
+						buffer.wait();
+					} catch (InterruptedException exc) {
+						closed = true;
+					}
+					emitterWaiting = false;
+				}
+				if (count == 0) {
+					return;
+				}
+				batchCount = Math.min(count, batch.length);
+				for (int i = 0; i < batchCount; i++) {
+					int index = (head + i) % buffer.length;
+					Event event = buffer[index];
+					buffer[index] = batch[i];
+					batch[i] = event;
+				}
+				head = (head + batchCount) % buffer.length;
+				count -= batchCount;
+				droppedEventsCount = this.droppedEventsCount - notifiedDroppedEventsCount;
+				notifiedDroppedEventsCount = this.droppedEventsCount;
+				if (waitingProducersCount > 0) {
+					buffer.notifyAll();
+				}
+			}
+			if (droppedEventsCount > 0) {
+				emit(LoggingLevel.WARN, AsyncManagedLoggerRepository.class::getName,
+					"{} logging events have been dropped because the buffer was full", null, new Object[] {droppedEventsCount}
+				);
+			}
+			for (int i = 0; i < batchCount; i++) {
+				Event event = batch[i];
+				emit(event.level, event.clientNameSupplier, event.message, event.exception, event.arguments);
+				event.clear();
+			}
+		}
+	}
+
+	private void emit(LoggingLevel level, Supplier<String> clientNameSupplier, String message, Throwable exception, Object[] arguments) {
+		try {
+			if (level == LoggingLevel.ERROR) {
+				if (message == null) {
+					delegate.logError(clientNameSupplier, exception);
+				} else if (exception == null) {
+					if (arguments == null) {
+						delegate.logError(clientNameSupplier, message);
+					} else {
+						delegate.logError(clientNameSupplier, message, arguments);
+					}
+				} else if (arguments == null) {
+					delegate.logError(clientNameSupplier, message, exception);
+				} else {
+					delegate.logError(clientNameSupplier, message, exception, arguments);
+				}
+			} else if (level == LoggingLevel.WARN) {
+				if (arguments == null) {
+					delegate.logWarn(clientNameSupplier, message);
+				} else {
+					delegate.logWarn(clientNameSupplier, message, arguments);
+				}
+			} else if (level == LoggingLevel.INFO) {
+				if (arguments == null) {
+					delegate.logInfo(clientNameSupplier, message);
+				} else {
+					delegate.logInfo(clientNameSupplier, message, arguments);
+				}
+			} else if (level == LoggingLevel.DEBUG) {
+				if (arguments == null) {
+					delegate.logDebug(clientNameSupplier, message);
+				} else {
+					delegate.logDebug(clientNameSupplier, message, arguments);
+				}
+			} else if (arguments == null) {
+				delegate.logTrace(clientNameSupplier, message);
+			} else {
+				delegate.logTrace(clientNameSupplier, message, arguments);
+			}
+		} catch (Throwable exc) {
+			exc.printStackTrace();
+		}
+	}
+
+	private void flush() {
+		synchronized (buffer) {
+			closed = true;
+			buffer.notifyAll();
+		}
+		if (Thread.currentThread() != emitter) {
+			try {
+				emitter.join();
+			} catch (InterruptedException exc) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	@Override
+	public void setLoggingLevelFor(LoggingLevel logLevel, String... classNames) {
+		delegate.setLoggingLevelFor(logLevel, classNames);
+	}
+
+	@Override
+	public void setLoggingLevelFlags(Class<?> cls, Integer flags) {
+		delegate.setLoggingLevelFlags(cls, flags);
+	}
+
+	@Override
+	public Integer getLoggingLevelFlags(Class<?> cls) {
+		return delegate.getLoggingLevelFlags(cls);
+	}
+
+	@Override
+	public void addLoggingLevelFor(LoggingLevel logLevel, String... classNames) {
+		delegate.addLoggingLevelFor(logLevel, classNames);
+	}
+
+	@Override
+	public void removeLoggingLevelFor(LoggingLevel logLevel, String... classNames) {
+		delegate.removeLoggingLevelFor(logLevel, classNames);
+	}
+
+	@Override
+	public boolean isEnabled() {
+		return delegate.isEnabled();
+	}
+
+	@Override
+	public void disableLogging() {
+		delegate.disableLogging();
+	}
+
+	@Override
+	public void enableLogging() {
+		delegate.enableLogging();
+	}
+
+	@Override
+	public void disableLogging(String clientName) {
+		delegate.disableLogging(clientName);
+	}
+
+	@Override
+	public void enableLogging(String clientName) {
+		delegate.enableLogging(clientName);
+	}
+
+	@Override
+	public void logError(Supplier<String> clientNameSupplier, Throwable exc) {
+		enqueue(LoggingLevel.ERROR, clientNameSupplier, null, exc, null);
+	}
+
+	@Override
+	public void logError(Supplier<String> clientNameSupplier, String message, Throwable exc, Object... arguments) {
+		enqueue(LoggingLevel.ERROR, clientNameSupplier, message, exc, arguments);
+	}
+
+	@Override
+	public void logError(Supplier<String> clientNameSupplier, String message, Throwable exc) {
+		enqueue(LoggingLevel.ERROR, clientNameSupplier, message, exc, null);
+	}
+
+	@Override
+	public void logError(Supplier<String> clientNameSupplier, String message, Object... arguments) {
+		enqueue(LoggingLevel.ERROR, clientNameSupplier, message, null, arguments);
+	}
+
+	@Override
+	public void logError(Supplier<String> clientNameSupplier, String message) {
+		enqueue(LoggingLevel.ERROR, clientNameSupplier, message, null, null);
+	}
+
+	@Override
+	public void logDebug(Supplier<String> clientNameSupplier, String message) {
+		enqueue(LoggingLevel.DEBUG, clientNameSupplier, message, null, null);
+	}
+
+	@Override
+	public void logDebug(Supplier<String> clientNameSupplier, String message, Object... arguments) {
+		enqueue(LoggingLevel.DEBUG, clientNameSupplier, message, null, arguments);
+	}
+
+	@Override
+	public void logInfo(Supplier<String> clientNameSupplier, String message) {
+		enqueue(LoggingLevel.INFO, clientNameSupplier, message, null, null);
+	}
+
+	@Override
+	public void logInfo(Supplier<String> clientNameSupplier, String message, Object... arguments) {
+		enqueue(LoggingLevel.INFO, clientNameSupplier, message, null, arguments);
+	}
+
+	@Override
+	public void logWarn(Supplier<String> clientNameSupplier, String message) {
+		enqueue(LoggingLevel.WARN, clientNameSupplier, message, null, null);
+	}
+
+	@Override
+	public void logWarn(Supplier<String> clientNameSupplier, String message, Object... arguments) {
+		enqueue(LoggingLevel.WARN, clientNameSupplier, message, null, arguments);
+	}
+
+	@Override
+	public void logTrace(Supplier<String> clientNameSupplier, String message) {
+		enqueue(LoggingLevel.TRACE, clientNameSupplier, message, null, null);
+	}
+
+	@Override
+	public void logTrace(Supplier<String> clientNameSupplier, String message, Object... arguments) {
+		enqueue(LoggingLevel.TRACE, clientNameSupplier, message, null, arguments);
+	}
+
+	@Override
+	public void close() {
+		flush();
+		try {
+			Runtime.getRuntime().removeShutdownHook(flusher);
+		} catch (IllegalStateException exc) {
+			//The shutdown is in progress
+		}
+		delegate.close();
+		super.close();
+	}
+
+	private static class Event {
+		private LoggingLevel level;
+		private Supplier<String> clientNameSupplier;
+		private String message;
+		private Throwable exception;
+		private Object[] arguments;
+
+		private void set(LoggingLevel level, Supplier<String> clientNameSupplier, String message, Throwable exception, Object[] arguments) {
+			this.level = level;
+			this.clientNameSupplier = clientNameSupplier;
+			this.message = message;
+			this.exception = exception;
+			this.arguments = arguments;
+		}
+
+		private void clear() {
+			set(null, null, null, null, null);
+		}
+	}
+
+}
@@ -32,24 +32,32 @@ import static org.burningwave.core.assembler.StaticComponentContainer.Background
 import static org.burningwave.core.assembler.StaticComponentContainer.BufferHandler;
 import static org.burningwave.core.assembler.StaticComponentContainer.IterableObjectHelper;
 import static org.burningwave.core.assembler.StaticComponentContainer.ManagedLoggerRepository;
-import static org.burningwave.core.assembler.StaticComponentContainer.Objects;
 import static org.burningwave.core.assembler.StaticComponentContainer.Synchronizer;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.math.BigDecimal;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
 
 import org.burningwave.core.classes.Members;
 import org.burningwave.core.concurrent.QueuedTaskExecutor;
@@ -57,24 +65,52 @@ import org.burningwave.core.function.TriConsumer;
 import org.burningwave.core.io.FileSystemItem;
 import org.burningwave.core.io.IterableZipContainer;
 import org.burningwave.core.iterable.IterableObjectHelper.IterationConfig;
+import org.burningwave.core.iterable.IterableObjectHelper.ResolveConfig;
+import org.burningwave.core.iterable.Properties;
+import org.burningwave.core.iterable.Properties.Event;
 
 
-public class Cache {
+public class Cache implements Component {
+
+	public static class Configuration {
+
+		public static class Key {
+
+			static final String PATH_FOR_CONTENTS_MAX_SIZE = "cache.path-for-contents.max-size";
+			static final String PATH_FOR_FILE_SYSTEM_ITEMS_MAX_COUNT = "cache.path-for-file-system-items.max-count";
+			static final String PATH_FOR_ITERABLE_ZIP_CONTAINERS_MAX_COUNT = "cache.path-for-iterable-zip-containers.max-count";
+
+		}
+
+		public final static Map<String, Object> DEFAULT_VALUES;
+
+		static {
+			Map<String, Object> defaultValues = new HashMap<>();
+
+			defaultValues.put(Key.PATH_FOR_CONTENTS_MAX_SIZE, "-1");
+			defaultValues.put(Key.PATH_FOR_FILE_SYSTEM_ITEMS_MAX_COUNT, "-1");
+			defaultValues.put(Key.PATH_FOR_ITERABLE_ZIP_CONTAINERS_MAX_COUNT, "-1");
+
+			DEFAULT_VALUES = Collections.unmodifiableMap(defaultValues);
+		}
+	}
+
 	public final PathForResources<ByteBuffer> pathForContents;
 	public final PathForResources<FileSystemItem> pathForFileSystemItems;
 	public final PathForResources<IterableZipContainer> pathForIterableZipContainers;
 	public final ObjectAndPathForResources<ClassLoader, Field[]> classLoaderForFields;
 	public final ObjectAndPathForResources<ClassLoader, Method[]> classLoaderForMethods;
 	public final ObjectAndPathForResources<ClassLoader, Constructor<?>[]> classLoaderForConstructors;
-	public final ObjectAndPathForResources<ClassLoader, Collection<Field>> uniqueKeyForFields;
-	public final ObjectAndPathForResources<ClassLoader, Collection<Constructor<?>>> uniqueKeyForConstructors;
-	public final ObjectAndPathForResources<ClassLoader, Collection<Method>> uniqueKeyForMethods;
+	public final ObjectAndMemberKeyForResources<ClassLoader, Collection<Field>> uniqueKeyForFields;
+	public final ObjectAndMemberKeyForResources<ClassLoader, Collection<Constructor<?>>> uniqueKeyForConstructors;
+	public final ObjectAndMemberKeyForResources<ClassLoader, Collection<Method>> uniqueKeyForMethods;
 	public final ObjectAndPathForResources<ClassLoader, Object> bindedFunctionalInterfaces;
-	public final ObjectAndPathForResources<ClassLoader, Members.Handler.OfExecutable.Box<?>> uniqueKeyForExecutableAndMethodHandle;
+	public final ObjectAndMemberKeyForResources<ClassLoader, Members.Handler.OfExecutable.Box<?>> uniqueKeyForExecutableAndMethodHandle;
 
-	private Cache() {
+	private Cache(Map<?, ?> config) {
 		ManagedLoggerRepository.logInfo(getClass()::getName, "Building cache");
 		pathForContents = new PathForResources<>(BufferHandler::shareContent);
+		pathForContents.weigher = content -> BufferHandler.limit(content);
 		pathForFileSystemItems = new PathForResources<>(
 			(path, fileSystemItem) ->
 				fileSystemItem.destroy()
@@ -85,22 +121,70 @@ public class Cache {
 		);
 		classLoaderForFields = new ObjectAndPathForResources<>();
 		classLoaderForMethods = new ObjectAndPathForResources<>();
-		uniqueKeyForFields = new ObjectAndPathForResources<>();
-		uniqueKeyForMethods = new ObjectAndPathForResources<>();
-		uniqueKeyForConstructors = new ObjectAndPathForResources<>();
+		uniqueKeyForFields = new ObjectAndMemberKeyForResources<>();
+		uniqueKeyForMethods = new ObjectAndMemberKeyForResources<>();
+		uniqueKeyForConstructors = new ObjectAndMemberKeyForResources<>();
 		classLoaderForConstructors = new ObjectAndPathForResources<>();
 		bindedFunctionalInterfaces = new ObjectAndPathForResources<>();
-		uniqueKeyForExecutableAndMethodHandle = new ObjectAndPathForResources<>();
+		uniqueKeyForExecutableAndMethodHandle = new ObjectAndMemberKeyForResources<>();
+		setMaxWeight(config, Configuration.Key.PATH_FOR_CONTENTS_MAX_SIZE);
+		setMaxWeight(config, Configuration.Key.PATH_FOR_FILE_SYSTEM_ITEMS_MAX_COUNT);
+		setMaxWeight(config, Configuration.Key.PATH_FOR_ITERABLE_ZIP_CONTAINERS_MAX_COUNT);
+		checkAndListenTo(config);
 	}
 
 	public static Cache create() {
-		return new Cache();
+		return create(Configuration.DEFAULT_VALUES);
+	}
+
+	public static Cache create(Map<?, ?> config) {
+		return new Cache(config);
+	}
+
+	private void setMaxWeight(Map<?, ?> config, String key) {
+		String maxWeightAsString = IterableObjectHelper.resolveStringValue(
+			ResolveConfig.forNamedKey(key)
+			.on(config)
+			.withDefaultValues(Configuration.DEFAULT_VALUES)
+		).trim();
+		long maxWeight;
+		String unit = maxWeightAsString.length() > 2 ? maxWeightAsString.substring(maxWeightAsString.length()-2) : "";
+		if (unit.equalsIgnoreCase("KB")) {
+			maxWeight = new BigDecimal(maxWeightAsString.substring(0, maxWeightAsString.length()-2)).multiply(new BigDecimal(1024)).longValue();
+		} else if (unit.equalsIgnoreCase("MB")) {
+			maxWeight = new BigDecimal(maxWeightAsString.substring(0, maxWeightAsString.length()-2)).multiply(new BigDecimal(1024 * 1024)).longValue();
+		} else if (unit.equalsIgnoreCase("GB")) {
+			maxWeight = new BigDecimal(maxWeightAsString.substring(0, maxWeightAsString.length()-2)).multiply(new BigDecimal(1024 * 1024 * 1024)).longValue();
+		} else {
+			maxWeight = Long.valueOf(maxWeightAsString);
+		}
+		if (key.equals(Configuration.Key.PATH_FOR_CONTENTS_MAX_SIZE)) {
+			pathForContents.setMaxWeight(maxWeight);
+		} else if (key.equals(Configuration.Key.PATH_FOR_FILE_SYSTEM_ITEMS_MAX_COUNT)) {
+			pathForFileSystemItems.setMaxWeight(maxWeight);
+		} else if (key.equals(Configuration.Key.PATH_FOR_ITERABLE_ZIP_CONTAINERS_MAX_COUNT)) {
+			pathForIterableZipContainers.setMaxWeight(maxWeight);
+		}
+	}
+
+	@Override
+	public <K, V> void processChangeNotification(Properties config, Event event, K key, V newValue, V previousValue) {
+		if (event.name().equals(Event.PUT.name())) {
+			if (key instanceof String) {
+				String keyAsString = (String)key;
+				if (keyAsString.equals(Configuration.Key.PATH_FOR_CONTENTS_MAX_SIZE) ||
+					keyAsString.equals(Configuration.Key.PATH_FOR_FILE_SYSTEM_ITEMS_MAX_COUNT) ||
+					keyAsString.equals(Configuration.Key.PATH_FOR_ITERABLE_ZIP_CONTAINERS_MAX_COUNT)
+				) {
+					setMaxWeight(config, keyAsString);
+				}
+			}
+		}
 	}
 
 	public static class ObjectAndPathForResources<T, R> {
 		Map<T, PathForResources<R>> resources;
 		Supplier<PathForResources<R>> pathForResourcesSupplier;
-		String instanceId;
 
 		public ObjectAndPathForResources() {
 			this(1L, item -> item, null );
@@ -117,13 +201,12 @@ public class Cache {
 		public ObjectAndPathForResources(Long partitionStartLevel, Function<R, R> sharer, BiConsumer<String, R> itemDestroyer) {
 			this.resources = new ConcurrentHashMap<>();
 			this.pathForResourcesSupplier = () -> new PathForResources<>(partitionStartLevel, sharer, itemDestroyer);
-			this.instanceId = Objects.getId(this);
 		}
 
 		public R getOrUploadIfAbsent(T object, String path, Supplier<R> resourceSupplier) {
 			PathForResources<R> pathForResources = resources.get(object);
 			if (pathForResources == null) {
-				pathForResources = Synchronizer.execute(instanceId + "_" + Objects.getId(object), () -> {
+				pathForResources = Synchronizer.execute(this, object, () -> {
 					PathForResources<R> pathForResourcesTemp = resources.get(object);
 					if (pathForResourcesTemp == null) {
 						pathForResourcesTemp = pathForResourcesSupplier.get();
@@ -138,7 +221,7 @@ public class Cache {
 		public R get(T object, String path) {
 			PathForResources<R> pathForResources = resources.get(object);
 			if (pathForResources == null) {
-				pathForResources = Synchronizer.execute(instanceId + "_mutexManagerForResources_" + Objects.getId(object), () -> {
+				pathForResources = Synchronizer.execute(this, object, () -> {
 					PathForResources<R> pathForResourcesTemp = resources.get(object);
 					if (pathForResourcesTemp == null) {
 						pathForResourcesTemp = pathForResourcesSupplier.get();
@@ -215,12 +298,188 @@ public class Cache {
 		}
 	}
 
+	public static class ObjectAndMemberKeyForResources<T, R> {
+		Map<T, Map<Class<?>, MemberKey<R>[]>> resources;
+
+		public ObjectAndMemberKeyForResources() {
+			this.resources = new ConcurrentHashMap<>();
+		}
+
+		public R get(T object, Class<?> targetClass, String groupName, String memberName, Class<?>... parameterTypes) {
+			Map<Class<?>, MemberKey<R>[]> resourcesForObject = resources.get(object);
+			if (resourcesForObject != null) {
+				MemberKey<R>[] keys = resourcesForObject.get(targetClass);
+				if (keys != null) {
+					for (MemberKey<R> key : keys) {
+						if (key.matches(groupName, memberName, parameterTypes)) {
+							return key.resource;
+						}
+					}
+				}
+			}
+			return null;
+		}
+
+		public R get(T object, Class<?> targetClass, String groupName, String memberName, Class<?> parameterType) {
+			Map<Class<?>, MemberKey<R>[]> resourcesForObject = resources.get(object);
+			if (resourcesForObject != null) {
+				MemberKey<R>[] keys = resourcesForObject.get(targetClass);
+				if (keys != null) {
+					for (MemberKey<R> key : keys) {
+						if (key.matches(groupName, memberName, parameterType)) {
+							return key.resource;
+						}
+					}
+				}
+			}
+			return null;
+		}
+
+		public R getOrUploadIfAbsent(
+			T object,
+			Class<?> targetClass,
+			String groupName,
+			String memberName,
+			Class<?> parameterType,
+			Supplier<R> resourceSupplier
+		) {
+			R resource = get(object, targetClass, groupName, memberName, parameterType);
+			if (resource != null) {
+				return resource;
+			}
+			return upload(object, targetClass, new MemberKey<>(groupName, memberName, new Class<?>[] {parameterType}), resourceSupplier);
+		}
+
+		public R getOrUploadIfAbsent(
+			T object,
+			Class<?> targetClass,
+			String groupName,
+			String memberName,
+			Class<?>[] parameterTypes,
+			Supplier<R> resourceSupplier
+		) {
+			R resource = get(object, targetClass, groupName, memberName, parameterTypes);
+			if (resource != null) {
+				return resource;
+			}
+			return upload(
+				object, targetClass,
+				new MemberKey<>(groupName, memberName, parameterTypes != null ? parameterTypes.clone() : null),
+				resourceSupplier
+			);
+		}
+
+		R upload(T object, Class<?> targetClass, MemberKey<R> newKey, Supplier<R> resourceSupplier) {
+			return Synchronizer.execute(this, Arrays.asList(object, targetClass, newKey), () -> {
+				R resourceTemp = get(object, targetClass, newKey.groupName, newKey.memberName, newKey.parameterTypes);
+				if ((resourceTemp == null) && (resourceSupplier != null)) {
+					resourceTemp = resourceSupplier.get();
+					if (resourceTemp != null) {
+						newKey.resource = resourceTemp;
+						Map<Class<?>, MemberKey<R>[]> resourcesForObject = resources.computeIfAbsent(object, obj -> new ConcurrentHashMap<>());
+						synchronized (resourcesForObject) {
+							MemberKey<R>[] keys = resourcesForObject.get(targetClass);
+							MemberKey<R>[] newKeys;
+							if (keys == null) {
+								newKeys = new MemberKey[] {newKey};
+							} else {
+								newKeys = Arrays.copyOf(keys, keys.length + 1);
+								newKeys[keys.length] = newKey;
+							}
+							resourcesForObject.put(targetClass, newKeys);
+						}
+					}
+				}
+				return resourceTemp;
+			});
+		}
+
+		public Map<Class<?>, MemberKey<R>[]> remove(T object, boolean destroyItems) {
+			Map<Class<?>, MemberKey<R>[]> resourcesForObject = resources.remove(object);
+			if ((resourcesForObject != null) && destroyItems) {
+				resourcesForObject.clear();
+			}
+			return resourcesForObject;
+		}
+
+		QueuedTaskExecutor.Task clearInBackground(boolean destroyItems) {
+			Map<T, Map<Class<?>, MemberKey<R>[]>> resources;
+			synchronized (this.resources) {
+				resources = this.resources;
+				this.resources = new ConcurrentHashMap<>();
+			}
+			return BackgroundExecutor.createTask(task -> {
+				for (Map<Class<?>, MemberKey<R>[]> resourcesForObject : resources.values()) {
+					resourcesForObject.clear();
+				}
+				resources.clear();
+			}).submit();
+		}
+
+		public static class MemberKey<R> {
+			final String groupName;
+			final String memberName;
+			final Class<?>[] parameterTypes;
+			R resource;
+
+			MemberKey(String groupName, String memberName, Class<?>[] parameterTypes) {
+				this.groupName = groupName;
+				this.memberName = memberName;
+				this.parameterTypes = parameterTypes;
+			}
+
+			boolean matches(String groupName, String memberName, Class<?>[] parameterTypes) {
+				return this.groupName.equals(groupName) &&
+					(this.memberName == null ? memberName == null : this.memberName.equals(memberName)) &&
+					Arrays.equals(this.parameterTypes, parameterTypes);
+			}
+
+			boolean matches(String groupName, String memberName, Class<?> parameterType) {
+				return this.groupName.equals(groupName) &&
+					(this.memberName == null ? memberName == null : this.memberName.equals(memberName)) &&
+					this.parameterTypes != null && this.parameterTypes.length == 1 && this.parameterTypes[0] == parameterType;
+			}
+
+			@Override
+			public int hashCode() {
+				return (31 * (31 * groupName.hashCode() + Objects.hashCode(memberName))) + Arrays.hashCode(parameterTypes);
+			}
+
+			@Override
+			public boolean equals(Object object) {
+				if (object == this) {
+					return true;
+				}
+				if (!(object instanceof MemberKey)) {
+					return false;
+				}
+				MemberKey<?> memberKey = (MemberKey<?>)object;
+				return matches(memberKey.groupName, memberKey.memberName, memberKey.parameterTypes);
+			}
+
+			@Override
+			public String toString() {
+				StringBuilder description = new StringBuilder("/").append(groupName).append("/").append(memberName);
+				if (parameterTypes != null) {
+					for (Class<?> parameterType : parameterTypes) {
+						description.append("/").append(parameterType != null ? parameterType.getName() : null);
+					}
+				}
+				return description.toString();
+			}
+		}
+	}
+
 	public static class PathForResources<R> {
 		Map<Long, Map<String, Map<String, R>>> resources;
 		Long partitionStartLevel;
 		Function<R, R> sharer;
 		BiConsumer<String, R> itemDestroyer;
-		String instanceId;
+		ToLongFunction<R> weigher;
+		volatile SegmentedLRU evictionPolicy;
+		LongAdder hitCount;
+		LongAdder missCount;
+		LongAdder evictionCount;
 
 		private PathForResources() {
 			this(1L, item -> item, null);
@@ -243,7 +502,7 @@ public class Cache {
 		}
 
 		private PathForResources(Function<R, R> sharer, BiConsumer<String, R> itemDestroyer) {
-			this(1L, item -> item, itemDestroyer);
+			this(1L, sharer, itemDestroyer);
 		}
 
 		private PathForResources(Long partitionStartLevel, BiConsumer<String, R> itemDestroyer) {
@@ -255,7 +514,49 @@ public class Cache {
 			this.sharer = sharer;
 			this.resources = new ConcurrentHashMap<>();
 			this.itemDestroyer = itemDestroyer;
-			this.instanceId = this.toString();
+			this.weigher = item -> 1L;
+			this.hitCount = new LongAdder();
+			this.missCount = new LongAdder();
+			this.evictionCount = new LongAdder();
+		}
+
+		public synchronized void setMaxWeight(long maxWeight) {
+			if (maxWeight <= 0) {
+				this.evictionPolicy = null;
+				return;
+			}
+			SegmentedLRU evictionPolicy = this.evictionPolicy;
+			if (evictionPolicy == null) {
+				SegmentedLRU newEvictionPolicy = this.evictionPolicy = new SegmentedLRU(maxWeight);
+				iterate((path, item) ->
+					newEvictionPolicy.recordInsertion(path, weigher.applyAsLong(item))
+				);
+			} else {
+				evictionPolicy.setMaxWeight(maxWeight);
+			}
+			evict(null);
+		}
+
+		void evict(String pathToBeKept) {
+			SegmentedLRU evictionPolicy = this.evictionPolicy;
+			if (evictionPolicy != null) {
+				for (String path : evictionPolicy.evict(pathToBeKept)) {
+					remove(path, false);
+					evictionCount.increment();
+				}
+			}
+		}
+
+		public long getHitCount() {
+			return hitCount.sum();
+		}
+
+		public long getMissCount() {
+			return missCount.sum();
+		}
+
+		public long getEvictionCount() {
+			return evictionCount.sum();
 		}
 
 		Map<String, R> retrievePartition(Map<String, Map<String, R>> partion, Long partitionIndex, String path) {
@@ -267,7 +568,7 @@ public class Cache {
 			Map<String, R> innerPartion = partion.get(partitionKey);
 			if (innerPartion == null) {
 				String finalPartitionKey = partitionKey;
-				innerPartion = Synchronizer.execute(instanceId + "_mutexManagerForPartitions_" + finalPartitionKey, () -> {
+				innerPartion = Synchronizer.execute(partion, finalPartitionKey, () -> {
 					Map<String, R> innerPartionTemp = partion.get(finalPartitionKey);
 					if (innerPartionTemp == null) {
 						partion.put(finalPartitionKey, innerPartionTemp = new ConcurrentHashMap<>());
@@ -280,17 +581,30 @@ public class Cache {
 
 		R getOrUploadIfAbsent(Map<String, R> loadedResources, String path, Supplier<R> resourceSupplier) {
 			R resource = loadedResources.get(path);
+			SegmentedLRU evictionPolicy = this.evictionPolicy;
 			if (resource == null) {
-				resource = Synchronizer.execute(instanceId + "_mutexManagerForLoadedResources_" + path, () -> {
+				missCount.increment();
+				resource = Synchronizer.execute(loadedResources, path, () -> {
 					R resourceTemp = loadedResources.get(path);
 					if ((resourceTemp == null) && (resourceSupplier != null)) {
 						resourceTemp = resourceSupplier.get();
 						if (resourceTemp != null) {
 							loadedResources.put(path, resourceTemp = sharer.apply(resourceTemp));
+							if (evictionPolicy != null) {
+								evictionPolicy.recordInsertion(path, weigher.applyAsLong(resourceTemp));
+							}
 						}
 					}
 					return resourceTemp;
 				});
+				if (evictionPolicy != null && resource != null) {
+					evict(path);
+				}
+			} else {
+				hitCount.increment();
+				if (evictionPolicy != null) {
+					evictionPolicy.recordAccess(path);
+				}
 			}
 			return resource != null?
 				sharer.apply(resource) :
@@ -299,19 +613,26 @@ public class Cache {
 
 		public R upload(Map<String, R> loadedResources, String path, Supplier<R> resourceSupplier, boolean destroy) {
 			R oldResource = remove(path, destroy);
-			Synchronizer.execute(instanceId + "_mutexManagerForLoadedResources_" + path, () -> {
+			SegmentedLRU evictionPolicy = this.evictionPolicy;
+			Synchronizer.execute(loadedResources, path, () -> {
 				R resourceTemp = resourceSupplier.get();
 				if (resourceTemp != null) {
 					loadedResources.put(path, resourceTemp = sharer.apply(resourceTemp));
+					if (evictionPolicy != null) {
+						evictionPolicy.recordInsertion(path, weigher.applyAsLong(resourceTemp));
+					}
 				}
 			});
+			if (evictionPolicy != null) {
+				evict(path);
+			}
 			return oldResource;
 		}
 
 		Map<String, Map<String, R>> retrievePartition(Map<Long, Map<String, Map<String, R>>> partitionedResources, Long partitionIndex) {
 			Map<String, Map<String, R>> resources = partitionedResources.get(partitionIndex);
 			if (resources == null) {
-				resources = Synchronizer.execute(instanceId + "_mutexManagerForPartitionedResources_" + partitionIndex.toString(), () -> {
+				resources = Synchronizer.execute(partitionedResources, partitionIndex, () -> {
 					Map<String, Map<String, R>> resourcesTemp = partitionedResources.get(partitionIndex);
 					if (resourcesTemp == null) {
 						partitionedResources.put(partitionIndex, resourcesTemp = new ConcurrentHashMap<>());
@@ -347,9 +668,13 @@ public class Cache {
 			Long partitionIndex = occurences > partitionStartLevel? occurences : partitionStartLevel;
 			Map<String, Map<String, R>> partion = retrievePartition(resources, partitionIndex);
 			Map<String, R> nestedPartition = retrievePartition(partion, partitionIndex, path);
-			R item = Synchronizer.execute(instanceId + "_mutexManagerForLoadedResources_" + path, () -> {
+			R item = Synchronizer.execute(nestedPartition, path, () -> {
 				return nestedPartition.remove(path);
 			});
+			SegmentedLRU evictionPolicy = this.evictionPolicy;
+			if (evictionPolicy != null && item != null) {
+				evictionPolicy.remove(path);
+			}
 			if ((itemDestroyer != null) && destroy && (item != null)) {
 				String finalPath = path;
 				itemDestroyer.accept(finalPath, item);
@@ -377,6 +702,10 @@ public class Cache {
 				partitions = this.resources;
 				this.resources = new ConcurrentHashMap<>();
 			}
+			SegmentedLRU evictionPolicy = this.evictionPolicy;
+			if (evictionPolicy != null) {
+				evictionPolicy.clear();
+			}
 			return BackgroundExecutor.createTask(task -> {
 				clearResources(partitions, destroyItems);
 			}).submit();
@@ -450,6 +779,91 @@ public class Cache {
 
 	}
 
+	static class SegmentedLRU {
+		private LinkedHashMap<String, Long> probationSegment;
+		private LinkedHashMap<String, Long> protectedSegment;
+		private long probationWeight;
+		private long protectedWeight;
+		private long maxWeight;
+
+		SegmentedLRU(long maxWeight) {
+			this.probationSegment = new LinkedHashMap<>(16, 0.75f, true);
+			this.protectedSegment = new LinkedHashMap<>(16, 0.75f, true);
+			this.maxWeight = maxWeight;
+		}
+
+		synchronized void setMaxWeight(long maxWeight) {
+			this.maxWeight = maxWeight;
+		}
+
+		synchronized void recordInsertion(String path, long weight) {
+			remove(path);
+			probationSegment.put(path, weight);
+			probationWeight += weight;
+		}
+
+		synchronized void recordAccess(String path) {
+			Long weight = probationSegment.remove(path);
+			if (weight == null) {
+				protectedSegment.get(path);
+				return;
+			}
+			probationWeight -= weight;
+			protectedSegment.put(path, weight);
+			protectedWeight += weight;
+			Iterator<Map.Entry<String, Long>> protectedItemsIterator = protectedSegment.entrySet().iterator();
+			while (protectedWeight > maxWeight * 4 / 5 && protectedItemsIterator.hasNext()) {
+				Map.Entry<String, Long> protectedItem = protectedItemsIterator.next();
+				if (protectedItem.getKey().equals(path)) {
+					break;
+				}
+				protectedItemsIterator.remove();
+				protectedWeight -= protectedItem.getValue();
+				probationSegment.put(protectedItem.getKey(), protectedItem.getValue());
+				probationWeight += protectedItem.getValue();
+			}
+		}
+
+		synchronized void remove(String path) {
+			Long weight = probationSegment.remove(path);
+			if (weight != null) {
+				probationWeight -= weight;
+			} else if ((weight = protectedSegment.remove(path)) != null) {
+				protectedWeight -= weight;
+			}
+		}
+
+		synchronized Collection<String> evict(String pathToBeKept) {
+			Collection<String> evictedPaths = new ArrayList<>();
+			evict(probationSegment, pathToBeKept, evictedPaths);
+			evict(protectedSegment, pathToBeKept, evictedPaths);
+			return evictedPaths;
+		}
+
+		private void evict(LinkedHashMap<String, Long> segment, String pathToBeKept, Collection<String> evictedPaths) {
+			Iterator<Map.Entry<String, Long>> itemsIterator = segment.entrySet().iterator();
+			while (probationWeight + protectedWeight > maxWeight && itemsIterator.hasNext()) {
+				Map.Entry<String, Long> item = itemsIterator.next();
+				if (item.getKey().equals(pathToBeKept)) {
+					continue;
+				}
+				itemsIterator.remove();
+				if (segment == probationSegment) {
+					probationWeight -= item.getValue();
+				} else {
+					protectedWeight -= item.getValue();
+				}
+				evictedPaths.add(item.getKey());
+			}
+		}
+
+		synchronized void clear() {
+			probationSegment.clear();
+			protectedSegment.clear();
+			probationWeight = 0;
+			protectedWeight = 0;
+		}
+	}
 
 	public void clear(boolean destroyItems, Object... excluded) {
 		Set<Object> toBeExcluded = (excluded != null) && (excluded.length > 0) ?
@@ -483,6 +897,8 @@ public class Cache {
 		if ((excluded == null) || !excluded.contains(cache)) {
 			if (cache instanceof ObjectAndPathForResources) {
 				return ((ObjectAndPathForResources<?,?>)cache).clearInBackground(destroyItems);
+			} else if (cache instanceof ObjectAndMemberKeyForResources) {
+				return ((ObjectAndMemberKeyForResources<?,?>)cache).clearInBackground(destroyItems);
 			}  else if (cache instanceof PathForResources) {
 				return ((PathForResources<?>)cache).clearInBackground(destroyItems);
 			}
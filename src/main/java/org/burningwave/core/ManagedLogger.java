@@ -109,6 +109,11 @@ public interface ManagedLogger {
 
 				public static final String TYPE = "managed-logger.repository";
 				public static final String ENABLED_FLAG = "managed-logger.repository.enabled";
+				public static final String ASYNC_DELEGATE_TYPE = "managed-logger.repository.async.delegate";
+				public static final String ASYNC_BUFFER_SIZE = "managed-logger.repository.async.buffer-size";
+				public static final String ASYNC_BATCH_SIZE = "managed-logger.repository.async.batch-size";
+				public static final String ASYNC_OVERFLOW_POLICY = "managed-logger.repository.async.overflow-policy";
+				public static final String ASYNC_SNAPSHOT_ENABLED = "managed-logger.repository.async.snapshot.enabled";
 
 				private static final String LOGGING_LEVEL_FLAG_PREFIX = "managed-logger.repository.logging";
 				private static final String LOGGING_LEVEL_DISABLED_FLAG_SUFFIX = "disabled-for";
@@ -128,6 +133,11 @@ public interface ManagedLogger {
 
 				defaultValues.put(Key.TYPE, "autodetect");
 				defaultValues.put(Key.ENABLED_FLAG, String.valueOf(true));
+				defaultValues.put(Key.ASYNC_DELEGATE_TYPE, "autodetect");
+				defaultValues.put(Key.ASYNC_BUFFER_SIZE, "8192");
+				defaultValues.put(Key.ASYNC_BATCH_SIZE, "256");
+				defaultValues.put(Key.ASYNC_OVERFLOW_POLICY, "block");
+				defaultValues.put(Key.ASYNC_SNAPSHOT_ENABLED, String.valueOf(false));
 
 				String defaultValuesSeparator = (String)org.burningwave.core.iterable.IterableObjectHelper.Configuration.DEFAULT_VALUES.get(
 					org.burningwave.core.iterable.IterableObjectHelper.Configuration.Key.DEFAULT_VALUES_SEPERATOR
@@ -147,13 +157,24 @@ public interface ManagedLogger {
 		public static ManagedLogger.Repository create(
 			Map<?, ?> config
 		) {
-			try {
-				String className = IterableObjectHelper.resolveStringValue(
+			return create(
+				IterableObjectHelper.resolveStringValue(
 					ResolveConfig.forNamedKey(org.burningwave.core.ManagedLogger.Repository.Configuration.Key.TYPE)
 					.on(config)
 					.withDefaultValues(ManagedLogger.Repository.Configuration.DEFAULT_VALUES)
-				);
-				if ("autodetect".equalsIgnoreCase(className = className.trim())) {
+				),
+				config
+			);
+		}
+
+		public static ManagedLogger.Repository create(
+			String className,
+			Map<?, ?> config
+		) {
+			try {
+				if ("async".equalsIgnoreCase(className = className.trim())) {
+					return new org.burningwave.core.AsyncManagedLoggerRepository(config);
+				} else if ("autodetect".equalsIgnoreCase(className)) {
 					try {
 						Driver.getClassByName("org.slf4j.Logger", false,
 							ManagedLogger.Repository.class.getClassLoader(),
@@ -225,10 +246,12 @@ public interface ManagedLogger {
 
 		public static abstract class Abst implements Repository, org.burningwave.core.iterable.Properties.Listener  {
 			boolean isEnabled;
+			boolean callerDetailsEnabled;
 			String instanceId;
 			Map<?, ?> config;
 			Abst(Map<?, ?> config) {
 				this.config = config;
+				callerDetailsEnabled = true;
 				instanceId = this.toString();
 				initSpecificElements(config);
 				if (getEnabledLoggingFlag(config)) {
@@ -302,6 +325,10 @@ public interface ManagedLogger {
 				return isEnabled;
 			}
 
+			boolean isLoggingLevelEnabledFor(String clientName, LoggingLevel level) {
+				return isEnabled();
+			}
+
 			@Override
 			public void disableLogging() {
 				isEnabled = false;
@@ -312,7 +339,19 @@ public interface ManagedLogger {
 				isEnabled = true;
 			}
 
+			StackTraceElement getCallerStackTraceElement() {
+				if (!callerDetailsEnabled) {
+					return null;
+				}
+				StackTraceElement[] stackTraceElements = Thread.currentThread().getStackTrace();
+				return stackTraceElements[4].getClassName().equals(ManagedLogger.class.getName()) ?
+					stackTraceElements[5] : stackTraceElements[4];
+			}
+
 			String addDetailsToMessage(String message, StackTraceElement stackTraceElement) {
+				if (stackTraceElement == null) {
+					return message;
+				}
 				return "(" + stackTraceElement.getFileName() + ":" + stackTraceElement.getLineNumber() + ") - " + message;
 			}
 
@@ -106,9 +106,7 @@ public class SLF4JManagedLoggerRepository extends ManagedLogger.Repository.Abst
 		if (!isEnabled) {
 			return;
 		}
-		StackTraceElement[] stackTraceElements = Thread.currentThread().getStackTrace();
-		StackTraceElement stackTraceElement = stackTraceElements[3].getClassName().equals(ManagedLogger.class.getName()) ?
-			stackTraceElements[4] : stackTraceElements[3];
+		StackTraceElement stackTraceElement = getCallerStackTraceElement();
 		String clientName = clientNameSupplier.get();
 		Optional.ofNullable(getLogger(clientName, loggingLevel)).ifPresent(logger -> loggerConsumer.accept(logger, stackTraceElement));
 	}
@@ -118,6 +116,26 @@ public class SLF4JManagedLoggerRepository extends ManagedLogger.Repository.Abst
 		return loggerEntry.getValue().partialyMatch(loggingLevel)? loggerEntry.getKey() : null;
 	}
 
+	@Override
+	boolean isLoggingLevelEnabledFor(String clientName, LoggingLevel loggingLevel) {
+		if (!isEnabled) {
+			return false;
+		}
+		org.slf4j.Logger logger = getLogger(clientName, loggingLevel);
+		if (logger == null) {
+			return false;
+		} else if (loggingLevel == LoggingLevel.ERROR) {
+			return logger.isErrorEnabled();
+		} else if (loggingLevel == LoggingLevel.WARN) {
+			return logger.isWarnEnabled();
+		} else if (loggingLevel == LoggingLevel.INFO) {
+			return logger.isInfoEnabled();
+		} else if (loggingLevel == LoggingLevel.DEBUG) {
+			return logger.isDebugEnabled();
+		}
+		return logger.isTraceEnabled();
+	}
+
 	@Override
 	public boolean isEnabled() {
 		return isEnabled;
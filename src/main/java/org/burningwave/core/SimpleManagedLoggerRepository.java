@@ -109,13 +109,16 @@ public class SimpleManagedLoggerRepository extends Repository.Abst {
 		loggers.put(client, new LoggingLevel.Mutable(level.flags));
 	}
 
+	@Override
+	boolean isLoggingLevelEnabledFor(String clientName, LoggingLevel level) {
+		return isEnabled && getLoggerEnabledFlag(clientName).partialyMatch(level);
+	}
+
 	private void log(Supplier<String> clientNameSupplier, LoggingLevel level, PrintStream printStream, String text, Throwable exception) {
 		if (!isEnabled) {
 			return;
 		}
-		StackTraceElement[] stackTraceElements = Thread.currentThread().getStackTrace();
-		StackTraceElement stackTraceElement = stackTraceElements[3].getClassName().equals(ManagedLogger.class.getName()) ?
-			stackTraceElements[4] : stackTraceElements[3];
+		StackTraceElement stackTraceElement = getCallerStackTraceElement();
 		String clientName = clientNameSupplier.get();
 		if (getLoggerEnabledFlag(clientName).partialyMatch(level)) {
 			if (exception == null) {
@@ -66,11 +66,14 @@ public class StaticComponentContainer {
 			private static final String BANNER_HIDE = "banner.hide";
 			private static final String BANNER_FILE = "banner.file";
 			private static final String BACKGROUND_EXECUTOR_TASK_CREATION_TRACKING_ENABLED = "background-executor.task-creation-tracking.enabled";
+			private static final String BACKGROUND_EXECUTOR_TASK_CREATION_TRACKING_SAMPLING_RATE = "background-executor.task-creation-tracking.sampling-rate";
 			private static final String BACKGROUND_EXECUTOR_ALL_TASKS_MONITORING_ENABLED = "background-executor.all-tasks-monitoring.enabled";
 			private static final String BACKGROUND_EXECUTOR_ALL_TASKS_MONITORING_MINIMUM_ELAPSED_TIME_TO_CONSIDER_A_TASK_AS_PROBABLE_DEAD_LOCKED = "background-executor.all-tasks-monitoring.minimum-elapsed-time-to-consider-a-task-as-probable-dead-locked";
 			private static final String BACKGROUND_EXECUTOR_ALL_TASKS_MONITORING_LOGGER_ENABLED = "background-executor.all-tasks-monitoring.logger.enabled";
 			private static final String BACKGROUND_EXECUTOR_ALL_TASKS_MONITORING_INTERVAL = "background-executor.all-tasks-monitoring.interval";
 			private static final String BACKGROUND_EXECUTOR_ALL_TASKS_MONITORING_PROBABLE_DEAD_LOCKED_TASKS_HANDLING_POLICY = "background-executor.all-tasks-monitoring.probable-dead-locked-tasks-handling.policy";
+			private static final String BACKGROUND_EXECUTOR_TASKS_QUEUE_MAX_SIZE = "background-executor.tasks-queue.max-size";
+			private static final String BACKGROUND_EXECUTOR_TASKS_QUEUE_FULL_POLICY = "background-executor.tasks-queue.full-policy";
 			private static final String JVM_DRIVER_TYPE = "jvm.driver.type";
 			private static final String JVM_DRIVER_INIT = "jvm.driver.init";
 			private static final String MODULES_EXPORT_ALL_TO_ALL = "modules.export-all-to-all";
@@ -129,11 +132,26 @@ public class StaticComponentContainer {
 					"log only"
 				);
 
+				defaultValues.put(
+					Key.BACKGROUND_EXECUTOR_TASKS_QUEUE_MAX_SIZE,
+					2000
+				);
+
+				defaultValues.put(
+					Key.BACKGROUND_EXECUTOR_TASKS_QUEUE_FULL_POLICY,
+					"block"
+				);
+
 				defaultValues.put(
 					Key.BACKGROUND_EXECUTOR_TASK_CREATION_TRACKING_ENABLED,
 					"${" + Key.BACKGROUND_EXECUTOR_ALL_TASKS_MONITORING_ENABLED +"}"
 				);
 
+				defaultValues.put(
+					Key.BACKGROUND_EXECUTOR_TASK_CREATION_TRACKING_SAMPLING_RATE,
+					1
+				);
+
 				defaultValues.put(
 					Key.BACKGROUND_EXECUTOR_ALL_TASKS_MONITORING_LOGGER_ENABLED,
 					false
@@ -232,6 +250,7 @@ public class StaticComponentContainer {
 			Resources = new org.burningwave.core.io.Resources();
 			Properties properties = new Properties();
 			properties.putAll(org.burningwave.core.jvm.BufferHandler.Configuration.DEFAULT_VALUES);
+			properties.putAll(org.burningwave.core.Cache.Configuration.DEFAULT_VALUES);
 			properties.putAll(org.burningwave.core.iterable.IterableObjectHelper.Configuration.DEFAULT_VALUES);
 			properties.putAll(org.burningwave.core.ManagedLogger.Repository.Configuration.DEFAULT_VALUES);
 			properties.putAll(org.burningwave.core.concurrent.Thread.Supplier.Configuration.DEFAULT_VALUES);
@@ -288,6 +307,14 @@ public class StaticComponentContainer {
 										)
 									)
 								);
+							} else if (keyAsString.equals(Configuration.Key.BACKGROUND_EXECUTOR_TASK_CREATION_TRACKING_SAMPLING_RATE)) {
+								BackgroundExecutor.setTasksCreationTrackingSamplingRate(
+									Objects.toInt(
+										config.resolveValue(
+											Configuration.Key.BACKGROUND_EXECUTOR_TASK_CREATION_TRACKING_SAMPLING_RATE
+										)
+									)
+								);
 							} else if (keyAsString.equals(Configuration.Key.SYNCHRONIZER_ALL_THREADS_MONITORING_ENABLED)) {
 								if (Objects.toBoolean(config.resolveValue(Configuration.Key.SYNCHRONIZER_ALL_THREADS_MONITORING_ENABLED))) {
 									Synchronizer.startAllThreadsMonitoring(
@@ -345,6 +372,9 @@ public class StaticComponentContainer {
 			if (Objects.toBoolean(IterableObjectHelper.resolveValue(onGlobalPropertiesforNamedKey(Configuration.Key.BACKGROUND_EXECUTOR_TASK_CREATION_TRACKING_ENABLED)))) {
 				BackgroundExecutor.setTasksCreationTrackingFlag(true);
 			}
+			BackgroundExecutor.setTasksCreationTrackingSamplingRate(
+				Objects.toInt(IterableObjectHelper.resolveValue(onGlobalPropertiesforNamedKey(Configuration.Key.BACKGROUND_EXECUTOR_TASK_CREATION_TRACKING_SAMPLING_RATE)))
+			);
 
 			if (!Objects.toBoolean(IterableObjectHelper.resolveValue(onGlobalPropertiesforNamedKey(Configuration.Key.BANNER_HIDE)))) {
 				showBanner();
@@ -363,7 +393,7 @@ public class StaticComponentContainer {
 			BufferHandler = org.burningwave.core.jvm.BufferHandler.create(GlobalProperties);
 			Streams = org.burningwave.core.io.Streams.create();
 			Classes = org.burningwave.core.classes.Classes.create();
-			Cache = org.burningwave.core.Cache.create();
+			Cache = org.burningwave.core.Cache.create(GlobalProperties);
 			Members = org.burningwave.core.classes.Members.create();
 			Fields = org.burningwave.core.classes.Fields.create();
 			Constructors = org.burningwave.core.classes.Constructors.create();
@@ -35,10 +35,12 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.burningwave.core.assembler.ComponentSupplier;
+import org.burningwave.core.concurrent.QueuedTaskExecutor;
 import org.burningwave.core.io.PathHelper;
 
 public interface ByteCodeHunter extends ClassPathScanner<JavaClass, ByteCodeHunter.SearchResult> {
@@ -91,6 +93,8 @@ public interface ByteCodeHunter extends ClassPathScanner<JavaClass, ByteCodeHunt
 		);
 	}
 
+	public QueuedTaskExecutor.Task findBy(SearchConfig searchConfig, Consumer<JavaClass> javaClassConsumer);
+
 	public static class SearchResult extends org.burningwave.core.classes.SearchResult<JavaClass> {
 
 		SearchResult(SearchContext<JavaClass> context) {
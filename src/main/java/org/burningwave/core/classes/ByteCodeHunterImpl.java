@@ -29,8 +29,10 @@
 package org.burningwave.core.classes;
 
 import java.util.Map;
+import java.util.function.Consumer;
 
 import org.burningwave.core.classes.ClassCriteria.TestContext;
+import org.burningwave.core.concurrent.QueuedTaskExecutor;
 import org.burningwave.core.io.FileSystemItem;
 import org.burningwave.core.io.PathHelper;
 
@@ -66,11 +68,20 @@ public class ByteCodeHunterImpl extends ClassPathScanner.Abst<JavaClass, SearchC
 		return ByteCodeHunter.Configuration.Key.PATH_SCANNER_CLASS_LOADER_SEARCH_CONFIG_CHECK_FILE_OPTIONS;
 	}
 
+	@Override
+	public QueuedTaskExecutor.Task findBy(SearchConfig searchConfig, Consumer<JavaClass> javaClassConsumer) {
+		return findAndConsumeBy(searchConfig, context -> context.setItemFoundConsumer(javaClassConsumer));
+	}
+
 	@Override
 	ClassCriteria.TestContext testClassCriteria(SearchContext<JavaClass> context, JavaClass javaClass) {
-		return context.getSearchConfig().getClassCriteria().hasNoPredicate() ?
-			context.getSearchConfig().getClassCriteria().testWithTrueResultForNullEntityOrTrueResultForNullPredicate(null) :
-			super.testClassCriteria(context, javaClass);
+		ClassCriteria classCriteria = context.getSearchConfig().getClassCriteria();
+		if (classCriteria.hasNoPredicate()) {
+			return classCriteria.testPreFilter(javaClass) ?
+				classCriteria.testWithTrueResultForNullEntityOrTrueResultForNullPredicate(null) :
+				classCriteria.testWithFalseResultForNullEntityOrFalseResultForNullPredicate(null);
+		}
+		return super.testClassCriteria(context, javaClass);
 	}
 
 
@@ -43,6 +43,7 @@ import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
+import java.util.function.IntPredicate;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -53,6 +54,7 @@ import org.burningwave.core.function.PentaPredicate;
 public class ClassCriteria extends CriteriaWithClassElementsSupplyingSupport<Class<?>, ClassCriteria, ClassCriteria.TestContext> {
 	Map<String, MemberCriteria<?, ?, ?>> memberCriterias;
 	PentaPredicate<ClassCriteria, TestContext, MemberCriteria<?, ?, ?>, String, Class<?>> membersPredicate;
+	Predicate<JavaClass> preFilter;
 	private boolean collectMembers;
 
 	private ClassCriteria() {
@@ -140,6 +142,79 @@ public class ClassCriteria extends CriteriaWithClassElementsSupplyingSupport<Cla
 		return new ClassCriteria();
 	}
 
+	@Override
+	public ClassCriteria and(ClassCriteria criteria) {
+		ClassCriteria newCriteria = super.and(criteria);
+		newCriteria.preFilter =
+			this.preFilter != null ?
+				(criteria.preFilter != null ?
+					this.preFilter.and(criteria.preFilter) :
+					this.preFilter) :
+				criteria.preFilter;
+		return newCriteria;
+	}
+
+	@Override
+	public ClassCriteria or(ClassCriteria criteria) {
+		ClassCriteria newCriteria = super.or(criteria);
+		//A side without pre-filter accepts every class file, so the union is pre-filtered only
+		//when both sides are
+		newCriteria.preFilter =
+			this.preFilter != null && criteria.preFilter != null ?
+				this.preFilter.or(criteria.preFilter) :
+				null;
+		return newCriteria;
+	}
+
+	//The pre-filters are tested by the hunters against the class file before the class is loaded: only
+	//the classes that pass them are loaded and tested with the other predicates. The pre-filters follow the
+	//combination of the criteria (AND for the ones declared on the same criteria or joined with 'and', OR for
+	//the ones joined with 'or') and are not evaluated when filtering an already built SearchResult
+	public ClassCriteria preFilter(Predicate<JavaClass> predicate) {
+		this.preFilter = this.preFilter != null ?
+			this.preFilter.and(predicate) :
+			predicate;
+		return this;
+	}
+
+	public ClassCriteria preFilterByPackageName(Predicate<String> predicate) {
+		return preFilter(javaClass -> predicate.test(javaClass.getPackageName()));
+	}
+
+	public ClassCriteria preFilterBySuperClassName(Predicate<String> predicate) {
+		return preFilter(javaClass -> predicate.test(javaClass.getSuperClassName()));
+	}
+
+	public ClassCriteria preFilterByInterfaceName(Predicate<String> predicate) {
+		return preFilter(javaClass -> {
+			for (String interfaceName : javaClass.getInterfaceNames()) {
+				if (predicate.test(interfaceName)) {
+					return true;
+				}
+			}
+			return false;
+		});
+	}
+
+	public ClassCriteria preFilterByAnnotationName(Predicate<String> predicate) {
+		return preFilter(javaClass -> {
+			for (String annotationName : javaClass.getDeclaredAnnotationNames0()) {
+				if (predicate.test(annotationName)) {
+					return true;
+				}
+			}
+			return false;
+		});
+	}
+
+	public ClassCriteria preFilterByModifiers(IntPredicate predicate) {
+		return preFilter(javaClass -> predicate.test(javaClass.getModifiers()));
+	}
+
+	boolean testPreFilter(JavaClass javaClass) {
+		return preFilter == null || preFilter.test(javaClass);
+	}
+
 	@Override
 	protected ClassCriteria logicOperation(
 		ClassCriteria leftCriteria, ClassCriteria rightCriteria,
@@ -256,6 +331,7 @@ public class ClassCriteria extends CriteriaWithClassElementsSupplyingSupport<Cla
 			)
 		);
 		copy.collectMembers = this.collectMembers;
+		copy.preFilter = this.preFilter;
 		return copy;
 	}
 
@@ -297,6 +373,7 @@ public class ClassCriteria extends CriteriaWithClassElementsSupplyingSupport<Cla
 		this.memberCriterias.clear();
 		this.memberCriterias = null;
 		this.membersPredicate = null;
+		this.preFilter = null;
 		super.close();
 	}
 }
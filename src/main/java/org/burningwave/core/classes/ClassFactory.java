@@ -40,6 +40,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
@@ -127,6 +128,8 @@ public interface ClassFactory {
 
 	public <L extends LoadOrBuildAndDefineConfigAbst<L>> ClassRetriever loadOrBuildAndDefine(L config);
 
+	public <L extends LoadOrBuildAndDefineConfigAbst<L>> List<ClassRetriever> loadOrBuildAndDefineInBatch(Collection<L> configs);
+
 	public void closeClassRetrievers();
 
 	public void reset(boolean closeClassRetrievers);
@@ -144,6 +147,7 @@ public interface ClassFactory {
 		Collection<String> classesSearchedInCompilationDependenciesPaths;
 		Collection<String> additionalClassRepositoriesForClassLoader;
 		ProducerTask<Compilation.Result> compilationTask;
+		ClassFactoryImpl.CompilationBatch compilationBatch;
 		boolean useOneShotJavaCompiler;
 		ClassPathHelper classPathHelper;
 		JavaMemoryCompiler compiler;
@@ -271,7 +275,11 @@ public interface ClassFactory {
 		private ProducerTask<Compilation.Result> getCompilationTask() {
 			if (this.compilationTask == null) {
 				synchronized (compilationConfigSupplier) {
-					if (this.compilationTask == null) {
+					if (this.compilationTask == null && compilationBatch != null) {
+						classPathHelper = ((ClassFactoryImpl)this.classFactory).classPathHelper;
+						compiler = ((ClassFactoryImpl)this.classFactory).javaMemoryCompiler;
+						this.compilationTask = compilationBatch.getCompilationTask();
+					} else if (this.compilationTask == null) {
 						classPathHelper = !useOneShotJavaCompiler ? ((ClassFactoryImpl)this.classFactory).classPathHelper : ClassPathHelper.create(
 							((ClassFactoryImpl)this.classFactory).getClassPathHunter(),
 							((ClassFactoryImpl)this.classFactory).config
@@ -299,7 +307,7 @@ public interface ClassFactory {
 			return compilationResult;
 		}
 
-		private Compilation.Config getCompilationConfig() {
+		Compilation.Config getCompilationConfig() {
 			if (compilationConfig == null) {
 				synchronized (compilationConfigSupplier) {
 					if (compilationConfig == null) {
@@ -370,7 +378,9 @@ public interface ClassFactory {
 				if (classLoader instanceof MemoryClassLoader) {
 					((MemoryClassLoader)classLoader).unregister(this, true);
 				}
-				if (compilationTask != null && compilationTask.abortOrWaitForFinish().isStarted()) {
+				if (compilationBatch != null) {
+					compilationBatch.release();
+				} else if (compilationTask != null && compilationTask.abortOrWaitForFinish().isStarted()) {
 					Compilation.Result compilationResult = compilationTask.join();
 					if (compilationResult != null) {
 						compilationResult.close();
@@ -379,6 +389,7 @@ public interface ClassFactory {
 				compilationConfigSupplier = null;
 				compilationConfig = null;
 				compilationTask = null;
+				compilationBatch = null;
 				if (useOneShotJavaCompiler) {
 					((Closeable)compiler).close();
 					((Closeable)classPathHelper).close();
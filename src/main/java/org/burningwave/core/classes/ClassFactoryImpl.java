@@ -33,8 +33,12 @@ import static org.burningwave.core.assembler.StaticComponentContainer.Background
 import static org.burningwave.core.assembler.StaticComponentContainer.IterableObjectHelper;
 import static org.burningwave.core.assembler.StaticComponentContainer.Synchronizer;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CopyOnWriteArrayList;
@@ -43,6 +47,7 @@ import java.util.function.Supplier;
 
 import org.burningwave.core.Component;
 import org.burningwave.core.classes.JavaMemoryCompiler.Compilation;
+import org.burningwave.core.concurrent.QueuedTaskExecutor.ProducerTask;
 import org.burningwave.core.io.PathHelper;
 import org.burningwave.core.iterable.Properties;
 import org.burningwave.core.iterable.Properties.Event;
@@ -137,6 +142,30 @@ public class ClassFactoryImpl implements ClassFactory, Component {
 		);
 	}
 
+	@Override
+	public <L extends LoadOrBuildAndDefineConfigAbst<L>> List<ClassRetriever> loadOrBuildAndDefineInBatch(Collection<L> configs) {
+		List<ClassRetriever> classRetrievers = new ArrayList<>();
+		Collection<CompilationBatch> compilationBatches = new ArrayList<>();
+		for (L config : configs) {
+			ClassRetriever classRetriever = loadOrBuildAndDefine(config);
+			classRetrievers.add(classRetriever);
+			if (!config.isUseOneShotJavaCompilerEnabled()) {
+				CompilationBatch compilationBatch = compilationBatches.stream().filter(batch ->
+					batch.accepts(classRetriever)
+				).findFirst().orElseGet(() -> {
+					CompilationBatch newCompilationBatch = new CompilationBatch(javaMemoryCompiler);
+					compilationBatches.add(newCompilationBatch);
+					return newCompilationBatch;
+				});
+				compilationBatch.add(classRetriever);
+			}
+		}
+		for (CompilationBatch compilationBatch : compilationBatches) {
+			compilationBatch.bind();
+		}
+		return classRetrievers;
+	}
+
 	private ClassRetriever loadOrBuildAndDefine(
 		Collection<String> classNames,
 		Supplier<Compilation.Config> compileConfigSupplier,
@@ -169,6 +198,74 @@ public class ClassFactoryImpl implements ClassFactory, Component {
 		}
 	}
 
+	static class CompilationBatch {
+		private JavaMemoryCompiler javaMemoryCompiler;
+		private Collection<ClassRetriever> classRetrievers;
+		private Collection<String> classNames;
+		private Collection<Compilation.Config> compilationConfigs;
+		private ProducerTask<Compilation.Result> compilationTask;
+		private int unreleasedCount;
+
+		private CompilationBatch(JavaMemoryCompiler javaMemoryCompiler) {
+			this.javaMemoryCompiler = javaMemoryCompiler;
+			this.classRetrievers = new ArrayList<>();
+			this.classNames = new HashSet<>();
+		}
+
+		private boolean accepts(ClassRetriever classRetriever) {
+			if (classRetrievers.isEmpty()) {
+				return true;
+			}
+			ClassRetriever firstClassRetriever = classRetrievers.iterator().next();
+			return firstClassRetriever.classLoader == classRetriever.classLoader &&
+				Collections.disjoint(classNames, classRetriever.uSGClassNames) &&
+				firstClassRetriever.getCompilationConfig().hasSameSettingsOf(classRetriever.getCompilationConfig());
+		}
+
+		private void add(ClassRetriever classRetriever) {
+			classRetrievers.add(classRetriever);
+			classNames.addAll(classRetriever.uSGClassNames);
+		}
+
+		private void bind() {
+			if (classRetrievers.size() < 2) {
+				return;
+			}
+			compilationConfigs = new ArrayList<>();
+			for (ClassRetriever classRetriever : classRetrievers) {
+				compilationConfigs.add(classRetriever.getCompilationConfig());
+				classRetriever.compilationBatch = this;
+			}
+			unreleasedCount = classRetrievers.size();
+			classRetrievers = null;
+			classNames = null;
+		}
+
+		synchronized ProducerTask<Compilation.Result> getCompilationTask() {
+			if (compilationTask == null) {
+				compilationTask = javaMemoryCompiler.compile(Compilation.Config.merge(compilationConfigs));
+				compilationConfigs = null;
+				javaMemoryCompiler = null;
+			}
+			return compilationTask;
+		}
+
+		synchronized void release() {
+			if (--unreleasedCount > 0) {
+				return;
+			}
+			if (compilationTask != null && compilationTask.abortOrWaitForFinish().isStarted()) {
+				Compilation.Result compilationResult = compilationTask.join();
+				if (compilationResult != null) {
+					compilationResult.close();
+				}
+			}
+			compilationTask = null;
+			compilationConfigs = null;
+			javaMemoryCompiler = null;
+		}
+	}
+
 	boolean register(ClassRetriever classRetriever) {
 		classRetrievers.add(classRetriever);
 		return true;
@@ -36,11 +36,13 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.burningwave.core.Criteria;
 import org.burningwave.core.assembler.ComponentSupplier;
+import org.burningwave.core.concurrent.QueuedTaskExecutor;
 import org.burningwave.core.io.PathHelper;
 
 
@@ -92,6 +94,8 @@ public interface ClassHunter extends ClassPathScanner<Class<?>, ClassHunter.Sear
 		);
 	}
 
+	public QueuedTaskExecutor.Task findBy(SearchConfig searchConfig, Consumer<Class<?>> classConsumer);
+
 	public static class SearchResult extends org.burningwave.core.classes.SearchResult<Class<?>> {
 		SearchResult(ClassHunterImpl.SearchContext context) {
 			super(context);
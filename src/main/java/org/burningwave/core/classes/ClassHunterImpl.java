@@ -34,8 +34,10 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 
 import org.burningwave.core.classes.ClassCriteria.TestContext;
+import org.burningwave.core.concurrent.QueuedTaskExecutor;
 import org.burningwave.core.io.FileSystemItem;
 import org.burningwave.core.io.PathHelper;
 
@@ -72,6 +74,11 @@ class ClassHunterImpl extends ClassPathScanner.Abst<Class<?>, ClassHunterImpl.Se
 		return ClassHunter.Configuration.Key.PATH_SCANNER_CLASS_LOADER_SEARCH_CONFIG_CHECK_FILE_OPTIONS;
 	}
 
+	@Override
+	public QueuedTaskExecutor.Task findBy(SearchConfig searchConfig, Consumer<Class<?>> classConsumer) {
+		return findAndConsumeBy(searchConfig, context -> context.setItemFoundConsumer(classConsumer));
+	}
+
 	@Override
 	void addToContext(ClassHunterImpl.SearchContext context, TestContext criteriaTestContext,
 		String basePath, FileSystemItem fileSystemItem, JavaClass javaClass
@@ -36,10 +36,12 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.burningwave.core.assembler.ComponentSupplier;
+import org.burningwave.core.concurrent.QueuedTaskExecutor;
 import org.burningwave.core.io.FileSystemItem;
 import org.burningwave.core.io.PathHelper;
 
@@ -93,6 +95,8 @@ public interface ClassPathHunter extends ClassPathScanner<Collection<Class<?>>,
 		);
 	}
 
+	public QueuedTaskExecutor.Task findBy(SearchConfig searchConfig, Consumer<FileSystemItem> classPathConsumer);
+
 	public static class SearchResult extends org.burningwave.core.classes.SearchResult<Collection<Class<?>>> {
 		Collection<FileSystemItem> classPaths;
 
@@ -31,8 +31,10 @@ package org.burningwave.core.classes;
 import java.util.Collection;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
 import org.burningwave.core.classes.ClassCriteria.TestContext;
+import org.burningwave.core.concurrent.QueuedTaskExecutor;
 import org.burningwave.core.io.FileSystemItem;
 import org.burningwave.core.io.PathHelper;
 
@@ -69,12 +71,21 @@ class ClassPathHunterImpl extends ClassPathScanner.Abst<Collection<Class<?>>, Cl
 	}
 
 
+	@Override
+	public QueuedTaskExecutor.Task findBy(SearchConfig searchConfig, Consumer<FileSystemItem> classPathConsumer) {
+		return findAndConsumeBy(searchConfig, context -> context.setClassPathFoundConsumer(classPathConsumer));
+	}
+
 	@Override
 	void addToContext(ClassPathHunterImpl.SearchContext context, TestContext criteriaTestContext,
 		String basePath, FileSystemItem fileSystemItem, JavaClass javaClass
 	) {
 		String classPath = fileSystemItem.getAbsolutePath();
 		FileSystemItem classPathAsFIS = FileSystemItem.ofPath(classPath.substring(0, classPath.lastIndexOf(javaClass.getPath())));
+		if (context.classPathFoundConsumer != null) {
+			context.addClassPathFound(classPathAsFIS);
+			return;
+		}
 		context.addItemFound(basePath, classPathAsFIS.getAbsolutePath(), context.loadClass(javaClass.getName()));
 	}
 
@@ -86,6 +97,7 @@ class ClassPathHunterImpl extends ClassPathScanner.Abst<Collection<Class<?>>, Cl
 	}
 
 	static class SearchContext extends org.burningwave.core.classes.SearchContext<Collection<Class<?>>> {
+		Consumer<FileSystemItem> classPathFoundConsumer;
 
 		SearchContext(InitContext initContext) {
 			super(initContext);
@@ -104,15 +116,34 @@ class ClassPathHunterImpl extends ClassPathScanner.Abst<Collection<Class<?>>, Cl
 			);
 			Collection<Class<?>> testedClassesForClassPath = testedClassesForClassPathMap.get(classPathAsFile);
 			if (testedClassesForClassPath == null) {
-				synchronized (testedClassesForClassPathMap) {
-					testedClassesForClassPath = testedClassesForClassPathMap.get(classPathAsFile);
-					if (testedClassesForClassPath == null) {
-						testedClassesForClassPathMap.put(classPathAsFile, testedClassesForClassPath = ConcurrentHashMap.newKeySet());
-					}
-				}
+				testedClassesForClassPath = testedClassesForClassPathMap.computeIfAbsent(classPathAsFile, key -> ConcurrentHashMap.newKeySet());
 			}
 			testedClassesForClassPath.add(testedClass);
-			itemsFoundFlatMap.putAll(testedClassesForClassPathMap);
+			if (itemsFoundFlatMap.get(classPathAsFile) != testedClassesForClassPath) {
+				itemsFoundFlatMap.put(classPathAsFile, testedClassesForClassPath);
+			}
+		}
+
+		@Override
+		Collection<Collection<Class<?>>> getItemsFound() {
+			return itemsFoundFlatMap.values();
+		}
+
+		void setClassPathFoundConsumer(Consumer<FileSystemItem> classPathFoundConsumer) {
+			this.itemsFoundKeys = ConcurrentHashMap.newKeySet();
+			this.classPathFoundConsumer = classPathFoundConsumer;
+		}
+
+		void addClassPathFound(FileSystemItem classPath) {
+			if (itemsFoundKeys.add(classPath.getAbsolutePath())) {
+				classPathFoundConsumer.accept(classPath);
+			}
+		}
+
+		@Override
+		public void close() {
+			classPathFoundConsumer = null;
+			super.close();
 		}
 	}
 
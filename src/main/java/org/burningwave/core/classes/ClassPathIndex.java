@@ -0,0 +1,484 @@
+/*
+ * This file is part of Burningwave Core.
+ *
+ * Author: Roberto Gentili
+ *
+ * Hosted at: https://github.com/burningwave/core
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2022 Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.burningwave.core.classes;
+
+import static org.burningwave.core.assembler.StaticComponentContainer.BackgroundExecutor;
+import static org.burningwave.core.assembler.StaticComponentContainer.FileSystemHelper;
+import static org.burningwave.core.assembler.StaticComponentContainer.ManagedLoggerRepository;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+import org.burningwave.core.Closeable;
+import org.burningwave.core.io.FileSystemItem;
+
+//Persistent index of the classes contained in the archives of the file system: each index file is bound to
+//the path, the size and the last modification time of the archive, so it is discarded as soon as the archive changes.
+//The index also stores the position of each class file inside the archive, so that the byte code is read only when
+//the class is defined
+class ClassPathIndex implements Closeable {
+	private final static String FOLDER_NAME = "class-path-index";
+	private final static String FORMAT_VERSION = "2";
+	private final static String FIELD_SEPARATOR = "\t";
+	private final static String VALUES_SEPARATOR = ",";
+	private final static int END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06054b50;
+	private final static int END_OF_CENTRAL_DIRECTORY_MAX_LENGTH = 22 + 0xFFFF;
+	private final static int CENTRAL_DIRECTORY_ENTRY_SIGNATURE = 0x02014b50;
+	private final static int LOCAL_FILE_HEADER_SIGNATURE = 0x04034b50;
+	private final static int LOCAL_FILE_HEADER_LENGTH = 30;
+
+	private File folder;
+	private Map<String, Index> indexes;
+
+	private ClassPathIndex() {
+		this.indexes = new ConcurrentHashMap<>();
+	}
+
+	static ClassPathIndex create() {
+		return new ClassPathIndex();
+	}
+
+	boolean canIndex(FileSystemItem archive) {
+		return archive.isArchive() && !archive.isCompressed() && new File(archive.getAbsolutePath()).isFile();
+	}
+
+	Index get(FileSystemItem archive) {
+		if (!canIndex(archive)) {
+			return null;
+		}
+		String key = computeKey(archive);
+		Index index = indexes.get(key);
+		if (index == null) {
+			index = load(archive, key);
+			if (index != null) {
+				indexes.put(key, index);
+			}
+		}
+		return index;
+	}
+
+	//The classes scanned so far are merged with the already indexed ones and the class files of the archive that
+	//have not been scanned (the file filters of a search can exclude some of them) are read from the archive, so
+	//the rewritten index contains all the class files of the archive
+	void storeInBackground(FileSystemItem archive, Map<String, JavaClass> indexedJavaClasses, Map<String, JavaClass> javaClassesToBeIndexed) {
+		BackgroundExecutor.createTask(task -> {
+			Map<String, JavaClass> javaClasses = new HashMap<>();
+			if (indexedJavaClasses != null) {
+				javaClasses.putAll(indexedJavaClasses);
+			}
+			javaClasses.putAll(javaClassesToBeIndexed);
+			store(archive, javaClasses);
+		}, Thread.MIN_PRIORITY).submit();
+	}
+
+	void store(FileSystemItem archive, Map<String, JavaClass> javaClasses) {
+		String key = computeKey(archive);
+		String archiveAbsolutePath = archive.getAbsolutePath();
+		try {
+			Map<String, EntryLocation> entryLocations = readCentralDirectory(archiveAbsolutePath);
+			if (entryLocations == null) {
+				ManagedLoggerRepository.logWarn(getClass()::getName, "Could not index {}: the central directory could not be read", archiveAbsolutePath);
+				return;
+			}
+			Map<String, JavaClass> javaClassesToBeStored = new LinkedHashMap<>();
+			for (Map.Entry<String, JavaClass> pathAndJavaClass : javaClasses.entrySet()) {
+				if (pathAndJavaClass.getKey().startsWith(archiveAbsolutePath + "/")) {
+					javaClassesToBeStored.put(pathAndJavaClass.getKey().substring(archiveAbsolutePath.length() + 1), pathAndJavaClass.getValue());
+				}
+			}
+			//The index can replace the enumeration of the archive entries only if the archive does not contain
+			//other archives, whose entries are enumerated as children of the archive
+			boolean complete = true;
+			List<String> lines = new ArrayList<>();
+			lines.add(key);
+			lines.add(null);
+			for (Map.Entry<String, EntryLocation> entryNameAndLocation : entryLocations.entrySet()) {
+				String entryName = entryNameAndLocation.getKey();
+				if (isArchive(entryName)) {
+					complete = false;
+				} else if (isClassFile(entryName) && !javaClassesToBeStored.containsKey(entryName)) {
+					try (JavaClass javaClass = JavaClass.create(entryNameAndLocation.getValue().read(archiveAbsolutePath))) {
+						lines.add(toLine(entryName, javaClass, entryNameAndLocation.getValue()));
+					} catch (Throwable exc) {
+						ManagedLoggerRepository.logWarn(getClass()::getName, "Could not index class {}/{}: {}", archiveAbsolutePath, entryName, exc.toString());
+					}
+				}
+			}
+			lines.set(1, String.valueOf(complete));
+			for (Map.Entry<String, JavaClass> relativePathAndJavaClass : javaClassesToBeStored.entrySet()) {
+				try {
+					lines.add(toLine(relativePathAndJavaClass.getKey(), relativePathAndJavaClass.getValue(), entryLocations.get(relativePathAndJavaClass.getKey())));
+				} catch (Throwable exc) {
+					ManagedLoggerRepository.logWarn(getClass()::getName, "Could not index class {}/{}: {}", archiveAbsolutePath, relativePathAndJavaClass.getKey(), exc.toString());
+				}
+			}
+			File indexFile = getIndexFile(archive);
+			File tempIndexFile = new File(indexFile.getAbsolutePath() + "." + UUID.randomUUID().toString() + ".tmp");
+			Files.write(tempIndexFile.toPath(), lines, StandardCharsets.UTF_8);
+			if (!tempIndexFile.renameTo(indexFile)) {
+				indexFile.delete();
+				if (!tempIndexFile.renameTo(indexFile)) {
+					tempIndexFile.delete();
+				}
+			}
+			//The in memory copy is reloaded from the new index file at the next request
+			indexes.remove(key);
+		} catch (Throwable exc) {
+			ManagedLoggerRepository.logWarn(getClass()::getName, "Could not store index of {}: {}", archiveAbsolutePath, exc.toString());
+		}
+	}
+
+	private String toLine(String relativePath, JavaClass javaClass, EntryLocation entryLocation) {
+		return relativePath + FIELD_SEPARATOR +
+			javaClass.getModifiers() + FIELD_SEPARATOR +
+			javaClass.getName() + FIELD_SEPARATOR +
+			(javaClass.getSuperClassName() != null ? javaClass.getSuperClassName() : "") + FIELD_SEPARATOR +
+			String.join(VALUES_SEPARATOR, javaClass.getInterfaceNames()) + FIELD_SEPARATOR +
+			String.join(VALUES_SEPARATOR, javaClass.getDeclaredAnnotationNames()) + FIELD_SEPARATOR +
+			(entryLocation != null ?
+				entryLocation.offset + FIELD_SEPARATOR + entryLocation.method + FIELD_SEPARATOR +
+				entryLocation.compressedSize + FIELD_SEPARATOR + entryLocation.size :
+				"-1" + FIELD_SEPARATOR + "-1" + FIELD_SEPARATOR + "-1" + FIELD_SEPARATOR + "-1");
+	}
+
+	private boolean isClassFile(String entryName) {
+		return entryName.endsWith(".class") && !entryName.endsWith("module-info.class") &&
+			!entryName.endsWith("package-info.class");
+	}
+
+	private boolean isArchive(String entryName) {
+		return entryName.endsWith(".zip") || entryName.endsWith(".jar") || entryName.endsWith(".war") ||
+			entryName.endsWith(".ear") || entryName.endsWith(".jmod");
+	}
+
+	//Reads the position of the stored and deflated entries from the central directory of the archive: the positions
+	//are shifted by the length of the data that precedes the archive content (e.g. the header of the jmod files) and
+	//archives in ZIP64 format are not supported
+	private Map<String, EntryLocation> readCentralDirectory(String archiveAbsolutePath) throws IOException {
+		try (RandomAccessFile file = new RandomAccessFile(archiveAbsolutePath, "r")) {
+			long fileLength = file.length();
+			int tailLength = (int)Math.min(fileLength, END_OF_CENTRAL_DIRECTORY_MAX_LENGTH);
+			ByteBuffer tail = read(file, fileLength - tailLength, tailLength);
+			int endOfCentralDirectoryPosition = -1;
+			for (int i = tailLength - 22; i >= 0; i--) {
+				if (tail.getInt(i) == END_OF_CENTRAL_DIRECTORY_SIGNATURE) {
+					endOfCentralDirectoryPosition = i;
+					break;
+				}
+			}
+			if (endOfCentralDirectoryPosition < 0) {
+				return null;
+			}
+			int entriesCount = tail.getShort(endOfCentralDirectoryPosition + 10) & 0xFFFF;
+			long centralDirectorySize = tail.getInt(endOfCentralDirectoryPosition + 12) & 0xFFFFFFFFL;
+			long centralDirectoryOffset = tail.getInt(endOfCentralDirectoryPosition + 16) & 0xFFFFFFFFL;
+			if (entriesCount == 0xFFFF || centralDirectorySize == 0xFFFFFFFFL || centralDirectoryOffset == 0xFFFFFFFFL) {
+				return null;
+			}
+			long prefixLength = fileLength - tailLength + endOfCentralDirectoryPosition - centralDirectoryOffset - centralDirectorySize;
+			if (prefixLength < 0) {
+				return null;
+			}
+			ByteBuffer centralDirectory = read(file, prefixLength + centralDirectoryOffset, (int)centralDirectorySize);
+			Map<String, EntryLocation> entryLocations = new LinkedHashMap<>();
+			int position = 0;
+			for (int i = 0; i < entriesCount; i++) {
+				if (centralDirectory.getInt(position) != CENTRAL_DIRECTORY_ENTRY_SIGNATURE) {
+					return null;
+				}
+				int method = centralDirectory.getShort(position + 10) & 0xFFFF;
+				long compressedSize = centralDirectory.getInt(position + 20) & 0xFFFFFFFFL;
+				long size = centralDirectory.getInt(position + 24) & 0xFFFFFFFFL;
+				int nameLength = centralDirectory.getShort(position + 28) & 0xFFFF;
+				int extraFieldLength = centralDirectory.getShort(position + 30) & 0xFFFF;
+				int commentLength = centralDirectory.getShort(position + 32) & 0xFFFF;
+				long offset = centralDirectory.getInt(position + 42) & 0xFFFFFFFFL;
+				if ((method != 0 && method != 8) || compressedSize == 0xFFFFFFFFL || size == 0xFFFFFFFFL || offset == 0xFFFFFFFFL) {
+					return null;
+				}
+				entryLocations.put(
+					new String(centralDirectory.array(), position + 46, nameLength, StandardCharsets.UTF_8),
+					new EntryLocation(prefixLength + offset, method, compressedSize, size)
+				);
+				position += 46 + nameLength + extraFieldLength + commentLength;
+			}
+			return entryLocations;
+		}
+	}
+
+	private static ByteBuffer read(RandomAccessFile file, long position, int length) throws IOException {
+		byte[] content = new byte[length];
+		file.seek(position);
+		file.readFully(content);
+		return ByteBuffer.wrap(content).order(ByteOrder.LITTLE_ENDIAN);
+	}
+
+	private Index load(FileSystemItem archive, String key) {
+		File indexFile = getIndexFile(archive);
+		if (!indexFile.exists()) {
+			return null;
+		}
+		try {
+			List<String> lines = Files.readAllLines(indexFile.toPath(), StandardCharsets.UTF_8);
+			if (lines.size() < 2 || !lines.get(0).equals(key)) {
+				indexFile.delete();
+				return null;
+			}
+			String archiveAbsolutePath = archive.getAbsolutePath();
+			Index index = new Index(archiveAbsolutePath, Boolean.valueOf(lines.get(1)));
+			for (int i = 2; i < lines.size(); i++) {
+				String[] fields = lines.get(i).split(FIELD_SEPARATOR, -1);
+				String absolutePath = archiveAbsolutePath + "/" + fields[0];
+				long offset = Long.valueOf(fields[6]);
+				index.put(
+					absolutePath,
+					new IndexedJavaClass(
+						archiveAbsolutePath,
+						fields[0],
+						offset >= 0 ?
+							new EntryLocation(offset, Integer.valueOf(fields[7]), Long.valueOf(fields[8]), Long.valueOf(fields[9])) :
+							null,
+						toClassFileHeader(
+							Integer.valueOf(fields[1]), fields[2],
+							fields[3].isEmpty() ? null : fields[3],
+							split(fields[4])
+						),
+						split(fields[5])
+					)
+				);
+			}
+			return index;
+		} catch (Throwable exc) {
+			ManagedLoggerRepository.logWarn(getClass()::getName, "Could not load index of {}: {}", archive.getAbsolutePath(), exc.toString());
+			indexFile.delete();
+			return null;
+		}
+	}
+
+	//Builds a class file that contains only the constant pool, the access flags, the super class and the
+	//interfaces of the indexed class: it is parsed by JavaClass as the header of the original class file
+	private ByteBuffer toClassFileHeader(int modifiers, String name, String superClassName, String[] interfaceNames) throws IOException {
+		ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+		try (DataOutputStream output = new DataOutputStream(byteArrayOutputStream)) {
+			output.writeInt(0xCAFEBABE);
+			output.writeShort(0);
+			output.writeShort(52);
+			int classesCount = 1 + (superClassName != null ? 1 : 0) + interfaceNames.length;
+			output.writeShort(1 + (classesCount * 2));
+			int constantPoolIndex = 1;
+			int thisClassIndex = writeClassConstant(output, name, constantPoolIndex);
+			constantPoolIndex += 2;
+			int superClassIndex = 0;
+			if (superClassName != null) {
+				superClassIndex = writeClassConstant(output, superClassName, constantPoolIndex);
+				constantPoolIndex += 2;
+			}
+			int[] interfaceIndexes = new int[interfaceNames.length];
+			for (int i = 0; i < interfaceNames.length; i++) {
+				interfaceIndexes[i] = writeClassConstant(output, interfaceNames[i], constantPoolIndex);
+				constantPoolIndex += 2;
+			}
+			output.writeShort(modifiers);
+			output.writeShort(thisClassIndex);
+			output.writeShort(superClassIndex);
+			output.writeShort(interfaceIndexes.length);
+			for (int interfaceIndex : interfaceIndexes) {
+				output.writeShort(interfaceIndex);
+			}
+			//Fields, methods and attributes
+			output.writeShort(0);
+			output.writeShort(0);
+			output.writeShort(0);
+		}
+		return ByteBuffer.wrap(byteArrayOutputStream.toByteArray());
+	}
+
+	private int writeClassConstant(DataOutputStream output, String className, int constantPoolIndex) throws IOException {
+		output.writeByte(1);
+		output.writeUTF(className.replace('.', '/'));
+		output.writeByte(7);
+		output.writeShort(constantPoolIndex);
+		return constantPoolIndex + 1;
+	}
+
+	private String[] split(String values) {
+		return values.isEmpty() ? new String[0] : values.split(VALUES_SEPARATOR);
+	}
+
+	private String computeKey(FileSystemItem archive) {
+		File file = new File(archive.getAbsolutePath());
+		return FORMAT_VERSION + FIELD_SEPARATOR + archive.getAbsolutePath() + FIELD_SEPARATOR + file.length() + FIELD_SEPARATOR + file.lastModified();
+	}
+
+	private File getIndexFile(FileSystemItem archive) {
+		File folder = this.folder;
+		if (folder == null) {
+			this.folder = folder = FileSystemHelper.getOrCreatePersistentFolder(FOLDER_NAME);
+		}
+		return new File(
+			folder.getAbsolutePath() + "/" +
+			UUID.nameUUIDFromBytes(archive.getAbsolutePath().getBytes(StandardCharsets.UTF_8)).toString() + ".index"
+		);
+	}
+
+	@Override
+	public void close() {
+		indexes.clear();
+	}
+
+	static class Index extends ConcurrentHashMap<String, JavaClass> {
+		private static final long serialVersionUID = 4183950731276395436L;
+
+		private final String archiveAbsolutePath;
+		private final boolean complete;
+
+		private Index(String archiveAbsolutePath, boolean complete) {
+			this.archiveAbsolutePath = archiveAbsolutePath;
+			this.complete = complete;
+		}
+
+		//An index is complete when it contains all the class files of the archive and the archive does not
+		//contain other archives
+		boolean isComplete() {
+			return complete;
+		}
+
+		Collection<String> getEntryNames() {
+			Collection<String> entryNames = new ArrayList<>();
+			for (String absolutePath : keySet()) {
+				entryNames.add(absolutePath.substring(archiveAbsolutePath.length() + 1));
+			}
+			return entryNames;
+		}
+	}
+
+	private static class EntryLocation {
+		private final long offset;
+		private final int method;
+		private final long compressedSize;
+		private final long size;
+
+		private EntryLocation(long offset, int method, long compressedSize, long size) {
+			this.offset = offset;
+			this.method = method;
+			this.compressedSize = compressedSize;
+			this.size = size;
+		}
+
+		ByteBuffer read(String archiveAbsolutePath) throws IOException {
+			byte[] content;
+			try (RandomAccessFile file = new RandomAccessFile(archiveAbsolutePath, "r")) {
+				ByteBuffer localFileHeader = ClassPathIndex.read(file, offset, LOCAL_FILE_HEADER_LENGTH);
+				if (localFileHeader.getInt(0) != LOCAL_FILE_HEADER_SIGNATURE) {
+					throw new ZipException("Invalid local file header at position " + offset + " of " + archiveAbsolutePath);
+				}
+				content = new byte[(int)compressedSize];
+				file.seek(
+					offset + LOCAL_FILE_HEADER_LENGTH +
+					(localFileHeader.getShort(26) & 0xFFFF) + (localFileHeader.getShort(28) & 0xFFFF)
+				);
+				file.readFully(content);
+			}
+			if (method == 0) {
+				return ByteBuffer.wrap(content);
+			}
+			Inflater inflater = new Inflater(true);
+			try {
+				inflater.setInput(content);
+				byte[] inflatedContent = new byte[(int)size];
+				int inflatedLength = 0;
+				while (inflatedLength < inflatedContent.length && !inflater.finished()) {
+					int count = inflater.inflate(inflatedContent, inflatedLength, inflatedContent.length - inflatedLength);
+					if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+						break;
+					}
+					inflatedLength += count;
+				}
+				if (inflatedLength != inflatedContent.length) {
+					throw new ZipException("Invalid compressed data at position " + offset + " of " + archiveAbsolutePath);
+				}
+				return ByteBuffer.wrap(inflatedContent);
+			} catch (DataFormatException exc) {
+				throw new ZipException(exc.getMessage());
+			} finally {
+				inflater.end();
+			}
+		}
+	}
+
+	static class IndexedJavaClass extends JavaClass {
+		private String archiveAbsolutePath;
+		private String entryName;
+		private EntryLocation entryLocation;
+
+		IndexedJavaClass(String archiveAbsolutePath, String entryName, EntryLocation entryLocation, ByteBuffer classFileHeader, String[] declaredAnnotationNames) {
+			super(classFileHeader, declaredAnnotationNames);
+			this.archiveAbsolutePath = archiveAbsolutePath;
+			this.entryName = entryName;
+			this.entryLocation = entryLocation;
+		}
+
+		//The entries of the archives contained in the archive are read through the file system
+		@Override
+		protected ByteBuffer getByteCode0() {
+			if (entryLocation != null) {
+				try {
+					return entryLocation.read(archiveAbsolutePath);
+				} catch (IOException exc) {
+					ManagedLoggerRepository.logWarn(getClass()::getName, "Could not read {}/{} from its indexed position: {}", archiveAbsolutePath, entryName, exc.toString());
+				}
+			}
+			return FileSystemItem.ofPath(archiveAbsolutePath + "/" + entryName).toByteBuffer();
+		}
+
+		@Override
+		protected void setByteCode0(ByteBuffer byteCode) {}
+
+		@Override
+		public void close() {}
+	}
+}
@@ -40,13 +40,16 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 import org.burningwave.core.Component;
 import org.burningwave.core.classes.SearchContext.InitContext;
+import org.burningwave.core.concurrent.QueuedTaskExecutor;
 import org.burningwave.core.io.FileSystemItem;
 import org.burningwave.core.io.PathHelper;
 import org.burningwave.core.iterable.IterableObjectHelper.IterationConfig;
+import org.burningwave.core.iterable.IterableObjectHelper.ResolveConfig;
 import org.burningwave.core.iterable.Properties;
 import org.burningwave.core.iterable.Properties.Event;
 
@@ -57,6 +60,7 @@ public interface ClassPathScanner<I, R extends SearchResult<I>> {
 
 			public final static String DEFAULT_CHECK_FILE_OPTIONS = "hunters.default-search-config.check-file-option";
 			public static final String DEFAULT_SEARCH_CONFIG_PATHS = PathHelper.Configuration.Key.PATHS_PREFIX + "hunters.default-search-config.paths";
+			public final static String CLASS_PATH_INDEX_ENABLED = "hunters.class-path-index.enabled";
 
 		}
 
@@ -75,6 +79,10 @@ public interface ClassPathScanner<I, R extends SearchResult<I>> {
 				Key.DEFAULT_CHECK_FILE_OPTIONS,
 				"${" + PathScannerClassLoader.Configuration.Key.SEARCH_CONFIG_CHECK_FILE_OPTION + "}"
 			);
+			defaultValues.put(
+				Key.CLASS_PATH_INDEX_ENABLED,
+				"false"
+			);
 
 			DEFAULT_VALUES = Collections.unmodifiableMap(defaultValues);
 		}
@@ -93,6 +101,7 @@ public interface ClassPathScanner<I, R extends SearchResult<I>> {
 		Collection<SearchResult<I>> searchResults;
 		String instanceId;
 		ClassLoaderManager<PathScannerClassLoader> defaultPathScannerClassLoaderManager;
+		ClassPathIndex classPathIndex;
 
 		Abst(
 			PathHelper pathHelper,
@@ -110,9 +119,27 @@ public interface ClassPathScanner<I, R extends SearchResult<I>> {
 			this.defaultPathScannerClassLoaderManager = new ClassLoaderManager<>(
 				defaultPathScannerClassLoaderOrDefaultPathScannerClassLoaderSupplier
 			);
+			setClassPathIndex();
 			checkAndListenTo(config);
 		}
 
+		void setClassPathIndex() {
+			boolean classPathIndexEnabled = Boolean.valueOf(
+				IterableObjectHelper.resolveStringValue(
+					ResolveConfig.forNamedKey(Configuration.Key.CLASS_PATH_INDEX_ENABLED)
+					.on(config)
+					.withDefaultValues(Configuration.DEFAULT_VALUES)
+				)
+			);
+			ClassPathIndex classPathIndex = this.classPathIndex;
+			if (classPathIndexEnabled && classPathIndex == null) {
+				this.classPathIndex = ClassPathIndex.create();
+			} else if (!classPathIndexEnabled && classPathIndex != null) {
+				this.classPathIndex = null;
+				classPathIndex.close();
+			}
+		}
+
 		@Override
 		public <K, V> void processChangeNotification(
 			Properties properties, Event event, K key, V newValue,
@@ -123,6 +150,8 @@ public interface ClassPathScanner<I, R extends SearchResult<I>> {
 					String keyAsString = (String)key;
 					if (keyAsString.startsWith(getNameInConfigProperties() + ".default-path-scanner-class-loader")) {
 						this.defaultPathScannerClassLoaderManager.reset();
+					} else if (keyAsString.equals(Configuration.Key.CLASS_PATH_INDEX_ENABLED)) {
+						setClassPathIndex();
 					}
 				}
 			}
@@ -146,55 +175,73 @@ public interface ClassPathScanner<I, R extends SearchResult<I>> {
 			SearchConfig searchConfig = input.isInitialized() ? input : input.createCopy();
 			C context = searchConfig.isInitialized() ? searchConfig.getSearchContext() : searchConfig.init(this);
 			context.executeSearch(() -> {
-				Collection<FileSystemItem> pathsToBeScanned = searchConfig.getPathsToBeScanned();
-
-				IterableObjectHelper.iterate(
-					IterationConfig.of(
-						IterableObjectHelper.iterateAndGet(
-							IterationConfig.of(pathsToBeScanned)
-							.withOutput(new ConcurrentHashMap<FileSystemItem, Collection<FileSystemItem>>())
-							.withAction(
-								(currentScannedPath, outputHandler) -> {
-									if (!currentScannedPath.isContainer()) {
-										throw new IllegalArgumentException(Strings.compile("{} is not a folder or archive", currentScannedPath.getAbsolutePath()));
-									}
-									outputHandler.accept(output -> {
-										output.put(
-											currentScannedPath,
-											scanAndAddToPathScannerClassLoader(context, currentScannedPath)
-										);
-									});
-								}
-							).parallelIf(
-								searchConfig.getMinimumCollectionSizeForParallelIterationPredicate() != null ?
-									searchConfig.getMinimumCollectionSizeForParallelIterationPredicate()::test :
-									null
-							).withPriority(
-								searchConfig.priority
-							)
-						)
-					).withAction(
-						currentScannedPath -> {
-							testClassCriteriaAndAddItemsToContext(context, currentScannedPath);
-						}
-					).parallelIf(
-						searchConfig.getMinimumCollectionSizeForParallelIterationPredicate() != null ?
-							searchConfig.getMinimumCollectionSizeForParallelIterationPredicate()::test :
-							null
-					).withPriority(
-						searchConfig.priority
-					)
-				);
-				Collection<String> skippedClassesNames = context.getSkippedClassNames();
-				if (!skippedClassesNames.isEmpty()) {
-					ManagedLoggerRepository.logWarn(getClass()::getName, "Skipped classes count: {}", skippedClassesNames.size());
-				}
+				search(context);
 			});
 			R searchResult = resultSupplier.apply(context);
 			searchResult.setClassPathScanner(this);
 			return searchResult;
 		}
 
+		QueuedTaskExecutor.Task findAndConsumeBy(SearchConfig input, Consumer<C> contextInitializer) {
+			SearchConfig searchConfig = input.isInitialized() ? input : input.createCopy();
+			C context = searchConfig.isInitialized() ? searchConfig.getSearchContext() : searchConfig.init(this);
+			contextInitializer.accept(context);
+			return context.executeSearch(() -> {
+				try {
+					search(context);
+				} finally {
+					context.close();
+				}
+			});
+		}
+
+		void search(C context) {
+			SearchConfig searchConfig = context.getSearchConfig();
+			Collection<FileSystemItem> pathsToBeScanned = searchConfig.getPathsToBeScanned();
+
+			IterableObjectHelper.iterate(
+				IterationConfig.of(
+					IterableObjectHelper.iterateAndGet(
+						IterationConfig.of(pathsToBeScanned)
+						.withOutput(new ConcurrentHashMap<FileSystemItem, Collection<FileSystemItem>>())
+						.withAction(
+							(currentScannedPath, outputHandler) -> {
+								if (!currentScannedPath.isContainer()) {
+									throw new IllegalArgumentException(Strings.compile("{} is not a folder or archive", currentScannedPath.getAbsolutePath()));
+								}
+								outputHandler.accept(output -> {
+									output.put(
+										currentScannedPath,
+										scanAndAddToPathScannerClassLoader(context, currentScannedPath)
+									);
+								});
+							}
+						).parallelIf(
+							searchConfig.getMinimumCollectionSizeForParallelIterationPredicate() != null ?
+								searchConfig.getMinimumCollectionSizeForParallelIterationPredicate()::test :
+								null
+						).withPriority(
+							searchConfig.priority
+						)
+					)
+				).withAction(
+					currentScannedPath -> {
+						testClassCriteriaAndAddItemsToContext(context, currentScannedPath);
+					}
+				).parallelIf(
+					searchConfig.getMinimumCollectionSizeForParallelIterationPredicate() != null ?
+						searchConfig.getMinimumCollectionSizeForParallelIterationPredicate()::test :
+						null
+				).withPriority(
+					searchConfig.priority
+				)
+			);
+			Collection<String> skippedClassesNames = context.getSkippedClassNames();
+			if (!skippedClassesNames.isEmpty()) {
+				ManagedLoggerRepository.logWarn(getClass()::getName, "Skipped classes count: {}", skippedClassesNames.size());
+			}
+		}
+
 		Collection<FileSystemItem> scanAndAddToPathScannerClassLoader(
 			C context,
 			FileSystemItem currentScannedPath
@@ -208,14 +255,9 @@ public interface ClassPathScanner<I, R extends SearchResult<I>> {
 			}
 			if (!searchConfig.getRefreshPathIf().test(currentScannedPath) &&
 				pathScannerClassLoader.hasBeenCompletelyLoaded(currentScannedPath.getAbsolutePath())) {
-				return searchConfig.getFindFunction(currentScannedPath).apply(
-					searchConfig.getRefreshPathIf().test(
-						currentScannedPath
-					) ?	currentScannedPath.refresh() : currentScannedPath,
-					searchConfig.getAllFileFilters(currentScannedPath)
-				);
+				return find(searchConfig, currentScannedPath, searchConfig.getAllFileFilters(currentScannedPath));
 			} else {
-				return Synchronizer.execute(pathScannerClassLoader.instanceId + "_" + currentScannedPath.getAbsolutePath(), () -> {
+				return Synchronizer.execute(pathScannerClassLoader, currentScannedPath.getAbsolutePath(), () -> {
 					Boolean loadPathCompletely = null;
 					FileSystemItem.Criteria allFileFiltersInternal = allFileFilters;
 					if (searchConfig.getRefreshPathIf().test(currentScannedPath) ||
@@ -230,12 +272,7 @@ public interface ClassPathScanner<I, R extends SearchResult<I>> {
 							getPathScannerClassLoaderFiller(context, currentScannedPath)
 						);
 					}
-					Collection<FileSystemItem> itemsFound = searchConfig.getFindFunction(currentScannedPath).apply(
-						searchConfig.getRefreshPathIf().test(
-							currentScannedPath
-						) ? currentScannedPath.refresh() : currentScannedPath,
-						allFileFiltersInternal
-					);
+					Collection<FileSystemItem> itemsFound = find(searchConfig, currentScannedPath, allFileFiltersInternal);
 					if (loadPathCompletely != null) {
 						pathScannerClassLoader.loadedPaths.put(currentScannedPath.getAbsolutePath(), loadPathCompletely);
 					}
@@ -245,18 +282,43 @@ public interface ClassPathScanner<I, R extends SearchResult<I>> {
 		}
 
 
+		//When the archive has a complete index its class files are taken from the index instead of enumerating
+		//the archive entries: this is possible only if the default file filter, that checks the file names, is used
+		Collection<FileSystemItem> find(
+			SearchConfig searchConfig,
+			FileSystemItem currentScannedPath,
+			FileSystemItem.Criteria fileFilter
+		) {
+			boolean refreshPath = searchConfig.getRefreshPathIf().test(currentScannedPath);
+			if (!refreshPath && searchConfig.isDefaultFileFilterCheckingOnlyFileName() &&
+				searchConfig.getFindFunction(currentScannedPath) == FileSystemItem.Find.IN_ALL_CHILDREN) {
+				ClassPathIndex.Index indexedJavaClasses = getIndexedJavaClasses(currentScannedPath);
+				if (indexedJavaClasses != null && indexedJavaClasses.isComplete()) {
+					return currentScannedPath.findInArchiveEntries(indexedJavaClasses.getEntryNames(), fileFilter);
+				}
+			}
+			return searchConfig.getFindFunction(currentScannedPath).apply(
+				refreshPath ? currentScannedPath.refresh() : currentScannedPath,
+				fileFilter
+			);
+		}
+
 		FileSystemItem.Criteria getPathScannerClassLoaderFiller(
 			C context,
 			FileSystemItem currentScannedPath
 		) {
 			PathScannerClassLoader pathScannerClassLoader = context.pathScannerClassLoader;
+			Map<String, JavaClass> indexedJavaClasses = getIndexedJavaClasses(currentScannedPath);
 			return FileSystemItem.Criteria.forAllFileThat(fileSystemItem -> {
-				JavaClass javaClass = fileSystemItem.toJavaClass();
+				JavaClass javaClass = retrieveJavaClass(indexedJavaClasses, null, fileSystemItem);
 				try {
 					String className = javaClass.getName();
-					if (pathScannerClassLoader.loadedByteCodes.get(className) == null &&
-						pathScannerClassLoader.notLoadedByteCodes.get(className) == null) {
-						pathScannerClassLoader.addByteCode0(className, javaClass.getByteCode());
+					if (!pathScannerClassLoader.hasByteCodeOf(className)) {
+						if (javaClass instanceof ClassPathIndex.IndexedJavaClass) {
+							pathScannerClassLoader.addByteCode0(className, javaClass::getByteCode);
+						} else {
+							pathScannerClassLoader.addByteCode0(className, javaClass.getByteCode());
+						}
 					}
 				} catch (NullPointerException exc) {
 					if (javaClass != null) {
@@ -275,12 +337,17 @@ public interface ClassPathScanner<I, R extends SearchResult<I>> {
 			FileSystemItem currentScannedPath = currentScannedPathAndChildren.getKey();
 			String currentScannedAbsolutePath = currentScannedPath.getAbsolutePath();
 			FileSystemItem.Criteria allFileFilters = context.searchConfig.getAllFileFilters(currentScannedPath);
+			Map<String, JavaClass> indexedJavaClasses = getIndexedJavaClasses(currentScannedPath);
+			ClassPathIndex classPathIndex = this.classPathIndex;
+			Map<String, JavaClass> javaClassesToBeIndexed =
+				classPathIndex != null && classPathIndex.canIndex(currentScannedPath) ?
+					new ConcurrentHashMap<>() : null;
 			IterableObjectHelper.iterate(
 				IterationConfig.of(
 					currentScannedPathAndChildren.getValue()
 				).withAction(
 					child -> {
-						JavaClass javaClass = child.toJavaClass();
+						JavaClass javaClass = retrieveJavaClass(indexedJavaClasses, javaClassesToBeIndexed, child);
 						try {
 							ClassCriteria.TestContext criteriaTestContext = testClassCriteria(context, javaClass);
 							if (criteriaTestContext.getResult()) {
@@ -302,11 +369,39 @@ public interface ClassPathScanner<I, R extends SearchResult<I>> {
 					allFileFilters.getPriority()
 				)
 			);
+			if (javaClassesToBeIndexed != null && !javaClassesToBeIndexed.isEmpty()) {
+				classPathIndex.storeInBackground(currentScannedPath, indexedJavaClasses, javaClassesToBeIndexed);
+			}
+		}
+
+		ClassPathIndex.Index getIndexedJavaClasses(FileSystemItem currentScannedPath) {
+			ClassPathIndex classPathIndex = this.classPathIndex;
+			return classPathIndex != null ?
+				classPathIndex.get(currentScannedPath) :
+				null;
+		}
+
+		JavaClass retrieveJavaClass(
+			Map<String, JavaClass> indexedJavaClasses,
+			Map<String, JavaClass> javaClassesToBeIndexed,
+			FileSystemItem fileSystemItem
+		) {
+			if (indexedJavaClasses != null) {
+				JavaClass javaClass = indexedJavaClasses.get(fileSystemItem.getAbsolutePath());
+				if (javaClass != null) {
+					return javaClass;
+				}
+			}
+			JavaClass javaClass = fileSystemItem.toJavaClass();
+			if (javaClassesToBeIndexed != null && javaClass != null) {
+				javaClassesToBeIndexed.put(fileSystemItem.getAbsolutePath(), javaClass);
+			}
+			return javaClass;
 		}
 
 
 		ClassCriteria.TestContext testClassCriteria(C context, JavaClass javaClass) {
-			return context.test(context.loadClass(javaClass.getName()));
+			return context.loadAndTest(javaClass);
 		}
 
 
@@ -348,6 +443,10 @@ public interface ClassPathScanner<I, R extends SearchResult<I>> {
 			closeSearchResults();
 			defaultPathScannerClassLoaderManager.close();
 			defaultPathScannerClassLoaderManager = null;
+			if (classPathIndex != null) {
+				classPathIndex.close();
+				classPathIndex = null;
+			}
 			this.searchResults = null;
 		}
 	}
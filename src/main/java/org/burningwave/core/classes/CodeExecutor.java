@@ -61,6 +61,7 @@ public interface CodeExecutor {
 			public static final String PROPERTIES_FILE_CLASS_SIMPLE_NAME_SUFFIX = ".simple-name";
 			public static final String PROPERTIES_FILE_SUPPLIER_SIMPLE_NAME_SUFFIX = "." + PROPERTIES_FILE_SUPPLIER_KEY + PROPERTIES_FILE_CLASS_SIMPLE_NAME_SUFFIX;
 			public static final String PROPERTIES_FILE_EXECUTOR_SIMPLE_NAME_SUFFIX = "." + PROPERTIES_FILE_EXECUTOR_KEY + PROPERTIES_FILE_CLASS_SIMPLE_NAME_SUFFIX;
+			public static final String EXECUTOR_CACHE_MAX_SIZE = "code-executor.executor-cache.max-size";
 
 		}
 
@@ -82,6 +83,8 @@ public interface CodeExecutor {
 				Supplier.class.getName() + IterableObjectHelper.getDefaultValuesSeparator()
 			);
 
+			defaultValues.put(Key.EXECUTOR_CACHE_MAX_SIZE, "128");
+
 			DEFAULT_VALUES = Collections.unmodifiableMap(defaultValues);
 		}
 
@@ -30,11 +30,13 @@ package org.burningwave.core.classes;
 
 
 import static org.burningwave.core.assembler.StaticComponentContainer.ClassLoaders;
+import static org.burningwave.core.assembler.StaticComponentContainer.Classes;
 import static org.burningwave.core.assembler.StaticComponentContainer.Constructors;
 import static org.burningwave.core.assembler.StaticComponentContainer.IterableObjectHelper;
 import static org.burningwave.core.assembler.StaticComponentContainer.Strings;
 
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -52,6 +54,7 @@ public class CodeExecutorImpl implements CodeExecutor, Component {
 	private ClassFactory classFactory;
 	private PathHelper pathHelper;
 	private Supplier<ClassFactory> classFactorySupplier;
+	private ExecutorCache executorCache;
 	private Map<?, ?> config;
 
 	CodeExecutorImpl(
@@ -62,6 +65,16 @@ public class CodeExecutorImpl implements CodeExecutor, Component {
 		this.classFactorySupplier = classFactorySupplier;
 		this.pathHelper = pathHelper;
 		this.config = config;
+		int executorCacheMaxSize = Integer.valueOf(
+			IterableObjectHelper.resolveStringValue(
+				ResolveConfig.forNamedKey(Configuration.Key.EXECUTOR_CACHE_MAX_SIZE)
+				.on(config)
+				.withDefaultValues(Configuration.DEFAULT_VALUES)
+			).trim()
+		);
+		if (executorCacheMaxSize > 0) {
+			this.executorCache = new ExecutorCache(executorCacheMaxSize);
+		}
 		checkAndListenTo(config);
 	}
 
@@ -197,14 +210,29 @@ public class CodeExecutorImpl implements CodeExecutor, Component {
 			parentClassLoader = defaultClassLoader = ((ClassFactoryImpl)getClassFactory()).getDefaultClassLoader(executeClient);
 		}
 		if (config.getClassLoader() == null) {
-			MemoryClassLoader memoryClassLoader = MemoryClassLoader.create(
-				parentClassLoader
-			);
-			try {
-				memoryClassLoader.register(executeClient);
-				Class<? extends Executable> executableClass = loadOrBuildAndDefineExecutorSubType(
-					config.useClassLoader(memoryClassLoader)
+			ExecutorCache executorCache = this.executorCache;
+			String executorCacheKey = executorCache != null ? executorCache.computeKey(config) : null;
+			ExecutorCache.Item cachedExecutor = executorCacheKey != null ?
+				executorCache.get(executorCacheKey, parentClassLoader, executeClient) :
+				null;
+			MemoryClassLoader memoryClassLoader = cachedExecutor != null ?
+				cachedExecutor.classLoader :
+				MemoryClassLoader.create(
+					parentClassLoader
 				);
+			try {
+				Class<? extends Executable> executableClass;
+				if (cachedExecutor != null) {
+					executableClass = cachedExecutor.executableClass;
+				} else {
+					memoryClassLoader.register(executeClient);
+					executableClass = loadOrBuildAndDefineExecutorSubType(
+						config.useClassLoader(memoryClassLoader)
+					);
+					if (executorCacheKey != null) {
+						executorCache.put(executorCacheKey, parentClassLoader, memoryClassLoader, executableClass);
+					}
+				}
 				Executable executor = Constructors.newInstanceDirectOf(executableClass);
 				T retrievedElement = executor.executeAndCast(config.getParams());
 				return retrievedElement;
@@ -260,9 +288,113 @@ public class CodeExecutorImpl implements CodeExecutor, Component {
 		if (config instanceof Properties) {
 			checkAndUnregister((Properties)config);
 		}
+		if (executorCache != null) {
+			executorCache.clear();
+			executorCache = null;
+		}
 		classFactory = null;
 		pathHelper = null;
 		classFactorySupplier = null;
 		config = null;
 	}
+
+	private static class ExecutorCache {
+		private Map<String, Item> items;
+
+		private ExecutorCache(int maxSize) {
+			this.items = new LinkedHashMap<String, Item>(16, 0.75f, true) {
+
+				private static final long serialVersionUID = -6226813432419155339L;
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<String, Item> eldest) {
+					if (size() > maxSize) {
+						eldest.getValue().release();
+						return true;
+					}
+					return false;
+				}
+
+			};
+		}
+
+		private String computeKey(ExecuteConfig<?> config) {
+			UnitSourceGenerator unitSourceGenerator = config.unitSourceGenerators.iterator().next();
+			String executorSimpleName = Classes.retrieveSimpleName(config.getExecutorName());
+			StringBuilder key = new StringBuilder(
+				unitSourceGenerator.make().replace(executorSimpleName, "${executorSimpleName}")
+			);
+			key.append("\n").append(config.isVirtualizeClassesEnabled());
+			Object[] params = config.getParams();
+			if (params != null) {
+				for (Object param : params) {
+					key.append("\n").append(param != null ? param.getClass().getName() : null);
+				}
+			}
+			return key.toString();
+		}
+
+		private Item get(String key, ClassLoader parentClassLoader, Object client) {
+			synchronized (items) {
+				Item item = items.get(key);
+				if (item == null) {
+					return null;
+				}
+				if (item.parentClassLoader == parentClassLoader) {
+					try {
+						item.classLoader.register(client);
+						return item;
+					} catch (IllegalStateException exc) {
+						//The class loader has been closed
+					}
+				}
+				items.remove(key);
+				item.release();
+				return null;
+			}
+		}
+
+		private void put(
+			String key,
+			ClassLoader parentClassLoader,
+			MemoryClassLoader classLoader,
+			Class<? extends Executable> executableClass
+		) {
+			Item item = new Item(parentClassLoader, classLoader, executableClass);
+			classLoader.register(item);
+			synchronized (items) {
+				Item previousItem = items.put(key, item);
+				if (previousItem != null) {
+					previousItem.release();
+				}
+			}
+		}
+
+		private void clear() {
+			synchronized (items) {
+				items.values().forEach(Item::release);
+				items.clear();
+			}
+		}
+
+		private static class Item {
+			private ClassLoader parentClassLoader;
+			private MemoryClassLoader classLoader;
+			private Class<? extends Executable> executableClass;
+
+			private Item(
+				ClassLoader parentClassLoader,
+				MemoryClassLoader classLoader,
+				Class<? extends Executable> executableClass
+			) {
+				this.parentClassLoader = parentClassLoader;
+				this.classLoader = classLoader;
+				this.executableClass = executableClass;
+			}
+
+			private void release() {
+				classLoader.unregister(this, true);
+			}
+		}
+	}
 }
\ No newline at end of file
@@ -123,9 +123,9 @@ public class Constructors extends Members.Handler.OfExecutable<Constructor<?>, C
 		Class<?> targetClass,
 		Class<?>... inputParameterTypesOrSubTypes
 	) {
-		String cacheKey = getCacheKey(targetClass, "all constructors by input parameters assignable from", inputParameterTypesOrSubTypes);
 		ClassLoader targetClassClassLoader = Classes.getClassLoader(targetClass);
-		return Cache.uniqueKeyForConstructors.getOrUploadIfAbsent(targetClassClassLoader, cacheKey, () -> {
+		return Cache.uniqueKeyForConstructors.getOrUploadIfAbsent(
+			targetClassClassLoader, targetClass, "all constructors by input parameters assignable from", null, inputParameterTypesOrSubTypes, () -> {
 			ConstructorCriteria criteria = ConstructorCriteria.withoutConsideringParentClasses().parameterTypesAreAssignableFrom(inputParameterTypesOrSubTypes);
 			if (inputParameterTypesOrSubTypes != null && inputParameterTypesOrSubTypes.length == 0) {
 				criteria.or().parameter((parameters, idx) -> parameters.length == 1 && parameters[0].isVarArgs());
@@ -142,10 +142,9 @@ public class Constructors extends Members.Handler.OfExecutable<Constructor<?>, C
 	public Collection<Constructor<?>> findAllAndMakeThemAccessible(
 		Class<?> targetClass
 	) {
-		String cacheKey = getCacheKey(targetClass, "all constructors");
 		ClassLoader targetClassClassLoader = Classes.getClassLoader(targetClass);
 		Collection<Constructor<?>> members = Cache.uniqueKeyForConstructors.getOrUploadIfAbsent(
-			targetClassClassLoader, cacheKey, () -> {
+			targetClassClassLoader, targetClass, "all constructors", null, NO_PARAMETER_TYPES, () -> {
 				return findAllAndApply(
 					ConstructorCriteria.withoutConsideringParentClasses(), targetClass, (member) ->
 					setAccessible(member, true)
@@ -161,14 +160,13 @@ public class Constructors extends Members.Handler.OfExecutable<Constructor<?>, C
 
 	private Members.Handler.OfExecutable.Box<Constructor<?>> findDirectHandleBox(Class<?> targetClass, Class<?>... inputParameterTypesOrSubTypes) {
 		String nameForCaching = retrieveNameForCaching(targetClass);
-		String cacheKey = getCacheKey(targetClass, "equals " + nameForCaching, inputParameterTypesOrSubTypes);
 		ClassLoader targetClassClassLoader = Classes.getClassLoader(targetClass);
 		Members.Handler.OfExecutable.Box<Constructor<?>> entry =
-			(Box<Constructor<?>>)Cache.uniqueKeyForExecutableAndMethodHandle.get(targetClassClassLoader, cacheKey);
+			(Box<Constructor<?>>)Cache.uniqueKeyForExecutableAndMethodHandle.get(targetClassClassLoader, targetClass, "equals", nameForCaching, inputParameterTypesOrSubTypes);
 		if (entry == null) {
 			Constructor<?> ctor = findFirstAndMakeItAccessible(targetClass, inputParameterTypesOrSubTypes);
 			entry = findDirectHandleBox(
-				ctor, targetClassClassLoader, cacheKey
+				ctor, targetClassClassLoader, targetClass, nameForCaching, inputParameterTypesOrSubTypes
 			);
 		}
 		return entry;
@@ -213,11 +213,13 @@ public class Fields extends Members.Handler<Field, FieldCriteria> {
 		String fieldName,
 		Class<?> valueType
 	) {
-		String cacheKey = getCacheKey(targetClass, "equals " + fieldName, valueType);
 		ClassLoader targetClassClassLoader = Classes.getClassLoader(targetClass);
 		return Cache.uniqueKeyForFields.getOrUploadIfAbsent(
 			targetClassClassLoader,
-			cacheKey,
+			targetClass,
+			"equals",
+			fieldName,
+			valueType,
 			() ->
 				findAllAndMakeThemAccessible(
 					FieldCriteria.forEntireClassHierarchy().allThoseThatMatch(field -> {
@@ -234,11 +236,13 @@ public class Fields extends Members.Handler<Field, FieldCriteria> {
 	public Collection<Field> findAllAndMakeThemAccessible(
 		Class<?> targetClass
 	) {
-		String cacheKey = getCacheKey(targetClass, "all fields", (Class<?>[])null);
 		ClassLoader targetClassClassLoader = Classes.getClassLoader(targetClass);
 		return Cache.uniqueKeyForFields.getOrUploadIfAbsent(
 			targetClassClassLoader,
-			cacheKey,
+			targetClass,
+			"all fields",
+			null,
+			(Class<?>)null,
 			() ->
 				findAllAndMakeThemAccessible(
 					FieldCriteria.forEntireClassHierarchy(), targetClass
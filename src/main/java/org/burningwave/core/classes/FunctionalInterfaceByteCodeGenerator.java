@@ -0,0 +1,253 @@
+/*
+ * This file is part of Burningwave Core.
+ *
+ * Author: Roberto Gentili
+ *
+ * Hosted at: https://github.com/burningwave/core
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019 Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.burningwave.core.classes;
+
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.burningwave.core.Virtual;
+import org.burningwave.core.function.MultiParamsConsumer;
+import org.burningwave.core.function.MultiParamsFunction;
+import org.burningwave.core.function.MultiParamsPredicate;
+
+class FunctionalInterfaceByteCodeGenerator {
+	private static final String OBJECT_DESCRIPTOR = "Ljava/lang/Object;";
+
+	static FunctionalInterfaceByteCodeGenerator create() {
+		return new FunctionalInterfaceByteCodeGenerator();
+	}
+
+	ByteBuffer generateConsumer(String className, int parametersLength) {
+		return generate(className, MultiParamsConsumer.class, "accept", parametersLength, "V", false);
+	}
+
+	ByteBuffer generatePredicate(String className, int parametersLength) {
+		return generate(className, MultiParamsPredicate.class, "test", parametersLength, "Z", false);
+	}
+
+	ByteBuffer generateFunction(String className, int parametersLength) {
+		return generate(className, MultiParamsFunction.class, "apply", parametersLength, OBJECT_DESCRIPTOR, true);
+	}
+
+	private ByteBuffer generate(
+		String className,
+		Class<?> superInterface,
+		String methodName,
+		int parametersLength,
+		String returnTypeDescriptor,
+		boolean hasGenericReturnType
+	) {
+		if (className.contains("$")) {
+			org.burningwave.core.assembler.StaticComponentContainer.Driver.throwException("{} could not be a inner class", className);
+		}
+		if (parametersLength > 254) {
+			org.burningwave.core.assembler.StaticComponentContainer.Driver.throwException("{} could not have more than 254 parameters", className);
+		}
+		String internalClassName = className.replace('.', '/');
+		String superInterfaceInternalName = superInterface.getName().replace('.', '/');
+		String virtualInternalName = Virtual.class.getName().replace('.', '/');
+		StringBuilder methodDescriptor = new StringBuilder("(");
+		StringBuilder methodSignature = new StringBuilder("(");
+		StringBuilder classSignature = new StringBuilder("<");
+		for (int i = 0; i < parametersLength; i++) {
+			methodDescriptor.append(OBJECT_DESCRIPTOR);
+			methodSignature.append("TP").append(i).append(";");
+			classSignature.append("P").append(i).append(":").append(OBJECT_DESCRIPTOR);
+		}
+		methodDescriptor.append(")").append(returnTypeDescriptor);
+		methodSignature.append(")").append(hasGenericReturnType ? "TR;" : returnTypeDescriptor);
+		if (hasGenericReturnType) {
+			classSignature.append("R:").append(OBJECT_DESCRIPTOR);
+		}
+		classSignature.append(">").append(OBJECT_DESCRIPTOR).append("L").append(superInterfaceInternalName);
+		classSignature.append(hasGenericReturnType ? "<TR;>;" : ";");
+		classSignature.append("L").append(virtualInternalName).append(";");
+
+		ConstantPool constantPool = new ConstantPool();
+		int thisClassIndex = constantPool.classInfo(internalClassName);
+		int objectClassIndex = constantPool.classInfo("java/lang/Object");
+		int superInterfaceIndex = constantPool.classInfo(superInterfaceInternalName);
+		int virtualIndex = constantPool.classInfo(virtualInternalName);
+		int methodNameIndex = constantPool.utf8(methodName);
+		int methodDescriptorIndex = constantPool.utf8(methodDescriptor.toString());
+		int varArgsMethodDescriptorIndex = constantPool.utf8("([Ljava/lang/Object;)" + returnTypeDescriptor);
+		int methodRefIndex = constantPool.interfaceMethodRef(thisClassIndex, methodNameIndex, methodDescriptorIndex);
+		int signatureAttributeNameIndex = constantPool.utf8("Signature");
+		int methodSignatureIndex = constantPool.utf8(methodSignature.toString());
+		int classSignatureIndex = constantPool.utf8(classSignature.toString());
+		int codeAttributeNameIndex = constantPool.utf8("Code");
+		int annotationsAttributeNameIndex = constantPool.utf8("RuntimeVisibleAnnotations");
+		int functionalInterfaceDescriptorIndex = constantPool.utf8("Ljava/lang/FunctionalInterface;");
+
+		ByteArrayOutputStream code = new ByteArrayOutputStream();
+		code.write(0x2a);
+		for (int i = 0; i < parametersLength; i++) {
+			code.write(0x2b);
+			if (i <= 5) {
+				code.write(0x03 + i);
+			} else if (i <= 127) {
+				code.write(0x10);
+				code.write(i);
+			} else {
+				code.write(0x11);
+				code.write(i >> 8);
+				code.write(i);
+			}
+			code.write(0x32);
+		}
+		code.write(0xb9);
+		code.write(methodRefIndex >> 8);
+		code.write(methodRefIndex);
+		code.write(parametersLength + 1);
+		code.write(0);
+		code.write(returnTypeDescriptor.equals("V") ? 0xb1 : returnTypeDescriptor.equals("Z") ? 0xac : 0xb0);
+		byte[] codeBytes = code.toByteArray();
+
+		try (ByteArrayOutputStream byteCode = new ByteArrayOutputStream(); DataOutputStream output = new DataOutputStream(byteCode)) {
+			output.writeInt(0xCAFEBABE);
+			output.writeShort(0);
+			output.writeShort(52);
+			constantPool.writeTo(output);
+			output.writeShort(0x0601);
+			output.writeShort(thisClassIndex);
+			output.writeShort(objectClassIndex);
+			output.writeShort(2);
+			output.writeShort(superInterfaceIndex);
+			output.writeShort(virtualIndex);
+			output.writeShort(0);
+			output.writeShort(2);
+			//Abstract method
+			output.writeShort(0x0401);
+			output.writeShort(methodNameIndex);
+			output.writeShort(methodDescriptorIndex);
+			output.writeShort(1);
+			output.writeShort(signatureAttributeNameIndex);
+			output.writeInt(2);
+			output.writeShort(methodSignatureIndex);
+			//Default method with variable arguments that calls the abstract one
+			output.writeShort(0x0081);
+			output.writeShort(methodNameIndex);
+			output.writeShort(varArgsMethodDescriptorIndex);
+			output.writeShort(1);
+			output.writeShort(codeAttributeNameIndex);
+			output.writeInt(12 + codeBytes.length);
+			output.writeShort(parametersLength + 2);
+			output.writeShort(2);
+			output.writeInt(codeBytes.length);
+			output.write(codeBytes);
+			output.writeShort(0);
+			output.writeShort(0);
+			output.writeShort(2);
+			output.writeShort(signatureAttributeNameIndex);
+			output.writeInt(2);
+			output.writeShort(classSignatureIndex);
+			output.writeShort(annotationsAttributeNameIndex);
+			output.writeInt(6);
+			output.writeShort(1);
+			output.writeShort(functionalInterfaceDescriptorIndex);
+			output.writeShort(0);
+			output.flush();
+			return ByteBuffer.wrap(byteCode.toByteArray());
+		} catch (IOException exc) {
+			return org.burningwave.core.assembler.StaticComponentContainer.Driver.throwException(exc);
+		}
+	}
+
+	private static class ConstantPool {
+		private Map<String, Integer> indexes;
+		private ByteArrayOutputStream entries;
+		private DataOutputStream output;
+
+		ConstantPool() {
+			indexes = new LinkedHashMap<>();
+			entries = new ByteArrayOutputStream();
+			output = new DataOutputStream(entries);
+		}
+
+		int utf8(String value) {
+			return add("Utf8:" + value, () -> {
+				output.writeByte(1);
+				output.writeUTF(value);
+			});
+		}
+
+		int classInfo(String internalName) {
+			int nameIndex = utf8(internalName);
+			return add("Class:" + internalName, () -> {
+				output.writeByte(7);
+				output.writeShort(nameIndex);
+			});
+		}
+
+		int interfaceMethodRef(int classIndex, int nameIndex, int descriptorIndex) {
+			int nameAndTypeIndex = add("NameAndType:" + nameIndex + ":" + descriptorIndex, () -> {
+				output.writeByte(12);
+				output.writeShort(nameIndex);
+				output.writeShort(descriptorIndex);
+			});
+			return add("InterfaceMethodref:" + classIndex + ":" + nameAndTypeIndex, () -> {
+				output.writeByte(11);
+				output.writeShort(classIndex);
+				output.writeShort(nameAndTypeIndex);
+			});
+		}
+
+		private int add(String key, EntryWriter entryWriter) {
+			Integer index = indexes.get(key);
+			if (index == null) {
+				try {
+					entryWriter.write();
+				} catch (IOException exc) {
+					return org.burningwave.core.assembler.StaticComponentContainer.Driver.throwException(exc);
+				}
+				indexes.put(key, index = indexes.size() + 1);
+			}
+			return index;
+		}
+
+		void writeTo(DataOutputStream classOutput) throws IOException {
+			output.flush();
+			classOutput.writeShort(indexes.size() + 1);
+			classOutput.write(entries.toByteArray());
+		}
+
+		@FunctionalInterface
+		private static interface EntryWriter {
+
+			void write() throws IOException;
+
+		}
+	}
+
+}
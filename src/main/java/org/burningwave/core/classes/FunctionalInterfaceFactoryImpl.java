@@ -30,9 +30,11 @@ package org.burningwave.core.classes;
 
 
 import static org.burningwave.core.assembler.StaticComponentContainer.Cache;
+import static org.burningwave.core.assembler.StaticComponentContainer.ClassLoaders;
 import static org.burningwave.core.assembler.StaticComponentContainer.Classes;
 import static org.burningwave.core.assembler.StaticComponentContainer.Constructors;
 import static org.burningwave.core.assembler.StaticComponentContainer.Driver;
+import static org.burningwave.core.assembler.StaticComponentContainer.ManagedLoggerRepository;
 import static org.burningwave.core.assembler.StaticComponentContainer.Methods;
 
 import java.lang.invoke.LambdaMetafactory;
@@ -43,8 +45,10 @@ import java.lang.reflect.Executable;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Parameter;
+import java.nio.ByteBuffer;
 import java.util.AbstractMap;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.BiFunction;
@@ -65,10 +69,12 @@ import org.burningwave.core.function.ThrowingSupplier;
 class FunctionalInterfaceFactoryImpl implements FunctionalInterfaceFactory, Component {
 	private ClassFactory classFactory;
 	private FunctionalInterfaceSourceGenerator sourceCodeGenerator;
+	private FunctionalInterfaceByteCodeGenerator byteCodeGenerator;
 
 	FunctionalInterfaceFactoryImpl(ClassFactory classFactory) {
 		this.classFactory = classFactory;
 		this.sourceCodeGenerator = FunctionalInterfaceSourceGenerator.create();
+		this.byteCodeGenerator = FunctionalInterfaceByteCodeGenerator.create();
 	}
 
 	@Override
@@ -282,6 +288,7 @@ class FunctionalInterfaceFactoryImpl implements FunctionalInterfaceFactory, Comp
 	public <T> Class<T> loadOrBuildAndDefineFunctionSubType(ClassLoader classLoader, int parametersLength) {
 		return loadOrBuildAndDefineFunctionInterfaceSubType(
 			classLoader, "FunctionFor", "Parameters", parametersLength,
+			byteCodeGenerator::generateFunction,
 			(className, paramsL) -> UnitSourceGenerator.create(Classes.retrievePackageName(className)).addClass(sourceCodeGenerator.generateFunction(className, paramsL))
 		);
 	}
@@ -295,6 +302,7 @@ class FunctionalInterfaceFactoryImpl implements FunctionalInterfaceFactory, Comp
 	public <T> Class<T> loadOrBuildAndDefineConsumerSubType(ClassLoader classLoader, int parametersLength) {
 		return loadOrBuildAndDefineFunctionInterfaceSubType(
 			classLoader, "ConsumerFor", "Parameters", parametersLength,
+			byteCodeGenerator::generateConsumer,
 			(className, paramsL) -> UnitSourceGenerator.create(Classes.retrievePackageName(className)).addClass(sourceCodeGenerator.generateConsumer(className, paramsL))
 		);
 	}
@@ -308,6 +316,7 @@ class FunctionalInterfaceFactoryImpl implements FunctionalInterfaceFactory, Comp
 	public <T> Class<T> loadOrBuildAndDefinePredicateSubType(ClassLoader classLoader, int parametersLength) {
 		return loadOrBuildAndDefineFunctionInterfaceSubType(
 			classLoader, "PredicateFor", "Parameters", parametersLength,
+			byteCodeGenerator::generatePredicate,
 			(className, paramsL) -> UnitSourceGenerator.create(Classes.retrievePackageName(className)).addClass(sourceCodeGenerator.generatePredicate(className, paramsL))
 		);
 	}
@@ -317,11 +326,25 @@ class FunctionalInterfaceFactoryImpl implements FunctionalInterfaceFactory, Comp
 		String classNamePrefix,
 		String classNameSuffix,
 		int parametersLength,
+		BiFunction<String, Integer, ByteBuffer> byteCodeSupplier,
 		BiFunction<String, Integer, UnitSourceGenerator> unitSourceGeneratorSupplier
 	) {
 		String functionalInterfaceName = classNamePrefix + parametersLength +	classNameSuffix;
 		String packageName = MultiParamsFunction.class.getPackage().getName();
 		String className = packageName + "." + functionalInterfaceName;
+		try {
+			Map<String, ByteBuffer> byteCodes = new HashMap<>();
+			byteCodes.put(className, byteCodeSupplier.apply(className, parametersLength));
+			return ClassLoaders.loadOrDefineByByteCode(
+				className,
+				byteCodes,
+				classLoader != null ? classLoader : Classes.getClassLoader(MultiParamsFunction.class)
+			);
+		} catch (ClassNotFoundException | NoClassDefFoundError exc) {
+			ManagedLoggerRepository.logWarn(
+				getClass()::getName, "Could not define {} from generated byte code, it will be compiled: {}", className, exc.getMessage()
+			);
+		}
 		try (ClassRetriever classRetriever = classFactory.loadOrBuildAndDefine(
 			LoadOrBuildAndDefineConfig.forUnitSourceGenerator(
 				unitSourceGeneratorSupplier.apply(className, parametersLength)
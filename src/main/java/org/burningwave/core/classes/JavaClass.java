@@ -33,6 +33,7 @@ import static org.burningwave.core.assembler.StaticComponentContainer.Classes;
 import static org.burningwave.core.assembler.StaticComponentContainer.Streams;
 
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.function.Consumer;
 
 import org.burningwave.core.Closeable;
@@ -41,6 +42,7 @@ import org.burningwave.core.io.FileSystemItem;
 
 public class JavaClass extends io.github.toolfactory.jvm.util.JavaClass implements Closeable {
 	private ByteBuffer byteCode;
+	private String[] declaredAnnotationNames;
 
 	public JavaClass(Class<?> cls) {
 		this(Classes.getByteCode(cls));
@@ -51,6 +53,11 @@ public class JavaClass extends io.github.toolfactory.jvm.util.JavaClass implemen
 		setByteCode0(byteCode);
 	}
 
+	protected JavaClass(ByteBuffer byteCode, String[] declaredAnnotationNames) {
+		this(byteCode);
+		this.declaredAnnotationNames = declaredAnnotationNames;
+	}
+
 	public static JavaClass create(Class<?> cls) {
 		return new JavaClass(cls);
 	}
@@ -104,6 +111,146 @@ public class JavaClass extends io.github.toolfactory.jvm.util.JavaClass implemen
 		return path;
 	}
 
+	public int getModifiers() {
+		return modifiers;
+	}
+
+	public String[] getDeclaredAnnotationNames() {
+		return getDeclaredAnnotationNames0().clone();
+	}
+
+	String[] getDeclaredAnnotationNames0() {
+		String[] declaredAnnotationNames = this.declaredAnnotationNames;
+		if (declaredAnnotationNames == null) {
+			//The reads are absolute so the shared byte code buffer can be parsed without duplicating it
+			this.declaredAnnotationNames = declaredAnnotationNames = retrieveDeclaredAnnotationNames(getByteCode0());
+		}
+		return declaredAnnotationNames;
+	}
+
+	public boolean isAnnotationDeclared(String annotationName) {
+		for (String declaredAnnotationName : getDeclaredAnnotationNames0()) {
+			if (declaredAnnotationName.equals(annotationName)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	//Reads the names of the runtime visible annotations of the class directly from the class file
+	//without defining the class: see the class file format specification (JVMS chapter 4)
+	private static String[] retrieveDeclaredAnnotationNames(ByteBuffer byteCode) {
+		int position = 8;
+		int constantPoolCount = readUnsignedShort(byteCode, position);
+		position += 2;
+		int[] utf8Positions = new int[constantPoolCount];
+		for (int index = 1; index < constantPoolCount; index++) {
+			int tag = byteCode.get(position++);
+			switch (tag) {
+				case 1:
+					utf8Positions[index] = position;
+					position += 2 + readUnsignedShort(byteCode, position);
+					break;
+				case 5: case 6:
+					position += 8;
+					index++;
+					break;
+				case 3: case 4: case 9: case 10: case 11: case 12: case 17: case 18:
+					position += 4;
+					break;
+				case 15:
+					position += 3;
+					break;
+				case 7: case 8: case 16: case 19: case 20:
+					position += 2;
+					break;
+				default:
+					throw new IllegalArgumentException("Unknown constant pool tag " + tag);
+			}
+		}
+		//Skipping access flags, this class and super class
+		position += 6;
+		position += 2 + (readUnsignedShort(byteCode, position) * 2);
+		//Skipping fields and methods
+		for (int membersType = 0; membersType < 2; membersType++) {
+			int membersCount = readUnsignedShort(byteCode, position);
+			position += 2;
+			for (int index = 0; index < membersCount; index++) {
+				position += 6;
+				position = skipAttributes(byteCode, position);
+			}
+		}
+		int attributesCount = readUnsignedShort(byteCode, position);
+		position += 2;
+		for (int index = 0; index < attributesCount; index++) {
+			String attributeName = readUtf8(byteCode, utf8Positions[readUnsignedShort(byteCode, position)]);
+			int attributeLength = byteCode.getInt(position + 2);
+			position += 6;
+			if ("RuntimeVisibleAnnotations".equals(attributeName)) {
+				int annotationsCount = readUnsignedShort(byteCode, position);
+				String[] annotationNames = new String[annotationsCount];
+				int annotationPosition = position + 2;
+				for (int annotationIndex = 0; annotationIndex < annotationsCount; annotationIndex++) {
+					String descriptor = readUtf8(byteCode, utf8Positions[readUnsignedShort(byteCode, annotationPosition)]);
+					annotationNames[annotationIndex] = descriptor.substring(1, descriptor.length() - 1).replace('/', '.');
+					annotationPosition = skipAnnotation(byteCode, annotationPosition);
+				}
+				return annotationNames;
+			}
+			position += attributeLength;
+		}
+		return new String[0];
+	}
+
+	private static int skipAttributes(ByteBuffer byteCode, int position) {
+		int attributesCount = readUnsignedShort(byteCode, position);
+		position += 2;
+		for (int index = 0; index < attributesCount; index++) {
+			position += 6 + byteCode.getInt(position + 2);
+		}
+		return position;
+	}
+
+	private static int skipAnnotation(ByteBuffer byteCode, int position) {
+		int elementValuePairsCount = readUnsignedShort(byteCode, position + 2);
+		position += 4;
+		for (int index = 0; index < elementValuePairsCount; index++) {
+			position = skipElementValue(byteCode, position + 2);
+		}
+		return position;
+	}
+
+	private static int skipElementValue(ByteBuffer byteCode, int position) {
+		char tag = (char)byteCode.get(position++);
+		switch (tag) {
+			case 'e':
+				return position + 4;
+			case '@':
+				return skipAnnotation(byteCode, position);
+			case '[':
+				int valuesCount = readUnsignedShort(byteCode, position);
+				position += 2;
+				for (int index = 0; index < valuesCount; index++) {
+					position = skipElementValue(byteCode, position);
+				}
+				return position;
+			default:
+				return position + 2;
+		}
+	}
+
+	private static int readUnsignedShort(ByteBuffer byteCode, int position) {
+		return byteCode.getShort(position) & 0xFFFF;
+	}
+
+	private static String readUtf8(ByteBuffer byteCode, int position) {
+		byte[] value = new byte[readUnsignedShort(byteCode, position)];
+		for (int index = 0; index < value.length; index++) {
+			value[index] = byteCode.get(position + 2 + index);
+		}
+		return new String(value, StandardCharsets.UTF_8);
+	}
+
 	public ByteBuffer getByteCode() {
 		return BufferHandler.duplicate(getByteCode0());
 	}
@@ -136,5 +283,6 @@ public class JavaClass extends io.github.toolfactory.jvm.util.JavaClass implemen
 	@Override
 	public void close() {
 		byteCode = null;
+		declaredAnnotationNames = null;
 	}
 }
\ No newline at end of file
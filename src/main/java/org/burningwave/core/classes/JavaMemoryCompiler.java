@@ -28,17 +28,33 @@
  */
 package org.burningwave.core.classes;
 
+import static org.burningwave.core.assembler.StaticComponentContainer.BufferHandler;
+import static org.burningwave.core.assembler.StaticComponentContainer.FileSystemHelper;
 import static org.burningwave.core.assembler.StaticComponentContainer.IterableObjectHelper;
+import static org.burningwave.core.assembler.StaticComponentContainer.ManagedLoggerRepository;
 
+import java.io.File;
+import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 
 import org.burningwave.core.Closeable;
@@ -56,6 +72,12 @@ public interface JavaMemoryCompiler {
 			public static final String ADDITIONAL_CLASS_PATHS =  PathHelper.Configuration.Key.PATHS_PREFIX + "java-memory-compiler.additional-class-paths";
 			public static final String CLASS_REPOSITORIES =  PathHelper.Configuration.Key.PATHS_PREFIX + "java-memory-compiler.class-repositories";
 			public static final String ADDITIONAL_CLASS_REPOSITORIES =  PathHelper.Configuration.Key.PATHS_PREFIX + "java-memory-compiler.additional-class-repositories";
+			public static final String COMPILATION_CACHE_ENABLED = "java-memory-compiler.compilation-cache.enabled";
+			public static final String COMPILATION_CACHE_MAX_ENTRIES_IN_MEMORY = "java-memory-compiler.compilation-cache.max-entries-in-memory";
+			public static final String COMPILATION_CACHE_DISK_TIER_ENABLED = "java-memory-compiler.compilation-cache.disk-tier.enabled";
+			public static final String COMPILATION_CACHE_DISK_TIER_MAX_ENTRIES = "java-memory-compiler.compilation-cache.disk-tier.max-entries";
+			public static final String FILE_MANAGER_POOL_MAX_CLASS_PATHS = "java-memory-compiler.file-manager-pool.max-class-paths";
+			public static final String FILE_MANAGER_POOL_MAX_IDLE_PER_CLASS_PATH = "java-memory-compiler.file-manager-pool.max-idle-per-class-path";
 		}
 
 		public final static Map<String, Object> DEFAULT_VALUES;
@@ -78,6 +100,12 @@ public interface JavaMemoryCompiler {
 				Key.BLACK_LISTED_CLASS_PATHS,
 				"//${paths.main-class-paths}/..//children:.*?surefirebooter\\d{0,}\\.jar"  + IterableObjectHelper.getDefaultValuesSeparator()
 			);
+			defaultValues.put(Key.COMPILATION_CACHE_ENABLED, "true");
+			defaultValues.put(Key.COMPILATION_CACHE_MAX_ENTRIES_IN_MEMORY, "64");
+			defaultValues.put(Key.COMPILATION_CACHE_DISK_TIER_ENABLED, "true");
+			defaultValues.put(Key.COMPILATION_CACHE_DISK_TIER_MAX_ENTRIES, "256");
+			defaultValues.put(Key.FILE_MANAGER_POOL_MAX_CLASS_PATHS, "8");
+			defaultValues.put(Key.FILE_MANAGER_POOL_MAX_IDLE_PER_CLASS_PATH, "4");
 
 			DEFAULT_VALUES = Collections.unmodifiableMap(defaultValues);
 		}
@@ -93,6 +121,8 @@ public interface JavaMemoryCompiler {
 
 	public ProducerTask<Compilation.Result> compile(Compilation.Config config);
 
+	public Compilation.Cache getCompilationCache();
+
 	public static class Compilation {
 
 		public static class Config {
@@ -338,6 +368,40 @@ public interface JavaMemoryCompiler {
 				return extraParameters;
 			}
 
+			boolean hasSameSettingsOf(Config config) {
+				return Objects.equals(classPaths, config.classPaths) &&
+					Objects.equals(additionalClassPaths, config.additionalClassPaths) &&
+					Objects.equals(blackListedClassPaths, config.blackListedClassPaths) &&
+					Objects.equals(additionalBlackListedClassPaths, config.additionalBlackListedClassPaths) &&
+					Objects.equals(classRepositories, config.classRepositories) &&
+					Objects.equals(additionalClassRepositories, config.additionalClassRepositories) &&
+					Objects.equals(compiledClassesStorage, config.compiledClassesStorage) &&
+					useTemporaryFolderForStoring == config.useTemporaryFolderForStoring &&
+					Objects.equals(extraParameters, config.extraParameters);
+			}
+
+			static Config merge(Collection<Config> configs) {
+				Config mergedConfig = new Config();
+				Config settings = configs.iterator().next();
+				for (Config config : configs) {
+					mergedConfig.sources.addAll(config.sources);
+				}
+				mergedConfig.classPaths = copy(settings.classPaths);
+				mergedConfig.additionalClassPaths = copy(settings.additionalClassPaths);
+				mergedConfig.blackListedClassPaths = copy(settings.blackListedClassPaths);
+				mergedConfig.additionalBlackListedClassPaths = copy(settings.additionalBlackListedClassPaths);
+				mergedConfig.classRepositories = copy(settings.classRepositories);
+				mergedConfig.additionalClassRepositories = copy(settings.additionalClassRepositories);
+				mergedConfig.compiledClassesStorage = settings.compiledClassesStorage;
+				mergedConfig.useTemporaryFolderForStoring = settings.useTemporaryFolderForStoring;
+				mergedConfig.extraParameters = settings.extraParameters != null ? new LinkedHashMap<>(settings.extraParameters) : null;
+				return mergedConfig;
+			}
+
+			private static Collection<String> copy(Collection<String> paths) {
+				return paths != null ? new HashSet<>(paths) : null;
+			}
+
 		}
 
 
@@ -379,6 +443,260 @@ public interface JavaMemoryCompiler {
 
 		}
 
+		public static class Cache {
+			private static final String TEMPORARY_ENTRY_SUFFIX = ".tmp";
+			private static final long ABANDONED_TEMPORARY_ENTRY_AGE = 600000;
+
+			private Map<String, Item> memoryTier;
+			private File diskTier;
+			private int maxEntriesOnDisk;
+			private LongAdder memoryHitCount;
+			private LongAdder diskHitCount;
+			private LongAdder missCount;
+
+			Cache(int maxEntriesInMemory, File diskTier, int maxEntriesOnDisk) {
+				this.memoryTier = new LinkedHashMap<String, Item>(16, 0.75f, true) {
+
+					private static final long serialVersionUID = -2178435126917404153L;
+
+					@Override
+					protected boolean removeEldestEntry(Map.Entry<String, Item> eldest) {
+						return size() > maxEntriesInMemory;
+					}
+
+				};
+				this.diskTier = diskTier;
+				this.maxEntriesOnDisk = maxEntriesOnDisk;
+				this.memoryHitCount = new LongAdder();
+				this.diskHitCount = new LongAdder();
+				this.missCount = new LongAdder();
+			}
+
+			String computeKey(
+				Collection<String> sources,
+				Collection<String> classPaths,
+				Collection<String> classRepositories,
+				Collection<String> blackListedClassPaths,
+				Map<String, String> options
+			) {
+				try {
+					MessageDigest digest = MessageDigest.getInstance("SHA-256");
+					update(digest, "java-version", System.getProperty("java.vendor"), System.getProperty("java.version"));
+					for (String source : new TreeSet<>(sources.stream().map(sourceCode -> sourceCode.replace("\r\n", "\n").trim()).collect(Collectors.toList()))) {
+						update(digest, "source", source);
+					}
+					for (String classPath : new TreeSet<>(classPaths)) {
+						update(digest, "class-path", classPath, fingerprint(classPath));
+					}
+					for (String classRepository : new TreeSet<>(classRepositories)) {
+						update(digest, "class-repository", classRepository, fingerprint(classRepository));
+					}
+					for (String blackListedClassPath : new TreeSet<>(blackListedClassPaths)) {
+						update(digest, "black-listed-class-path", blackListedClassPath);
+					}
+					if (options != null) {
+						for (Map.Entry<String, String> option : new TreeMap<>(options).entrySet()) {
+							update(digest, "option", option.getKey(), option.getValue());
+						}
+					}
+					StringBuilder key = new StringBuilder();
+					for (byte value : digest.digest()) {
+						key.append(String.format("%02x", value));
+					}
+					return key.toString();
+				} catch (NoSuchAlgorithmException exc) {
+					return org.burningwave.core.assembler.StaticComponentContainer.Driver.throwException(exc);
+				}
+			}
+
+			private void update(MessageDigest digest, String... values) {
+				for (String value : values) {
+					digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+					digest.update((byte)0);
+				}
+			}
+
+			private static String fingerprint(String path) {
+				File file = new File(path);
+				return file.exists() ? file.length() + ":" + file.lastModified() : "missing";
+			}
+
+			Item get(String key) {
+				Item entry;
+				synchronized (memoryTier) {
+					entry = memoryTier.get(key);
+				}
+				if (entry != null && entry.isValid()) {
+					memoryHitCount.increment();
+					return entry;
+				}
+				entry = loadFromDisk(key);
+				if (entry != null && entry.isValid()) {
+					synchronized (memoryTier) {
+						memoryTier.put(key, entry);
+					}
+					diskHitCount.increment();
+					return entry;
+				}
+				missCount.increment();
+				return null;
+			}
+
+			void put(String key, Map<String, ByteBuffer> compiledFiles, Collection<String> dependencies) {
+				Map<String, byte[]> byteCodes = new LinkedHashMap<>();
+				for (Map.Entry<String, ByteBuffer> compiledFile : compiledFiles.entrySet()) {
+					byteCodes.put(compiledFile.getKey(), BufferHandler.toByteArray(compiledFile.getValue()));
+				}
+				Map<String, String> dependencyFingerprints = new LinkedHashMap<>();
+				for (String dependency : dependencies) {
+					dependencyFingerprints.put(dependency, fingerprint(dependency));
+				}
+				Item entry = new Item(byteCodes, dependencyFingerprints);
+				synchronized (memoryTier) {
+					memoryTier.put(key, entry);
+				}
+				storeToDisk(key, entry);
+			}
+
+			private Item loadFromDisk(String key) {
+				if (diskTier == null) {
+					return null;
+				}
+				File entryFolder = new File(diskTier, key);
+				File dependenciesFile = new File(entryFolder, "dependencies");
+				if (!dependenciesFile.exists()) {
+					return null;
+				}
+				try {
+					Map<String, String> dependencies = new LinkedHashMap<>();
+					for (String line : Files.readAllLines(dependenciesFile.toPath(), StandardCharsets.UTF_8)) {
+						int separatorIndex = line.indexOf('\t');
+						if (separatorIndex < 0) {
+							return null;
+						}
+						dependencies.put(line.substring(separatorIndex + 1), line.substring(0, separatorIndex));
+					}
+					File[] classFiles = entryFolder.listFiles((folder, name) -> name.endsWith(".class"));
+					if (classFiles == null) {
+						return null;
+					}
+					Map<String, byte[]> byteCodes = new LinkedHashMap<>();
+					for (File classFile : classFiles) {
+						String className = classFile.getName().substring(0, classFile.getName().length() - ".class".length());
+						byteCodes.put(className, Files.readAllBytes(classFile.toPath()));
+					}
+					entryFolder.setLastModified(System.currentTimeMillis());
+					return new Item(byteCodes, dependencies);
+				} catch (IOException exc) {
+					ManagedLoggerRepository.logWarn(getClass()::getName, "Could not load compilation cache entry {}: {}", key, exc.getMessage());
+					return null;
+				}
+			}
+
+			private void storeToDisk(String key, Item entry) {
+				if (diskTier == null) {
+					return;
+				}
+				File entryFolder = new File(diskTier, key);
+				File temporaryEntryFolder = new File(diskTier, key + "." + UUID.randomUUID().toString() + TEMPORARY_ENTRY_SUFFIX);
+				try {
+					temporaryEntryFolder.mkdirs();
+					for (Map.Entry<String, byte[]> byteCode : entry.byteCodes.entrySet()) {
+						Files.write(new File(temporaryEntryFolder, byteCode.getKey() + ".class").toPath(), byteCode.getValue());
+					}
+					Collection<String> dependencies = new ArrayList<>();
+					for (Map.Entry<String, String> dependency : entry.dependencies.entrySet()) {
+						dependencies.add(dependency.getValue() + "\t" + dependency.getKey());
+					}
+					Files.write(new File(temporaryEntryFolder, "dependencies").toPath(), dependencies, StandardCharsets.UTF_8);
+					if (entryFolder.exists()) {
+						File staleEntryFolder = new File(diskTier, key + "." + UUID.randomUUID().toString() + TEMPORARY_ENTRY_SUFFIX);
+						Files.move(entryFolder.toPath(), staleEntryFolder.toPath(), StandardCopyOption.ATOMIC_MOVE);
+						FileSystemHelper.delete(staleEntryFolder);
+					}
+					Files.move(temporaryEntryFolder.toPath(), entryFolder.toPath(), StandardCopyOption.ATOMIC_MOVE);
+				} catch (IOException exc) {
+					if (!entryFolder.exists()) {
+						ManagedLoggerRepository.logWarn(getClass()::getName, "Could not store compilation cache entry {}: {}", key, exc.getMessage());
+					}
+				} finally {
+					if (temporaryEntryFolder.exists()) {
+						FileSystemHelper.delete(temporaryEntryFolder);
+					}
+				}
+				evictFromDisk();
+			}
+
+			private void evictFromDisk() {
+				File[] entryFolders = diskTier.listFiles(File::isDirectory);
+				if (entryFolders == null) {
+					return;
+				}
+				long now = System.currentTimeMillis();
+				Collection<File> storedEntryFolders = new ArrayList<>();
+				for (File entryFolder : entryFolders) {
+					if (!entryFolder.getName().endsWith(TEMPORARY_ENTRY_SUFFIX)) {
+						storedEntryFolders.add(entryFolder);
+					} else if (now - entryFolder.lastModified() > ABANDONED_TEMPORARY_ENTRY_AGE) {
+						FileSystemHelper.delete(entryFolder);
+					}
+				}
+				int exceedingEntriesCount = storedEntryFolders.size() - maxEntriesOnDisk;
+				if (exceedingEntriesCount > 0) {
+					storedEntryFolders.stream().sorted(
+						Comparator.comparingLong(File::lastModified)
+					).limit(exceedingEntriesCount).forEach(FileSystemHelper::delete);
+				}
+			}
+
+			public long getMemoryHitCount() {
+				return memoryHitCount.sum();
+			}
+
+			public long getDiskHitCount() {
+				return diskHitCount.sum();
+			}
+
+			public long getHitCount() {
+				return getMemoryHitCount() + getDiskHitCount();
+			}
+
+			public long getMissCount() {
+				return missCount.sum();
+			}
+
+			static class Item {
+				private Map<String, byte[]> byteCodes;
+				private Map<String, String> dependencies;
+
+				Item(Map<String, byte[]> byteCodes, Map<String, String> dependencies) {
+					this.byteCodes = byteCodes;
+					this.dependencies = dependencies;
+				}
+
+				boolean isValid() {
+					for (Map.Entry<String, String> dependency : dependencies.entrySet()) {
+						if (!fingerprint(dependency.getKey()).equals(dependency.getValue())) {
+							return false;
+						}
+					}
+					return true;
+				}
+
+				Map<String, ByteBuffer> getCompiledFiles() {
+					Map<String, ByteBuffer> compiledFiles = new HashMap<>();
+					for (Map.Entry<String, byte[]> byteCode : byteCodes.entrySet()) {
+						compiledFiles.put(byteCode.getKey(), ByteBuffer.wrap(byteCode.getValue()));
+					}
+					return compiledFiles;
+				}
+
+				Collection<String> getDependencies() {
+					return new HashSet<>(dependencies.keySet());
+				}
+			}
+		}
+
 		public static class Exception extends RuntimeException {
 
 			private static final long serialVersionUID = 4515340268068466479L;
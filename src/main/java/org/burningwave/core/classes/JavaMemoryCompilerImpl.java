@@ -30,6 +30,7 @@ package org.burningwave.core.classes;
 
 import static org.burningwave.core.assembler.StaticComponentContainer.BackgroundExecutor;
 import static org.burningwave.core.assembler.StaticComponentContainer.BufferHandler;
+import static org.burningwave.core.assembler.StaticComponentContainer.FileSystemHelper;
 import static org.burningwave.core.assembler.StaticComponentContainer.IterableObjectHelper;
 import static org.burningwave.core.assembler.StaticComponentContainer.ManagedLoggerRepository;
 import static org.burningwave.core.assembler.StaticComponentContainer.Paths;
@@ -46,6 +47,7 @@ import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -53,7 +55,10 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.TreeSet;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -77,6 +82,7 @@ import org.burningwave.core.function.Executor;
 import org.burningwave.core.io.ByteBufferOutputStream;
 import org.burningwave.core.io.FileSystemItem;
 import org.burningwave.core.io.PathHelper;
+import org.burningwave.core.iterable.IterableObjectHelper.ResolveConfig;
 
 
 @SuppressWarnings({"rawtypes", "unchecked"})
@@ -85,6 +91,8 @@ public class JavaMemoryCompilerImpl implements JavaMemoryCompiler, Component {
 	ClassPathHelper classPathHelper;
 	JavaCompiler compiler;
 	FileSystemItem compiledClassesRepository;
+	JavaMemoryCompiler.Compilation.Cache compilationCache;
+	FileManagerPool fileManagerPool;
 	Map<?, ?> config;
 
 	JavaMemoryCompilerImpl(
@@ -97,6 +105,38 @@ public class JavaMemoryCompilerImpl implements JavaMemoryCompiler, Component {
 		this.compiler = ToolProvider.getSystemJavaCompiler();
 		this.compiledClassesRepository = FileSystemItem.of(((ClassPathHelperImpl)classPathHelper).getOrCreateTemporaryFolder("compiledClassesRepository"));
 		this.config = config;
+		if (Boolean.valueOf(resolveConfigValue(config, Configuration.Key.COMPILATION_CACHE_ENABLED))) {
+			this.compilationCache = new JavaMemoryCompiler.Compilation.Cache(
+				Integer.valueOf(resolveConfigValue(config, Configuration.Key.COMPILATION_CACHE_MAX_ENTRIES_IN_MEMORY)),
+				Boolean.valueOf(resolveConfigValue(config, Configuration.Key.COMPILATION_CACHE_DISK_TIER_ENABLED)) ?
+					FileSystemHelper.getOrCreatePersistentFolder("compiledClassesRepository/compilation-cache") :
+					null,
+				Integer.valueOf(resolveConfigValue(config, Configuration.Key.COMPILATION_CACHE_DISK_TIER_MAX_ENTRIES))
+			);
+		}
+		int fileManagerPoolMaxIdlePerClassPath = Integer.valueOf(
+			resolveConfigValue(config, Configuration.Key.FILE_MANAGER_POOL_MAX_IDLE_PER_CLASS_PATH)
+		);
+		if (fileManagerPoolMaxIdlePerClassPath > 0) {
+			this.fileManagerPool = new FileManagerPool(
+				compiler,
+				Integer.valueOf(resolveConfigValue(config, Configuration.Key.FILE_MANAGER_POOL_MAX_CLASS_PATHS)),
+				fileManagerPoolMaxIdlePerClassPath
+			);
+		}
+	}
+
+	private String resolveConfigValue(Map<?, ?> config, String key) {
+		return IterableObjectHelper.resolveStringValue(
+			ResolveConfig.forNamedKey(key)
+			.on(config)
+			.withDefaultValues(Configuration.DEFAULT_VALUES)
+		).trim();
+	}
+
+	@Override
+	public JavaMemoryCompiler.Compilation.Cache getCompilationCache() {
+		return compilationCache;
 	}
 
 
@@ -161,6 +201,22 @@ public class JavaMemoryCompilerImpl implements JavaMemoryCompiler, Component {
 		Map<String, String> extraOptions
 	) {
 		ProducerTask<JavaMemoryCompiler.Compilation.Result> tsk = BackgroundExecutor.createProducerTask(task -> {
+			JavaMemoryCompiler.Compilation.Cache compilationCache = this.compilationCache;
+			String compilationCacheKey = compilationCache != null ?
+				compilationCache.computeKey(sources, classPaths, classRepositoriesPaths, blackListedClassPaths, extraOptions) :
+				null;
+			JavaMemoryCompiler.Compilation.Cache.Item compilationCacheItem = compilationCacheKey != null ?
+				compilationCache.get(compilationCacheKey) :
+				null;
+			if (compilationCacheItem != null) {
+				Map<String, ByteBuffer> compiledFiles = compilationCacheItem.getCompiledFiles();
+				String storedFilesClassPath = storeCompiledFiles(compiledFiles, compiledClassesStorage, useTemporaryFolderForStoring);
+				ManagedLoggerRepository.logInfo(getClass()::getName, "Classes {} have been retrieved from the compilation cache", String.join(", ", compiledFiles.keySet()));
+				return new JavaMemoryCompiler.Compilation.Result(
+					storedFilesClassPath  != null ? FileSystemItem.ofPath(storedFilesClassPath) : null,
+					compiledFiles, compilationCacheItem.getDependencies()
+				);
+			}
 			ManagedLoggerRepository.logInfo(getClass()::getName, "Try to compile: \n\n{}\n", String.join("\n", SourceCodeHandler.addLineCounter(sources)));
 			Collection<MemorySource> memorySources = new ArrayList<>();
 			sourcesToMemorySources(sources, memorySources);
@@ -174,12 +230,10 @@ public class JavaMemoryCompilerImpl implements JavaMemoryCompiler, Component {
 				)
 			) {
 				Map<String, ByteBuffer> compiledFiles = compile(context);
-				String storedFilesClassPath = retrieveCompiledClassesStorage(compiledClassesStorage, useTemporaryFolderForStoring);
-				if (!compiledFiles.isEmpty() && compiledClassesStorage != null ) {
-					compiledFiles.forEach((className, byteCode) -> {
-						JavaClass.use(byteCode, (javaClass) -> javaClass.storeToClassPath(storedFilesClassPath));
-					});
+				if (compilationCacheKey != null && !compiledFiles.isEmpty()) {
+					compilationCache.put(compilationCacheKey, compiledFiles, context.classPaths);
 				}
+				String storedFilesClassPath = storeCompiledFiles(compiledFiles, compiledClassesStorage, useTemporaryFolderForStoring);
 				Collection<String> classNames = compiledFiles.keySet();
 				ManagedLoggerRepository.logInfo(getClass()::getName,
 					classNames.size() > 1?
@@ -199,6 +253,16 @@ public class JavaMemoryCompilerImpl implements JavaMemoryCompiler, Component {
 	}
 
 
+	private String storeCompiledFiles(Map<String, ByteBuffer> compiledFiles, String compiledClassesStorage, boolean useTemporaryFolderForStoring) {
+		String storedFilesClassPath = retrieveCompiledClassesStorage(compiledClassesStorage, useTemporaryFolderForStoring);
+		if (!compiledFiles.isEmpty() && compiledClassesStorage != null ) {
+			compiledFiles.forEach((className, byteCode) -> {
+				JavaClass.use(byteCode, (javaClass) -> javaClass.storeToClassPath(storedFilesClassPath));
+			});
+		}
+		return storedFilesClassPath;
+	}
+
 	private String retrieveCompiledClassesStorage(String compiledClassesStorage, boolean useTemporaryFolderForStoring) {
 		String storedFilesClassPath = null;
 		if (compiledClassesStorage != null) {
@@ -238,16 +302,22 @@ public class JavaMemoryCompilerImpl implements JavaMemoryCompiler, Component {
 			});
 		}
 		DiagnosticListener diagnosticListener = new DiagnosticListener(context);
-		try (MemoryFileManager memoryFileManager = new MemoryFileManager(
-				compiler.getStandardFileManager(diagnosticListener, null, null)
-			)
-		) {
+		FileManagerPool fileManagerPool = this.fileManagerPool;
+		FileManagerPool.PooledFileManager pooledFileManager = fileManagerPool != null ?
+			fileManagerPool.acquire(options, context.classPaths, diagnosticListener) :
+			null;
+		StandardJavaFileManager standardJavaFileManager = pooledFileManager != null ?
+			pooledFileManager.fileManager :
+			compiler.getStandardFileManager(diagnosticListener, null, null);
+		boolean reusable = false;
+		boolean done = false;
+		Map<String, ByteBuffer> compiledFiles = null;
+		try (MemoryFileManager memoryFileManager = new MemoryFileManager(standardJavaFileManager, fileManagerPool == null)) {
 			CompilationTask task = compiler.getTask(
 				null, memoryFileManager,
-				new DiagnosticListener(context), options, null,
+				diagnosticListener, options, null,
 				new ArrayList<>(context.sources)
 			);
-			boolean done = false;
 			try {
 				done = task.call();
 			} catch (Throwable currentException) {
@@ -257,22 +327,37 @@ public class JavaMemoryCompilerImpl implements JavaMemoryCompiler, Component {
 				}
 				context.setPreviousException(currentException);
 			}
-			if (!done) {
-				return compile(context);
-			} else {
-				return memoryFileManager.getCompiledFiles().stream().collect(
+			if (done) {
+				compiledFiles = memoryFileManager.getCompiledFiles().stream().collect(
 					Collectors.toMap(compiledFile ->
 						compiledFile.getName(), compiledFile ->
 						compiledFile.toByteBuffer()
 					)
 				);
+				reusable = true;
+			}
+		} finally {
+			if (pooledFileManager != null) {
+				fileManagerPool.release(options, pooledFileManager, reusable);
 			}
 		}
+		if (!done) {
+			return compile(context);
+		}
+		return compiledFiles;
+	}
+
+	FileManagerPool getFileManagerPool() {
+		return fileManagerPool;
 	}
 
 	@Override
 	public void close() {
 		closeResources(() -> compiledClassesRepository == null, task -> {
+			if (fileManagerPool != null) {
+				fileManagerPool.close();
+				fileManagerPool = null;
+			}
 			compiledClassesRepository.destroy();
 			compiledClassesRepository = null;
 			compiler = null;
@@ -442,10 +527,16 @@ public class JavaMemoryCompilerImpl implements JavaMemoryCompiler, Component {
 
 		private List<MemoryFileObject> compiledFiles;
 		private StandardJavaFileManager javaFileManager;
+		private boolean closeWrappedFileManager;
 
 		MemoryFileManager(StandardJavaFileManager javaFileManager) {
+			this(javaFileManager, true);
+		}
+
+		MemoryFileManager(StandardJavaFileManager javaFileManager, boolean closeWrappedFileManager) {
 	        super(javaFileManager);
 	        this.javaFileManager = javaFileManager;
+	        this.closeWrappedFileManager = closeWrappedFileManager;
 	        compiledFiles = new CopyOnWriteArrayList<>();
 	    }
 
@@ -467,9 +558,11 @@ public class JavaMemoryCompilerImpl implements JavaMemoryCompiler, Component {
 				compiledFile.close()
 			);
 			compiledFiles.clear();
-			Executor.run(() -> {
-				super.close();
-			});
+			if (closeWrappedFileManager) {
+				Executor.run(() -> {
+					super.close();
+				});
+			}
 			javaFileManager = null;
 		}
 
@@ -511,6 +604,144 @@ public class JavaMemoryCompilerImpl implements JavaMemoryCompiler, Component {
 	}
 
 
+	static class FileManagerPool implements Component {
+		private JavaCompiler compiler;
+		private int maxIdlePerClassPath;
+		private Map<String, Session> sessions;
+		private LongAdder createdCount;
+		private LongAdder reusedCount;
+
+		FileManagerPool(JavaCompiler compiler, int maxClassPaths, int maxIdlePerClassPath) {
+			this.compiler = compiler;
+			this.maxIdlePerClassPath = maxIdlePerClassPath;
+			this.sessions = new LinkedHashMap<String, Session>(16, 0.75f, true) {
+
+				private static final long serialVersionUID = 2916372585286640421L;
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<String, Session> eldest) {
+					if (size() > maxClassPaths) {
+						eldest.getValue().close();
+						return true;
+					}
+					return false;
+				}
+
+			};
+			this.createdCount = new LongAdder();
+			this.reusedCount = new LongAdder();
+		}
+
+		PooledFileManager acquire(List<String> options, Collection<String> classPaths, DiagnosticListener diagnosticListener) {
+			String key = String.join(File.pathSeparator, options);
+			String fingerprint = fingerprint(classPaths);
+			Session session;
+			synchronized (sessions) {
+				session = sessions.get(key);
+				if (session != null && !session.fingerprint.equals(fingerprint)) {
+					sessions.remove(key);
+					session.close();
+					session = null;
+				}
+				if (session == null) {
+					sessions.put(key, session = new Session(fingerprint));
+				}
+			}
+			PooledFileManager pooledFileManager = session.idleFileManagers.pollFirst();
+			if (pooledFileManager != null) {
+				reusedCount.increment();
+			} else {
+				createdCount.increment();
+				pooledFileManager = new PooledFileManager(fingerprint);
+				pooledFileManager.fileManager = compiler.getStandardFileManager(pooledFileManager, null, null);
+			}
+			pooledFileManager.diagnosticListener = diagnosticListener;
+			return pooledFileManager;
+		}
+
+		void release(List<String> options, PooledFileManager pooledFileManager, boolean reusable) {
+			pooledFileManager.diagnosticListener = null;
+			Session session;
+			synchronized (sessions) {
+				session = sessions.get(String.join(File.pathSeparator, options));
+			}
+			if (!reusable || session == null || !session.fingerprint.equals(pooledFileManager.fingerprint) ||
+				session.idleFileManagers.size() >= maxIdlePerClassPath ||
+				!session.idleFileManagers.offerFirst(pooledFileManager)
+			) {
+				close(pooledFileManager.fileManager);
+			}
+		}
+
+		private String fingerprint(Collection<String> classPaths) {
+			StringBuilder fingerprint = new StringBuilder();
+			for (String classPath : new TreeSet<>(classPaths)) {
+				File file = new File(classPath);
+				fingerprint.append(classPath).append('=').append(file.length()).append(':').append(file.lastModified()).append(';');
+			}
+			return fingerprint.toString();
+		}
+
+		private static void close(StandardJavaFileManager fileManager) {
+			Executor.run(() -> {
+				fileManager.close();
+			});
+		}
+
+		public long getCreatedCount() {
+			return createdCount.sum();
+		}
+
+		public long getReusedCount() {
+			return reusedCount.sum();
+		}
+
+		@Override
+		public void close() {
+			synchronized (sessions) {
+				sessions.values().forEach(Session::close);
+				sessions.clear();
+			}
+		}
+
+		private static class Session {
+			private String fingerprint;
+			private Deque<PooledFileManager> idleFileManagers;
+
+			private Session(String fingerprint) {
+				this.fingerprint = fingerprint;
+				this.idleFileManagers = new LinkedBlockingDeque<>();
+			}
+
+			private void close() {
+				PooledFileManager pooledFileManager;
+				while ((pooledFileManager = idleFileManagers.pollFirst()) != null) {
+					FileManagerPool.close(pooledFileManager.fileManager);
+				}
+			}
+		}
+
+		//The file manager keeps the listener it was created with, so the reports are forwarded to the one of the current compilation
+		static class PooledFileManager implements javax.tools.DiagnosticListener<JavaFileObject> {
+			private String fingerprint;
+			StandardJavaFileManager fileManager;
+			private volatile DiagnosticListener diagnosticListener;
+
+			private PooledFileManager(String fingerprint) {
+				this.fingerprint = fingerprint;
+			}
+
+			@Override
+			public void report(Diagnostic<? extends JavaFileObject> diagnostic) {
+				DiagnosticListener diagnosticListener = this.diagnosticListener;
+				if (diagnosticListener != null) {
+					diagnosticListener.report(diagnostic);
+				}
+			}
+		}
+	}
+
+
 	static class Compilation {
 
 		static class Context implements Closeable {
@@ -200,6 +200,8 @@ public class Members {
 
 	public static abstract class Handler<M extends Member, C extends MemberCriteria<M, C, ?>> {
 
+		static final Class<?>[] NO_PARAMETER_TYPES = new Class<?>[0];
+
 		public M findOne(C criteria, Class<?> classFrom) {
 			return Members.findOne(criteria, classFrom);
 		}
@@ -259,24 +261,6 @@ public class Members {
 			Driver.setAccessible((AccessibleObject)member, flag);
 		}
 
-		String getCacheKey(Class<?> targetClass, String groupName, Class<?>... arguments) {
-			if (arguments == null) {
-				arguments = new Class<?>[] {null};
-			}
-			String argumentsKey = "";
-			if (arguments != null && arguments.length > 0) {
-				StringBuffer argumentsKeyStringBuffer = new StringBuffer();
-				Stream.of(arguments).forEach(cls ->
-					argumentsKeyStringBuffer.append("/" + Optional.ofNullable(cls).map(Class::getName).orElseGet(() ->"null"))
-				);
-				argumentsKey = argumentsKeyStringBuffer.toString();
-			}
-			String cacheKey = "/" + targetClass.getName() + "@" + targetClass.hashCode() +
-				"/" + groupName +
-				argumentsKey;
-			return cacheKey;
-		}
-
 		public static abstract class OfExecutable<E extends Executable, C extends ExecutableMemberCriteria<E, C, ?>> extends Members.Handler<E, C> {
 			private Collection<String> classNamesToIgnoreToDetectTheCallingMethod;
 
@@ -530,12 +514,17 @@ public class Members {
 			Members.Handler.OfExecutable.Box<E> findDirectHandleBox(E executable) {
 				Class<?> targetClass = executable.getDeclaringClass();
 				ClassLoader targetClassClassLoader = Classes.getClassLoader(targetClass);
-				String cacheKey = getCacheKey(targetClass, "equals " + retrieveNameForCaching(executable), executable.getParameterTypes());
-				return findDirectHandleBox(executable, targetClassClassLoader, cacheKey);
+				return findDirectHandleBox(executable, targetClassClassLoader, targetClass, retrieveNameForCaching(executable), executable.getParameterTypes());
 			}
 
-			Members.Handler.OfExecutable.Box<E> findDirectHandleBox(E executable, ClassLoader classLoader, String cacheKey) {
-				return (Box<E>)Cache.uniqueKeyForExecutableAndMethodHandle.getOrUploadIfAbsent(classLoader, cacheKey, () -> {
+			Members.Handler.OfExecutable.Box<E> findDirectHandleBox(
+				E executable,
+				ClassLoader classLoader,
+				Class<?> targetClass,
+				String nameForCaching,
+				Class<?>... parameterTypes
+			) {
+				return (Box<E>)Cache.uniqueKeyForExecutableAndMethodHandle.getOrUploadIfAbsent(classLoader, targetClass, "equals", nameForCaching, parameterTypes, () -> {
 					try {
 						Class<?> methodDeclaringClass = executable.getDeclaringClass();
 						MethodHandles.Lookup consulter = Driver.getConsulter(methodDeclaringClass);
@@ -571,6 +560,7 @@ public class Members {
 				MethodHandles.Lookup consulter;
 				E executable;
 				MethodHandle handler;
+				volatile MethodHandle spreadHandler;
 
 				Box(MethodHandles.Lookup consulter, E executable, MethodHandle handler) {
 					super();
@@ -591,6 +581,20 @@ public class Members {
 					return handler;
 				}
 
+				public MethodHandle getSpreadHandler() {
+					MethodHandle spreadHandler = this.spreadHandler;
+					if (spreadHandler == null) {
+						MethodHandle handler = this.handler.asFixedArity();
+						int parameterCount = executable.getParameterCount();
+						spreadHandler = handler.asType(handler.type().generic()).asSpreader(Object[].class, parameterCount);
+						if (handler.type().parameterCount() == parameterCount) {
+							spreadHandler = MethodHandles.dropArguments(spreadHandler, 0, Object.class);
+						}
+						this.spreadHandler = spreadHandler;
+					}
+					return spreadHandler;
+				}
+
 			}
 		}
 	}
@@ -55,6 +55,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.burningwave.core.Closeable;
@@ -67,6 +68,7 @@ import org.burningwave.core.io.ByteBufferInputStream;
 @SuppressWarnings("unchecked")
 public class MemoryClassLoader extends ClassLoader implements Component, org.burningwave.core.classes.Classes.Loaders.NotificationListenerOfParentsChange {
 	Map<String, ByteBuffer> notLoadedByteCodes;
+	Map<String, Supplier<ByteBuffer>> notReadByteCodes;
 	Map<String, ByteBuffer> loadedByteCodes;
 	Map<Object, Object> clients;
 	protected boolean isClosed;
@@ -88,6 +90,7 @@ public class MemoryClassLoader extends ClassLoader implements Component, org.bur
 			((MemoryClassLoader)parentClassLoader).register(this);
 		}
 		this.notLoadedByteCodes = new ConcurrentHashMap<>();
+		this.notReadByteCodes = new ConcurrentHashMap<>();
 		this.loadedByteCodes = new ConcurrentHashMap<>();
 		this.clients = new ConcurrentHashMap<>();
 		ClassLoaders.registerNotificationListenerOfParentsChange(this);
@@ -125,8 +128,35 @@ public class MemoryClassLoader extends ClassLoader implements Component, org.bur
 		notLoadedByteCodes.put(className, byteCode);
 	}
 
+	//The byte code is read from the supplier only when it is requested for the first time
+	void addByteCode0(String className, Supplier<ByteBuffer> byteCodeSupplier) {
+		notReadByteCodes.put(className, byteCodeSupplier);
+	}
+
+	boolean hasByteCodeOf(String className) {
+		return loadedByteCodes.get(className) != null || notLoadedByteCodes.get(className) != null ||
+			notReadByteCodes.get(className) != null;
+	}
+
+	ByteBuffer getNotLoadedByteCode0(String className) {
+		ByteBuffer byteCode = notLoadedByteCodes.get(className);
+		if (byteCode == null) {
+			Supplier<ByteBuffer> byteCodeSupplier = notReadByteCodes.get(className);
+			if (byteCodeSupplier != null) {
+				byteCode = byteCodeSupplier.get();
+				ByteBuffer alreadyReadByteCode = notLoadedByteCodes.putIfAbsent(className, byteCode);
+				if (alreadyReadByteCode != null) {
+					byteCode = alreadyReadByteCode;
+				}
+				notReadByteCodes.remove(className, byteCodeSupplier);
+			}
+		}
+		return byteCode;
+	}
+
     public Map.Entry<String, ByteBuffer> getNotLoadedByteCode(String className) {
     	try {
+    		getNotLoadedByteCode0(className);
         	for (Map.Entry<String, ByteBuffer> entry : notLoadedByteCodes.entrySet()){
         	    if (entry.getKey().equals(className)) {
         	    	return entry;
@@ -144,7 +174,7 @@ public class MemoryClassLoader extends ClassLoader implements Component, org.bur
 
     public ByteBuffer getByteCodeOf(String className) {
     	try {
-    		return Optional.ofNullable(notLoadedByteCodes.get(className)).orElseGet(() -> Optional.ofNullable(loadedByteCodes.get(className)).orElseGet(() -> null));
+    		return Optional.ofNullable(getNotLoadedByteCode0(className)).orElseGet(() -> Optional.ofNullable(loadedByteCodes.get(className)).orElseGet(() -> null));
     	} catch (Throwable exc) {
     		if (!isClosed) {
     			throw exc;
@@ -301,7 +331,7 @@ public class MemoryClassLoader extends ClassLoader implements Component, org.bur
 			String className = classRelativePath.substring(0, classRelativePath.lastIndexOf(".class")).replace("/", ".");
 			ByteBuffer byteCode = loadedByteCodes.get(className);
 			if (byteCode == null) {
-				byteCode = notLoadedByteCodes.get(className);
+				byteCode = getNotLoadedByteCode0(className);
 			}
 			return byteCode;
     	} catch (Throwable exc) {
@@ -332,7 +362,7 @@ public class MemoryClassLoader extends ClassLoader implements Component, org.bur
     protected Class<?> findClass(String className) throws ClassNotFoundException {
 		Class<?> cls = null;
 		try {
-			ByteBuffer byteCode = notLoadedByteCodes.get(className);
+			ByteBuffer byteCode = getNotLoadedByteCode0(className);
 			if (byteCode != null) {
 				try {
 					cls = _defineClass(className, byteCode, null);
@@ -391,6 +421,7 @@ public class MemoryClassLoader extends ClassLoader implements Component, org.bur
 
 	public void removeNotLoadedBytecode(String className) {
 		try {
+			notReadByteCodes.remove(className);
 			notLoadedByteCodes.remove(className);
     	} catch (Throwable exc) {
     		if (!isClosed) {
@@ -412,11 +443,13 @@ public class MemoryClassLoader extends ClassLoader implements Component, org.bur
 
 	public Collection<Class<?>> forceBytecodesLoading() {
 		Collection<Class<?>> loadedClasses = new HashSet<>();
-		for (Map.Entry<String, ByteBuffer> entry : new HashMap<>(notLoadedByteCodes).entrySet()){
+		Collection<String> classNames = new HashSet<>(notLoadedByteCodes.keySet());
+		classNames.addAll(notReadByteCodes.keySet());
+		for (String className : classNames){
 			try {
-				loadedClasses.add(loadClass(entry.getKey()));
+				loadedClasses.add(loadClass(className));
 			} catch (Throwable exc) {
-				ManagedLoggerRepository.logWarn(getClass()::getName, "Could not load class " + entry.getKey(), exc.getMessage());
+				ManagedLoggerRepository.logWarn(getClass()::getName, "Could not load class " + className, exc.getMessage());
 			}
 		}
 		return loadedClasses;
@@ -425,10 +458,13 @@ public class MemoryClassLoader extends ClassLoader implements Component, org.bur
 	@Override
 	public QueuedTaskExecutor.Task clearInBackground() {
 		Map<String, ByteBuffer> notLoadedByteCodes = this.notLoadedByteCodes;
+		Map<String, Supplier<ByteBuffer>> notReadByteCodes = this.notReadByteCodes;
 		Map<String, ByteBuffer> loadedByteCodes = this.loadedByteCodes;
 		this.notLoadedByteCodes = new HashMap<>();
+		this.notReadByteCodes = new HashMap<>();
 		this.loadedByteCodes = new HashMap<>();
 		return BackgroundExecutor.createTask(task -> {
+			notReadByteCodes.clear();
 			IterableObjectHelper.deepClear(notLoadedByteCodes);
 			IterableObjectHelper.deepClear(loadedByteCodes);
 		}, Thread.MIN_PRIORITY).submit();
@@ -514,6 +550,7 @@ public class MemoryClassLoader extends ClassLoader implements Component, org.bur
 			}
 			clearInBackground();
 			notLoadedByteCodes = null;
+			notReadByteCodes = null;
 			loadedByteCodes = null;
 			Driver.getLoadedClassesRetriever(this).clear();
 			unregister();
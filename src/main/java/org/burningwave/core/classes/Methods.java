@@ -111,7 +111,7 @@ public class Methods extends Members.Handler.OfExecutable<Method, MethodCriteria
 		String methodName,
 		Class<?>... inputParameterTypesOrSubTypes
 	) {
-		return findAllByNamePredicateAndMakeThemAccessible(targetClass, "equals " + methodName, methodName::equals, inputParameterTypesOrSubTypes);
+		return findAllByNamePredicateAndMakeThemAccessible(targetClass, "equals", methodName, methodName::equals, inputParameterTypesOrSubTypes);
 	}
 
 	public Collection<Method> findAllByMatchedNameAndMakeThemAccessible(
@@ -119,31 +119,28 @@ public class Methods extends Members.Handler.OfExecutable<Method, MethodCriteria
 		String methodName,
 		Class<?>... inputParameterTypesOrSubTypes
 	) {
-		return findAllByNamePredicateAndMakeThemAccessible(targetClass, "match " + methodName, methodName::matches, inputParameterTypesOrSubTypes);
+		return findAllByNamePredicateAndMakeThemAccessible(targetClass, "match", methodName, methodName::matches, inputParameterTypesOrSubTypes);
 	}
 
 	private Collection<Method> findAllByNamePredicateAndMakeThemAccessible(
 		Class<?> targetClass,
-		String cacheKeyPrefix,
+		String groupName,
+		String methodName,
 		Predicate<String> namePredicate,
 		Class<?>... inputParameterTypesOrSubTypes
 	) {
-		String cacheKey = getCacheKey(targetClass, cacheKeyPrefix, inputParameterTypesOrSubTypes);
 		ClassLoader targetClassClassLoader = Classes.getClassLoader(targetClass);
-		return Cache.uniqueKeyForMethods.getOrUploadIfAbsent(targetClassClassLoader, cacheKey, () -> {
+		return Cache.uniqueKeyForMethods.getOrUploadIfAbsent(targetClassClassLoader, targetClass, groupName, methodName, inputParameterTypesOrSubTypes, () -> {
 			MethodCriteria criteria = MethodCriteria.forEntireClassHierarchy()
 				.name(namePredicate)
 				.and().parameterTypesAreAssignableFrom(inputParameterTypesOrSubTypes);
 			if (inputParameterTypesOrSubTypes != null && inputParameterTypesOrSubTypes.length == 0) {
 				criteria = criteria.or(MethodCriteria.forEntireClassHierarchy().name(namePredicate).and().parameter((parameters, idx) -> parameters.length == 1 && parameters[0].isVarArgs()));
 			}
-			MethodCriteria finalCriteria = criteria;
-			return Cache.uniqueKeyForMethods.getOrUploadIfAbsent(targetClassClassLoader, cacheKey, () ->
-				findAllAndApply(
-						finalCriteria, targetClass, (member) -> {
-						setAccessible(member, true);
-					}
-				)
+			return findAllAndApply(
+				criteria, targetClass, (member) -> {
+					setAccessible(member, true);
+				}
 			);
 		});
 	}
@@ -151,10 +148,9 @@ public class Methods extends Members.Handler.OfExecutable<Method, MethodCriteria
 	public Collection<Method> findAllAndMakeThemAccessible(
 		Class<?> targetClass
 	) {
-		String cacheKey = getCacheKey(targetClass, "all methods");
 		ClassLoader targetClassClassLoader = Classes.getClassLoader(targetClass);
 		Collection<Method> members = Cache.uniqueKeyForMethods.getOrUploadIfAbsent(
-			targetClassClassLoader, cacheKey, () -> {
+			targetClassClassLoader, targetClass, "all methods", null, NO_PARAMETER_TYPES, () -> {
 				return findAllAndMakeThemAccessible(
 					MethodCriteria.forEntireClassHierarchy(), targetClass
 				);
@@ -241,23 +237,39 @@ public class Methods extends Members.Handler.OfExecutable<Method, MethodCriteria
 	private <T> T invokeDirect(Class<?> targetClass, Object target, String methodName, Supplier<List<Object>> listSupplier,  Object... arguments) {
 		Class<?>[] argsType = Classes.retrieveFrom(arguments);
 		Members.Handler.OfExecutable.Box<Method> methodHandleBox = findDirectHandleBox(targetClass, methodName, argsType);
+		Method method = methodHandleBox.getExecutable();
+		if (arguments != null && !method.isVarArgs() && method.getParameterCount() == arguments.length) {
+			MethodHandle spreadHandler = methodHandleBox.getSpreadHandler();
+			return Executor.get(() ->
+				(T)spreadHandler.invokeExact(target, arguments)
+			);
+		}
 		return Executor.get(() -> {
-				Method method = methodHandleBox.getExecutable();
 				List<Object> argumentList = getFlatArgumentList(method, listSupplier, arguments);
 				return (T)methodHandleBox.getHandler().invokeWithArguments(argumentList);
 			}
 		);
 	}
 
+	public <T> Invoker<T> bind(Class<?> targetClass, String methodName, Class<?>... inputParameterTypesOrSubTypes) {
+		MethodHandle spreadHandler = findDirectHandleBox(targetClass, methodName, inputParameterTypesOrSubTypes).getSpreadHandler();
+		return (target, arguments) -> {
+			try {
+				return (T)spreadHandler.invokeExact(target, arguments);
+			} catch (Throwable exc) {
+				return Driver.throwException(exc);
+			}
+		};
+	}
+
 	public MethodHandle findDirectHandle(Class<?> targetClass, String methodName, Class<?>... inputParameterTypesOrSubTypes) {
 		return findDirectHandleBox(targetClass, methodName, inputParameterTypesOrSubTypes).getHandler();
 	}
 
 	private Members.Handler.OfExecutable.Box<Method> findDirectHandleBox(Class<?> targetClass, String methodName, Class<?>... inputParameterTypesOrSubTypes) {
-		String cacheKey = getCacheKey(targetClass, "equals " + methodName, inputParameterTypesOrSubTypes);
 		ClassLoader targetClassClassLoader = Classes.getClassLoader(targetClass);
 		Members.Handler.OfExecutable.Box<Method> entry =
-			(Box<Method>)Cache.uniqueKeyForExecutableAndMethodHandle.get(targetClassClassLoader, cacheKey);
+			(Box<Method>)Cache.uniqueKeyForExecutableAndMethodHandle.get(targetClassClassLoader, targetClass, "equals", methodName, inputParameterTypesOrSubTypes);
 		if (entry == null) {
 			Method method = findFirstAndMakeItAccessible(targetClass, methodName, inputParameterTypesOrSubTypes);
 			if (method == null) {
@@ -270,7 +282,7 @@ public class Methods extends Members.Handler.OfExecutable<Method, MethodCriteria
 				);
 			}
 			entry = findDirectHandleBox(
-				method, targetClassClassLoader, cacheKey
+				method, targetClassClassLoader, targetClass, methodName, inputParameterTypesOrSubTypes
 			);
 		}
 		return entry;
@@ -297,6 +309,13 @@ public class Methods extends Members.Handler.OfExecutable<Method, MethodCriteria
 		return method.getName();
 	}
 
+	@FunctionalInterface
+	public static interface Invoker<T> {
+
+		public T invoke(Object target, Object... arguments);
+
+	}
+
 	public static class NoSuchMethodException extends RuntimeException {
 
 		private static final long serialVersionUID = -2912826056405333039L;
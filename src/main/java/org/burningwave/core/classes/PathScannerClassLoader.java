@@ -148,7 +148,7 @@ public class PathScannerClassLoader extends org.burningwave.core.classes.MemoryC
 		try {
 			for (String path : paths) {
 				if (checkForAddedClasses.test(path) || !hasBeenCompletelyLoaded(path)) {
-					Synchronizer.execute(instanceId + "_" + path, () -> {
+					Synchronizer.execute(this, path, () -> {
 						if (checkForAddedClasses.test(path) || !hasBeenCompletelyLoaded(path)) {
 							FileSystemItem pathFIS = FileSystemItem.ofPath(path);
 							if (checkForAddedClasses.test(path)) {
@@ -30,14 +30,23 @@
 package org.burningwave.core.classes;
 
 
+import static org.burningwave.core.assembler.StaticComponentContainer.Classes;
 import static org.burningwave.core.assembler.StaticComponentContainer.Fields;
 import static org.burningwave.core.assembler.StaticComponentContainer.Methods;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Array;
 import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -49,6 +58,8 @@ import org.burningwave.core.function.ThrowingFunction;
 public abstract class PropertyAccessor implements Component {
 	public final static String REG_EXP_FOR_JAVA_PROPERTIES = "([a-zA-Z\\$\\_\\-0-9]*)(\\[*.*)";
 	public final static String REG_EXP_FOR_INDEXES_OF_JAVA_INDEXED_PROPERTIES = "\\[([a-zA-Z0-9]*)\\]";
+	private final static Pattern PATTERN_FOR_JAVA_PROPERTIES = Pattern.compile(REG_EXP_FOR_JAVA_PROPERTIES);
+	private final static Pattern PATTERN_FOR_INDEXES_OF_JAVA_INDEXED_PROPERTIES = Pattern.compile(REG_EXP_FOR_INDEXES_OF_JAVA_INDEXED_PROPERTIES);
 
 	private List<ThrowingBiFunction<Object, String, Object, Throwable>> propertyRetrievers;
 	private List<ThrowingFunction<Object[], Boolean, Throwable>> propertySetters;
@@ -63,6 +74,12 @@ public abstract class PropertyAccessor implements Component {
 
 	abstract List<ThrowingBiFunction<Object, String, Object, Throwable>> getPropertyRetrievers();
 
+	abstract boolean isAccessByFieldPreferred();
+
+	public CompiledPath compile(Class<?> rootType, String propertyPath) {
+		return new CompiledPath(this, rootType, propertyPath);
+	}
+
 	@SuppressWarnings("unchecked")
 	public <T> T get(Object obj, String propertyPath) {
 		String[] propertyAddress = propertyPath.split("\\.");
@@ -76,7 +93,7 @@ public abstract class PropertyAccessor implements Component {
 
 	private Object getProperty(Object obj, String property) {
 		Object objToReturn = null;
-		Matcher matcher = Pattern.compile(REG_EXP_FOR_JAVA_PROPERTIES).matcher(property);
+		Matcher matcher = PATTERN_FOR_JAVA_PROPERTIES.matcher(property);
 		matcher.find();
 		List<Throwable> exceptions = new ArrayList<>();
 		for (ThrowingBiFunction<Object, String, Object, Throwable> retriever : propertyRetrievers) {
@@ -138,7 +155,7 @@ public abstract class PropertyAccessor implements Component {
 
 
 	private Object retrieveFromIndexedProperty(Object property, String indexes) {
-		Matcher matcher = Pattern.compile(REG_EXP_FOR_INDEXES_OF_JAVA_INDEXED_PROPERTIES).matcher(indexes);
+		Matcher matcher = PATTERN_FOR_INDEXES_OF_JAVA_INDEXED_PROPERTIES.matcher(indexes);
 		if (matcher.find()) {
 			String index = matcher.group(1);
 			Supplier<Object> propertyRetriever = null;
@@ -174,7 +191,7 @@ public abstract class PropertyAccessor implements Component {
 
 	@SuppressWarnings("unchecked")
 	private <T> void setInIndexedProperty(Object property, String indexes, Object value) {
-		Matcher matcher = Pattern.compile(REG_EXP_FOR_INDEXES_OF_JAVA_INDEXED_PROPERTIES).matcher(indexes);
+		Matcher matcher = PATTERN_FOR_INDEXES_OF_JAVA_INDEXED_PROPERTIES.matcher(indexes);
 		int lastIndexOf = 0;
 		String index = null;
 		while (matcher.find()) {
@@ -194,7 +211,7 @@ public abstract class PropertyAccessor implements Component {
 	}
 
 	Boolean setPropertyByField(Object target, String propertyPath, Object value) throws IllegalAccessException {
-		Matcher matcher = Pattern.compile(REG_EXP_FOR_JAVA_PROPERTIES).matcher(propertyPath);
+		Matcher matcher = PATTERN_FOR_JAVA_PROPERTIES.matcher(propertyPath);
 		matcher.find();
 		Field field = Fields.findOneAndMakeItAccessible(target.getClass(),
 				matcher.group(1));
@@ -207,7 +224,7 @@ public abstract class PropertyAccessor implements Component {
 	}
 
 	Boolean setPropertyByMethod(Object target, String propertyPath, Object value) {
-		Matcher matcher = Pattern.compile(REG_EXP_FOR_JAVA_PROPERTIES).matcher(propertyPath);
+		Matcher matcher = PATTERN_FOR_JAVA_PROPERTIES.matcher(propertyPath);
 		matcher.find();
 		if (matcher.group(2).isEmpty()) {
 			Methods.invokeDirect(
@@ -231,6 +248,11 @@ public abstract class PropertyAccessor implements Component {
 			return new ByFieldOrByMethod();
 		}
 
+		@Override
+		boolean isAccessByFieldPreferred() {
+			return true;
+		}
+
 		@Override
 		List<ThrowingBiFunction<Object, String, Object, Throwable>> getPropertyRetrievers() {
 			List<ThrowingBiFunction<Object, String, Object, Throwable>> propertyRetrievers = new ArrayList<>();
@@ -259,6 +281,11 @@ public abstract class PropertyAccessor implements Component {
 			return new ByMethodOrByField();
 		}
 
+		@Override
+		boolean isAccessByFieldPreferred() {
+			return false;
+		}
+
 		@Override
 		List<ThrowingBiFunction<Object, String, Object, Throwable>> getPropertyRetrievers() {
 			List<ThrowingBiFunction<Object, String, Object, Throwable>> propertyRetrievers = new ArrayList<>();
@@ -275,4 +302,297 @@ public abstract class PropertyAccessor implements Component {
 			return propertySetters;
 		}
 	}
+
+	public static class CompiledPath {
+		private final String propertyPath;
+		private final Step[] steps;
+
+		private CompiledPath(PropertyAccessor propertyAccessor, Class<?> rootType, String propertyPath) {
+			this.propertyPath = propertyPath;
+			List<String> propertyAddress = new ArrayList<>();
+			int startIndex = 0;
+			int separatorIndex;
+			while ((separatorIndex = propertyPath.indexOf('.', startIndex)) != -1) {
+				propertyAddress.add(propertyPath.substring(startIndex, separatorIndex));
+				startIndex = separatorIndex + 1;
+			}
+			propertyAddress.add(propertyPath.substring(startIndex));
+			this.steps = new Step[propertyAddress.size()];
+			for (int i = 0; i < steps.length; i++) {
+				steps[i] = new Step(propertyAccessor, propertyAddress.get(i));
+			}
+			if (rootType != null) {
+				steps[0].retrieveGetter(rootType);
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		public <T> T get(Object obj) {
+			Object objToReturn = obj;
+			for (Step step : steps) {
+				objToReturn = step.get(objToReturn);
+			}
+			return (T)objToReturn;
+		}
+
+		public void set(Object obj, Object value) {
+			Object target = obj;
+			int lastStepIndex = steps.length - 1;
+			for (int i = 0; i < lastStepIndex; i++) {
+				target = steps[i].get(target);
+			}
+			steps[lastStepIndex].set(target, value);
+		}
+
+		public String getPropertyPath() {
+			return propertyPath;
+		}
+
+		@Override
+		public String toString() {
+			return propertyPath;
+		}
+
+		private static class Step {
+			private final PropertyAccessor propertyAccessor;
+			private final String name;
+			private final String[] indexes;
+			private final Integer[] numericIndexes;
+			private final Map<Class<?>, Getter> getters;
+			private final Map<Class<?>, Map<Class<?>, Setter>> setters;
+			private volatile Getter lastUsedGetter;
+			private volatile Setter lastUsedSetter;
+
+			private Step(PropertyAccessor propertyAccessor, String property) {
+				this.propertyAccessor = propertyAccessor;
+				int indexesStartIndex = property.indexOf('[');
+				List<String> indexes = new ArrayList<>();
+				if (indexesStartIndex != -1) {
+					this.name = property.substring(0, indexesStartIndex);
+					int indexStartIndex = indexesStartIndex;
+					while (indexStartIndex != -1) {
+						int indexEndIndex = property.indexOf(']', indexStartIndex);
+						if (indexEndIndex == -1) {
+							org.burningwave.core.assembler.StaticComponentContainer.Driver.throwException("Unclosed index in property {}", property);
+						}
+						indexes.add(property.substring(indexStartIndex + 1, indexEndIndex));
+						indexStartIndex = property.indexOf('[', indexEndIndex);
+					}
+				} else {
+					this.name = property;
+				}
+				this.indexes = indexes.toArray(new String[indexes.size()]);
+				this.numericIndexes = new Integer[this.indexes.length];
+				for (int i = 0; i < this.indexes.length; i++) {
+					try {
+						numericIndexes[i] = Integer.valueOf(this.indexes[i]);
+					} catch (NumberFormatException exc) {
+						//The index is a map key
+					}
+				}
+				this.getters = new ConcurrentHashMap<>();
+				this.setters = new ConcurrentHashMap<>();
+			}
+
+			Object get(Object target) {
+				Object property = retrieveGetter(target.getClass()).get(target);
+				for (int i = 0; i < indexes.length; i++) {
+					property = getFromIndexedProperty(property, i);
+				}
+				return property;
+			}
+
+			void set(Object target, Object value) {
+				if (indexes.length == 0) {
+					retrieveSetter(target.getClass(), Classes.retrieveFrom(value)).set(target, value);
+					return;
+				}
+				Object property = retrieveGetter(target.getClass()).get(target);
+				int lastIndex = indexes.length - 1;
+				for (int i = 0; i < lastIndex; i++) {
+					property = getFromIndexedProperty(property, i);
+				}
+				setInIndexedProperty(property, lastIndex, value);
+			}
+
+			Getter retrieveGetter(Class<?> receiverClass) {
+				Getter getter = lastUsedGetter;
+				if (getter == null || getter.receiverClass != receiverClass) {
+					lastUsedGetter = getter = getters.computeIfAbsent(receiverClass, this::createGetter);
+				}
+				return getter;
+			}
+
+			private Setter retrieveSetter(Class<?> receiverClass, Class<?> valueClass) {
+				Setter setter = lastUsedSetter;
+				if (setter == null || setter.receiverClass != receiverClass || setter.valueClass != valueClass) {
+					lastUsedSetter = setter = setters.computeIfAbsent(receiverClass, cls -> new ConcurrentHashMap<>()).computeIfAbsent(
+						valueClass != null ? valueClass : void.class, cls -> createSetter(receiverClass, valueClass)
+					);
+				}
+				return setter;
+			}
+
+			private Getter createGetter(Class<?> receiverClass) {
+				Function<Object, Object> getterByField = createGetterByField(receiverClass);
+				Function<Object, Object> getterByMethod = createGetterByMethod(receiverClass);
+				if (getterByField == null && getterByMethod == null) {
+					org.burningwave.core.assembler.StaticComponentContainer.Driver.throwException(
+						"Property {} not found in {} hierarchy", name, receiverClass.getName()
+					);
+				}
+				return propertyAccessor.isAccessByFieldPreferred() ?
+					new Getter(receiverClass, getterByField, getterByMethod) :
+					new Getter(receiverClass, getterByMethod, getterByField);
+			}
+
+			private Function<Object, Object> createGetterByField(Class<?> receiverClass) {
+				Collection<Field> fields = Fields.findAllByExactNameAndMakeThemAccessible(receiverClass, name);
+				if (fields.isEmpty()) {
+					return null;
+				}
+				Field field = fields.iterator().next();
+				return target -> Fields.getDirect(target, field);
+			}
+
+			private Function<Object, Object> createGetterByMethod(Class<?> receiverClass) {
+				String methodName = Methods.createGetterMethodNameByPropertyName(name);
+				Method method = Methods.findFirstAndMakeItAccessible(receiverClass, methodName);
+				if (method == null || Modifier.isStatic(method.getModifiers())) {
+					return null;
+				}
+				MethodHandle methodHandle = Methods.findDirectHandle(receiverClass, methodName).asType(
+					MethodType.methodType(Object.class, Object.class)
+				);
+				return target -> {
+					try {
+						return methodHandle.invokeExact(target);
+					} catch (Throwable exc) {
+						return org.burningwave.core.assembler.StaticComponentContainer.Driver.throwException(exc);
+					}
+				};
+			}
+
+			private Setter createSetter(Class<?> receiverClass, Class<?> valueClass) {
+				BiConsumer<Object, Object> setterByField = createSetterByField(receiverClass);
+				BiConsumer<Object, Object> setterByMethod = null;
+				if (setterByField == null || !propertyAccessor.isAccessByFieldPreferred()) {
+					setterByMethod = createSetterByMethod(receiverClass, valueClass);
+				}
+				if (setterByField == null && setterByMethod == null) {
+					org.burningwave.core.assembler.StaticComponentContainer.Driver.throwException(
+						"Property {} not found in {} hierarchy", name, receiverClass.getName()
+					);
+				}
+				return new Setter(
+					receiverClass,
+					valueClass,
+					propertyAccessor.isAccessByFieldPreferred() ?
+						(setterByField != null ? setterByField : setterByMethod) :
+						(setterByMethod != null ? setterByMethod : setterByField)
+				);
+			}
+
+			private BiConsumer<Object, Object> createSetterByField(Class<?> receiverClass) {
+				Collection<Field> fields = Fields.findAllByExactNameAndMakeThemAccessible(receiverClass, name);
+				if (fields.size() != 1) {
+					return null;
+				}
+				Field field = fields.iterator().next();
+				return (target, value) -> Fields.setDirect(target, field, value);
+			}
+
+			private BiConsumer<Object, Object> createSetterByMethod(Class<?> receiverClass, Class<?> valueClass) {
+				String methodName = Methods.createSetterMethodNameByPropertyName(name);
+				Method method = Methods.findFirstAndMakeItAccessible(receiverClass, methodName, valueClass);
+				if (method == null || Modifier.isStatic(method.getModifiers()) || method.getParameterCount() != 1) {
+					return null;
+				}
+				MethodHandle methodHandle = Methods.findDirectHandle(receiverClass, methodName, valueClass).asType(
+					MethodType.methodType(void.class, Object.class, Object.class)
+				);
+				return (target, value) -> {
+					try {
+						methodHandle.invokeExact(target, value);
+					} catch (Throwable exc) {
+						org.burningwave.core.assembler.StaticComponentContainer.Driver.throwException(exc);
+					}
+				};
+			}
+
+			@SuppressWarnings("unchecked")
+			private Object getFromIndexedProperty(Object property, int indexPosition) {
+				if (property instanceof List) {
+					return ((List<?>)property).get(getNumericIndex(indexPosition));
+				} else if (property instanceof Map) {
+					return ((Map<String, ?>)property).get(indexes[indexPosition]);
+				} else if (property != null && property.getClass().isArray()) {
+					return Array.get(property, getNumericIndex(indexPosition));
+				}
+				return org.burningwave.core.assembler.StaticComponentContainer.Driver.throwException(
+					"indexed property {} of type {} is not supporterd", property, property != null ? property.getClass() : null
+				);
+			}
+
+			@SuppressWarnings("unchecked")
+			private void setInIndexedProperty(Object property, int indexPosition, Object value) {
+				if (property instanceof List) {
+					((List<Object>)property).set(getNumericIndex(indexPosition), value);
+				} else if (property instanceof Map) {
+					((Map<String, Object>)property).put(indexes[indexPosition], value);
+				} else if (property != null && property.getClass().isArray()) {
+					Array.set(property, getNumericIndex(indexPosition), value);
+				} else {
+					org.burningwave.core.assembler.StaticComponentContainer.Driver.throwException(
+						"indexed property {} of type {} is not supporterd", property, property != null ? property.getClass() : null
+					);
+				}
+			}
+
+			private int getNumericIndex(int indexPosition) {
+				Integer numericIndex = numericIndexes[indexPosition];
+				if (numericIndex == null) {
+					return Integer.valueOf(indexes[indexPosition]);
+				}
+				return numericIndex;
+			}
+
+		}
+
+		private static class Getter {
+			private final Class<?> receiverClass;
+			private final Function<Object, Object> first;
+			private final Function<Object, Object> second;
+
+			private Getter(Class<?> receiverClass, Function<Object, Object> first, Function<Object, Object> second) {
+				this.receiverClass = receiverClass;
+				this.first = first != null ? first : second;
+				this.second = first != null ? second : null;
+			}
+
+			Object get(Object target) {
+				Object value = first.apply(target);
+				if (value == null && second != null) {
+					value = second.apply(target);
+				}
+				return value;
+			}
+		}
+
+		private static class Setter {
+			private final Class<?> receiverClass;
+			private final Class<?> valueClass;
+			private final BiConsumer<Object, Object> setter;
+
+			private Setter(Class<?> receiverClass, Class<?> valueClass, BiConsumer<Object, Object> setter) {
+				this.receiverClass = receiverClass;
+				this.valueClass = valueClass;
+				this.setter = setter;
+			}
+
+			void set(Object target, Object value) {
+				setter.accept(target, value);
+			}
+		}
+	}
 }
@@ -64,6 +64,7 @@ public class SearchConfig implements Closeable {
 	Predicate<FileSystemItem> refreshPathIf;
 
 	Boolean fileFiltersExtenallySet;
+	boolean defaultFileFilterChecksOnlyFileName;
 	Function<FileSystemItem, FileSystemItem.Criteria> fileFilterSupplier;
 	Function<FileSystemItem, FileSystemItem.Criteria> additionalFileFilterSupplier;
 	ClassCriteria classCriteria;
@@ -157,6 +158,12 @@ public class SearchConfig implements Closeable {
 					.on(classPathScanner.config)
 				)
 			);
+			defaultFileFilterChecksOnlyFileName = FileSystemItem.CheckingOption.FOR_NAME.getLabel().equals(
+				IterableObjectHelper.resolveStringValue(
+					ResolveConfig.forNamedKey(classPathScanner.getDefaultPathScannerClassLoaderCheckFileOptionsNameInConfigProperties())
+					.on(classPathScanner.config)
+				)
+			);
 		} else {
 			fileFiltersExtenallySet = Boolean.TRUE;
 		}
@@ -345,11 +352,13 @@ public class SearchConfig implements Closeable {
 
 	public SearchConfig setFileFilter(Function<FileSystemItem, FileSystemItem.Criteria> filterSupplier) {
 		this.fileFilterSupplier = filterSupplier;
+		this.defaultFileFilterChecksOnlyFileName = false;
 		return this;
 	}
 
 	public SearchConfig setFileFilter(FileSystemItem.Criteria filter) {
 		this.fileFilterSupplier = fileSystemItem -> filter;
+		this.defaultFileFilterChecksOnlyFileName = false;
 		return this;
 	}
 
@@ -482,6 +491,12 @@ public class SearchConfig implements Closeable {
 		return fileFiltersExtenallySet;
 	}
 
+	//When the file filter is the default one and it checks only the file names, the class files can be
+	//enumerated through the class path index instead of through the archive entries
+	boolean isDefaultFileFilterCheckingOnlyFileName() {
+		return defaultFileFilterChecksOnlyFileName;
+	}
+
 
 	boolean isInitialized() {
 		return pathsRetriever != null && searchContext != null;
@@ -497,6 +512,7 @@ public class SearchConfig implements Closeable {
 		destConfig.findFunctionSupplier = this.findFunctionSupplier;
 		destConfig.refreshPathIf = this.refreshPathIf;
 		destConfig.fileFilterSupplier = this.fileFilterSupplier;
+		destConfig.defaultFileFilterChecksOnlyFileName = this.defaultFileFilterChecksOnlyFileName;
 		destConfig.additionalFileFilterSupplier = this.additionalFileFilterSupplier;
 		destConfig.pathsSupplier = this.pathsSupplier;
 		destConfig.optimizePaths = this.optimizePaths;
@@ -36,6 +36,7 @@ import java.nio.ByteBuffer;
 import java.util.Collection;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import org.burningwave.core.Closeable;
@@ -53,7 +54,10 @@ class SearchContext<T> implements Closeable {
 	PathScannerClassLoader pathScannerClassLoader;
 	Collection<String> skippedClassNames;
 	QueuedTaskExecutor.Task searchTask;
+	Map<T, Integer> itemsFoundReferencesCount;
 	Collection<T> itemsFound;
+	Consumer<T> itemFoundConsumer;
+	Collection<String> itemsFoundKeys;
 	boolean requestToClosePathScannderClassLoaderOnClose;
 
 	Collection<String> getSkippedClassNames() {
@@ -66,6 +70,9 @@ class SearchContext<T> implements Closeable {
 	) {
 		this.itemsFoundFlatMap = new ConcurrentHashMap<>();
 		this.itemsFoundMap = new ConcurrentHashMap<>();
+		ConcurrentHashMap<T, Integer> itemsFoundReferencesCount = new ConcurrentHashMap<>();
+		this.itemsFoundReferencesCount = itemsFoundReferencesCount;
+		this.itemsFound = itemsFoundReferencesCount.keySet();
 		this.skippedClassNames = ConcurrentHashMap.newKeySet();
 		this.sharedPathScannerClassLoader = initContext.getSharedPathScannerClassLoader();
 		this.pathScannerClassLoader = initContext.getPathScannerClassLoader();
@@ -81,7 +88,12 @@ class SearchContext<T> implements Closeable {
 		return new SearchContext<>(initContext);
 	}
 
-	void executeSearch(Runnable searcher) {
+	void setItemFoundConsumer(Consumer<T> itemFoundConsumer) {
+		this.itemsFoundKeys = ConcurrentHashMap.newKeySet();
+		this.itemFoundConsumer = itemFoundConsumer;
+	}
+
+	QueuedTaskExecutor.Task executeSearch(Runnable searcher) {
 		Integer priority = searchConfig.priority;
 		Thread currentThread = Thread.currentThread();
 		int initialThreadPriority = currentThread.getPriority();
@@ -99,12 +111,15 @@ class SearchContext<T> implements Closeable {
 					currentThread.setPriority(initialThreadPriority);
 				}
 			}
+			return null;
 		} else {
-			searchTask = BackgroundExecutor.createTask(task -> {
+			QueuedTaskExecutor.Task searchTask = BackgroundExecutor.createTask(task -> {
 					searcher.run();
 				},
 				priority
-			).submit();
+			);
+			this.searchTask = searchTask;
+			return searchTask.submit();
 		}
 	}
 
@@ -120,40 +135,54 @@ class SearchContext<T> implements Closeable {
 	}
 
 	void addItemFound(String path, String key, T item) {
+		if (itemFoundConsumer != null) {
+			if (itemsFoundKeys.add(key)) {
+				itemFoundConsumer.accept(item);
+			}
+			return;
+		}
 		retrieveCollectionForPath(
 			itemsFoundMap,
 			ConcurrentHashMap::new, path
 		).put(key, item);
-		synchronized(itemsFoundFlatMap) {
-			itemsFoundFlatMap.put(key, item);
-		}
+		putInItemsFoundFlatMap(key, item);
 	}
 
 	void addAllItemsFound(String path, Map<String, T> items) {
+		if (itemFoundConsumer != null) {
+			for (Map.Entry<String, T> item : items.entrySet()) {
+				addItemFound(path, item.getKey(), item.getValue());
+			}
+			return;
+		}
 		retrieveCollectionForPath(
 			itemsFoundMap,
 			ConcurrentHashMap::new, path
 		).putAll(items);
 		for (Map.Entry<String, T> item : items.entrySet()) {
-			synchronized(itemsFoundFlatMap) {
-				itemsFoundFlatMap.put(item.getKey(), item.getValue());
-			}
+			putInItemsFoundFlatMap(item.getKey(), item.getValue());
 		}
 	}
 
+	void putInItemsFoundFlatMap(String key, T item) {
+		itemsFoundFlatMap.compute(key, (itemKey, previousItem) -> {
+			if (previousItem != item) {
+				itemsFoundReferencesCount.merge(item, 1, Integer::sum);
+				if (previousItem != null) {
+					itemsFoundReferencesCount.computeIfPresent(previousItem, (itm, count) -> count > 1 ? count - 1 : null);
+				}
+			}
+			return item;
+		});
+	}
+
 	 Map<String, T> retrieveCollectionForPath(Map<String, Map<String, T>> allItems, Supplier<Map<String, T>> mapForPathSupplier, String path) {
 		Map<String, T> items = null;
 		if (mapForPathSupplier != null) {
 			if (allItems != null) {
 				items = allItems.get(path);
 				if (items == null) {
-					synchronized(allItems) {
-						items = allItems.get(path);
-						if (items == null) {
-							items = mapForPathSupplier.get();
-							allItems.put(path, items);
-						}
-					}
+					items = allItems.computeIfAbsent(path, key -> mapForPathSupplier.get());
 				}
 			} else {
 				items = mapForPathSupplier.get();
@@ -172,14 +201,6 @@ class SearchContext<T> implements Closeable {
 	}
 
 	Collection<T> getItemsFound() {
-		if (itemsFound == null) {
-			synchronized(itemsFoundFlatMap) {
-				if (itemsFound == null) {
-					this.itemsFound = ConcurrentHashMap.newKeySet();
-					this.itemsFound.addAll(this.itemsFoundFlatMap.values());
-				}
-			}
-		}
 		return itemsFound;
 	}
 
@@ -256,6 +277,14 @@ class SearchContext<T> implements Closeable {
 		);
 	}
 
+	ClassCriteria.TestContext loadAndTest(JavaClass javaClass) {
+		ClassCriteria classCriteria = searchConfig.getClassCriteria();
+		if (classCriteria.testPreFilter(javaClass)) {
+			return test(loadClass(javaClass.getName()));
+		}
+		return classCriteria.testWithFalseResultForNullEntityOrFalseResultForNullPredicate(null);
+	}
+
 	@Override
 	public void close() {
 		pathScannerClassLoader.unregister(this, true);
@@ -264,7 +293,10 @@ class SearchContext<T> implements Closeable {
 		}
 		itemsFoundFlatMap = null;
 		itemsFoundMap = null;
+		itemsFoundReferencesCount = null;
 		itemsFound = null;
+		itemFoundConsumer = null;
+		itemsFoundKeys = null;
 		searchConfig.close();
 		searchConfig = null;
 		pathScannerClassLoader = null;
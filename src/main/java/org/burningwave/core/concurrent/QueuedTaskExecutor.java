@@ -36,6 +36,7 @@ import static org.burningwave.core.assembler.StaticComponentContainer.Objects;
 import static org.burningwave.core.assembler.StaticComponentContainer.Strings;
 import static org.burningwave.core.assembler.StaticComponentContainer.Synchronizer;
 
+import java.util.AbstractQueue;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -47,7 +48,9 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -72,7 +75,7 @@ public class QueuedTaskExecutor implements Closeable {
 	Thread.Supplier threadSupplier;
 	String name;
 	java.lang.Thread tasksLauncher;
-	List<TaskAbst<?, ?>> tasksQueue;
+	TasksQueue tasksQueue;
 	Boolean supended;
 	volatile int defaultPriority;
 	long executedTasksCount;
@@ -81,6 +84,7 @@ public class QueuedTaskExecutor implements Closeable {
 	Boolean terminated;
 	Runnable initializer;
 	boolean taskCreationTrackingEnabled;
+	int taskCreationTrackingSamplingRate;
 	Object resumeCallerMutex;
 	Object executingFinishedWaiterMutex;
 	Object suspensionCallerMutex;
@@ -95,40 +99,7 @@ public class QueuedTaskExecutor implements Closeable {
 	QueuedTaskExecutor(String name, Thread.Supplier threadSupplier, int defaultPriority, boolean isDaemon) {
 		initializer = () -> {
 			this.threadSupplier = threadSupplier;
-			tasksQueue = new CopyOnWriteArrayList<TaskAbst<?, ?>>() {
-				private static final long serialVersionUID = -176528742161426076L;
-				int min = 1500;
-				int max = 2000;
-
-				@Override
-				public boolean add(TaskAbst<?, ?> e) {
-					while (size() > max) {
-						synchronized(this) {
-							try {
-								wait();
-							} catch (Throwable exc) {
-								org.burningwave.core.assembler.StaticComponentContainer.Driver.throwException(exc);
-							}
-						}
-					}
-					return super.add(e);
-				}
-
-				@Override
-				public boolean remove(Object task) {
-					boolean removed;
-					int size;
-					if ((removed = super.remove(task)) && ((size = size()) > min) && (size < max)) {
-						//ManagedLoggerRepository.logInfo(getClass()::getName, "Collection size: {}", size);
-						synchronized(this) {
-							this.notifyAll();
-						}
-					}
-					return removed;
-				}
-
-			};
-
+			tasksQueue = new TasksQueue();
 			tasksInExecution = new ConcurrentHashMap<TaskAbst<?, ?>, TaskAbst<?, ?>>() ;
 			this.resumeCallerMutex = new Object();
 			this.executingFinishedWaiterMutex = new Object();
@@ -157,17 +128,8 @@ public class QueuedTaskExecutor implements Closeable {
 					continue;
 				}
 				if (!tasksQueue.isEmpty()) {
-					Iterator<TaskAbst<?, ?>> taskIterator = tasksQueue.iterator();
-					while (taskIterator.hasNext()) {
-						if (checkAndNotifySuspension() || terminated) {
-							break;
-						}
-						TaskAbst<?, ?> task = taskIterator.next();
-						synchronized (task) {
-							if (!tasksQueue.remove(task)) {
-								continue;
-							}
-						}
+					TaskAbst<?, ?> task;
+					while (!(checkAndNotifySuspension() || terminated) && (task = tasksQueue.poll()) != null) {
 						task.setExecutor(threadSupplier.getOrCreateThread()).start();
 					}
 				} else {
@@ -242,6 +204,35 @@ public class QueuedTaskExecutor implements Closeable {
 		return this;
 	}
 
+	public QueuedTaskExecutor setTasksCreationTrackingSamplingRate(int samplingRate) {
+		if (samplingRate < 1) {
+			throw new IllegalArgumentException("Value of tasks creation tracking sampling rate is not correct: it must be greater than 0");
+		}
+		this.taskCreationTrackingSamplingRate = samplingRate;
+		return this;
+	}
+
+	boolean isTaskCreationToBeTracked() {
+		return taskCreationTrackingEnabled && (
+			taskCreationTrackingSamplingRate < 2 ||
+			ThreadLocalRandom.current().nextInt(taskCreationTrackingSamplingRate) == 0
+		);
+	}
+
+	public QueuedTaskExecutor setTasksQueueMaxSize(int maxSize) {
+		if (maxSize < 1) {
+			throw new IllegalArgumentException("Value of tasks queue max size is not correct: it must be greater than 0");
+		}
+		tasksQueue.maxSize = maxSize;
+		tasksQueue.resumeSize = (maxSize / 4) * 3;
+		return this;
+	}
+
+	public QueuedTaskExecutor setTasksQueueFullPolicy(String policy) {
+		tasksQueue.fullPolicy = TasksQueue.FullPolicy.forValue(policy);
+		return this;
+	}
+
 	public <T> ProducerTask<T> createProducerTask(ThrowingSupplier<T, ? extends Throwable> executable) {
 		return createProducerTask(task -> executable.get());
 	}
@@ -254,7 +245,7 @@ public class QueuedTaskExecutor implements Closeable {
 	}
 
 	<T> Function<ThrowingFunction<ProducerTask<T>, T, ? extends Throwable>, ProducerTask<T>> getProducerTaskSupplier() {
-		return executable -> new ProducerTask<T>(executable, taskCreationTrackingEnabled) {
+		return executable -> new ProducerTask<T>(executable, isTaskCreationToBeTracked()) {
 
 			@Override
 			QueuedTaskExecutor getQueuedTasksExecutor() {
@@ -280,7 +271,7 @@ public class QueuedTaskExecutor implements Closeable {
 	}
 
 	<T> Function<ThrowingConsumer<QueuedTaskExecutor.Task, ? extends Throwable>, Task> getTaskSupplier() {
-		return executable -> new Task(executable, taskCreationTrackingEnabled) {
+		return executable -> new Task(executable, isTaskCreationToBeTracked()) {
 
 			@Override
 			QueuedTaskExecutor getQueuedTasksExecutor() {
@@ -298,19 +289,33 @@ public class QueuedTaskExecutor implements Closeable {
 	<E, T extends TaskAbst<E, T>> T addToQueue(T task, boolean skipCheck) {
 		Object[] canBeExecutedBag = null;
 		if (skipCheck || (Boolean)(canBeExecutedBag = canBeExecuted(task))[1]) {
+			boolean queued = true;
 			try {
-				task.creator = java.lang.Thread.currentThread();
-				Synchronizer.execute(Objects.getId(task.creator), () -> {
+				task.creator = Thread.getCurrent();
+				Synchronizer.execute(taskCreatorThreadsForChildTasks, task.creator, () -> {
 					Collection<TaskAbst<?,?>> childrenTask = taskCreatorThreadsForChildTasks.computeIfAbsent(task.creator, key -> ConcurrentHashMap.newKeySet());
 					childrenTask.add(task);
 				});
-				tasksQueue.add(task);
-				synchronized(executableCollectionFillerMutex) {
-					executableCollectionFillerMutex.notifyAll();
+				if (queued = tasksQueue.offer(task)) {
+					synchronized(executableCollectionFillerMutex) {
+						executableCollectionFillerMutex.notifyAll();
+					}
 				}
 			} catch (Throwable exc) {
 				ManagedLoggerRepository.logError(getClass()::getName, exc);
 			}
+			if (!queued) {
+				if (tasksQueue.fullPolicy == TasksQueue.FullPolicy.CALLER_RUNS) {
+					task.execute();
+				} else {
+					synchronized (task) {
+						task.aborted = true;
+						task.notifyAll();
+						task.clear();
+					}
+					throw new TaskStateException(task, "has been rejected because the tasks queue is full");
+				}
+			}
 		}
 		return canBeExecutedBag != null ? (T)canBeExecutedBag[0] : task;
 	}
@@ -331,11 +336,11 @@ public class QueuedTaskExecutor implements Closeable {
 	}
 
 	public <E, T extends TaskAbst<E, T>> QueuedTaskExecutor waitFor(T task) {
-		return waitFor(task, java.lang.Thread.currentThread().getPriority(), false);
+		return waitFor(task, Thread.getCurrent().getPriority(), false);
 	}
 
 	public <E, T extends TaskAbst<E, T>> QueuedTaskExecutor waitFor(T task, boolean ignoreDeadLocked) {
-		return waitFor(task, java.lang.Thread.currentThread().getPriority(), ignoreDeadLocked);
+		return waitFor(task, Thread.getCurrent().getPriority(), ignoreDeadLocked);
 	}
 
 	public <E, T extends TaskAbst<E, T>> QueuedTaskExecutor waitFor(T task, int priority, boolean ignoreDeadLocked) {
@@ -345,7 +350,7 @@ public class QueuedTaskExecutor implements Closeable {
 	}
 
 	public QueuedTaskExecutor waitForTasksEnding() {
-		return waitForTasksEnding(java.lang.Thread.currentThread().getPriority(), false);
+		return waitForTasksEnding(Thread.getCurrent().getPriority(), false);
 	}
 
 	public <E, T extends TaskAbst<E, T>> boolean abort(T task) {
@@ -509,7 +514,7 @@ public class QueuedTaskExecutor implements Closeable {
 	}
 
 	public QueuedTaskExecutor suspend(boolean immediately, boolean ignoreDeadLocked) {
-		return suspend0(immediately, java.lang.Thread.currentThread().getPriority(), ignoreDeadLocked);
+		return suspend0(immediately, Thread.getCurrent().getPriority(), ignoreDeadLocked);
 	}
 
 	public QueuedTaskExecutor suspend(boolean immediately, int priority, boolean ignoreDeadLocked) {
@@ -564,20 +569,12 @@ public class QueuedTaskExecutor implements Closeable {
 	}
 
 	<E, T extends TaskAbst<E, T>> void changePriorityToAllTaskBeforeAndWaitThem(T task, int priority, boolean ignoreDeadLocked) {
-		int taskIndex = tasksQueue.indexOf(task);
-		if (taskIndex != -1) {
-			Iterator<TaskAbst<?, ?>> taskIterator = tasksQueue.iterator();
-			int idx = 0;
-			while (taskIterator.hasNext()) {
-				TaskAbst<?, ?> currentIterated = taskIterator.next();
-				if (idx < taskIndex) {
-					if (currentIterated != task) {
-						task.changePriority(priority);
-					} else {
-						break;
-					}
+		if (tasksQueue.contains(task)) {
+			for (TaskAbst<?, ?> currentIterated : tasksQueue) {
+				if (currentIterated == task) {
+					break;
 				}
-				idx++;
+				task.changePriority(priority);
 			}
 		}
 		waitForTasksInExecutionEnding(priority, ignoreDeadLocked);
@@ -696,10 +693,143 @@ public class QueuedTaskExecutor implements Closeable {
 		name = null;
 	}
 
+	static class TasksQueue extends AbstractQueue<TaskAbst<?, ?>> {
+		enum FullPolicy {
+			BLOCK, CALLER_RUNS, REJECT;
+
+			static FullPolicy forValue(String policy) {
+				String normalizedPolicy = policy.trim().toLowerCase();
+				for (FullPolicy fullPolicy : values()) {
+					if (fullPolicy.name().replace("_", " ").toLowerCase().equals(normalizedPolicy)) {
+						return fullPolicy;
+					}
+				}
+				throw new IllegalArgumentException(
+					Strings.compile("'{}' is not a valid tasks queue full policy: it must be 'block', 'caller runs' or 'reject'", policy)
+				);
+			}
+
+		}
+
+		final ConcurrentLinkedQueue<TaskAbst<?, ?>> tasks;
+		final AtomicInteger size;
+		final Object notFullMutex;
+		volatile int maxSize;
+		volatile int resumeSize;
+		volatile FullPolicy fullPolicy;
+		volatile int waitingProducers;
+
+		TasksQueue() {
+			tasks = new ConcurrentLinkedQueue<>();
+			size = new AtomicInteger();
+			notFullMutex = new Object();
+			maxSize = 2000;
+			resumeSize = 1500;
+			fullPolicy = FullPolicy.BLOCK;
+		}
+
+		@Override
+		public boolean offer(TaskAbst<?, ?> task) {
+			int currentSize;
+			while ((currentSize = size.get()) >= maxSize || !size.compareAndSet(currentSize, currentSize + 1)) {
+				if (currentSize < maxSize) {
+					continue;
+				}
+				if (fullPolicy != FullPolicy.BLOCK) {
+					return false;
+				}
+				synchronized(notFullMutex) {
+					++waitingProducers;
+					try {
+						if (size.get() >= maxSize) {
+							notFullMutex.wait();
+						}
+					} catch (InterruptedException exc) {
+						org.burningwave.core.assembler.StaticComponentContainer.Driver.throwException(exc);
+					} finally {
+						--waitingProducers;
+					}
+				}
+			}
+			return tasks.offer(task);
+		}
+
+		@Override
+		public TaskAbst<?, ?> poll() {
+			TaskAbst<?, ?> task = tasks.poll();
+			if (task != null) {
+				decrementSize();
+			}
+			return task;
+		}
+
+		@Override
+		public boolean remove(Object task) {
+			if (tasks.remove(task)) {
+				decrementSize();
+				return true;
+			}
+			return false;
+		}
+
+		private void decrementSize() {
+			if (size.decrementAndGet() <= resumeSize && waitingProducers > 0) {
+				synchronized(notFullMutex) {
+					notFullMutex.notifyAll();
+				}
+			}
+		}
+
+		@Override
+		public TaskAbst<?, ?> peek() {
+			return tasks.peek();
+		}
+
+		@Override
+		public boolean isEmpty() {
+			return tasks.isEmpty();
+		}
+
+		@Override
+		public boolean contains(Object task) {
+			return tasks.contains(task);
+		}
+
+		@Override
+		public int size() {
+			return size.get();
+		}
+
+		@Override
+		public Iterator<TaskAbst<?, ?>> iterator() {
+			Iterator<TaskAbst<?, ?>> iterator = tasks.iterator();
+			return new Iterator<TaskAbst<?, ?>>() {
+				TaskAbst<?, ?> current;
+
+				@Override
+				public boolean hasNext() {
+					return iterator.hasNext();
+				}
+
+				@Override
+				public TaskAbst<?, ?> next() {
+					return current = iterator.next();
+				}
+
+				@Override
+				public void remove() {
+					TasksQueue.this.remove(current);
+				}
+
+			};
+		}
+
+	}
+
 	public static abstract class TaskAbst<E, T extends TaskAbst<E, T>> {
 
 		String name;
-		StackTraceElement[] stackTraceOnCreation;
+		Throwable creationTracker;
 		List<StackTraceElement> creatorInfos;
 		Supplier<Boolean> hasBeenExecutedChecker;
 		volatile boolean probablyDeadLocked;
@@ -726,7 +856,8 @@ public class QueuedTaskExecutor implements Closeable {
 			}
 			this.executable = executable;
 			if (creationTracking) {
-				stackTraceOnCreation = java.lang.Thread.currentThread().getStackTrace();
+				//The stack trace elements will be materialized only if the creator infos are requested
+				creationTracker = new Throwable();
 			}
 		}
 
@@ -737,10 +868,11 @@ public class QueuedTaskExecutor implements Closeable {
 
 		public List<StackTraceElement> getCreatorInfos() {
 			if (this.creatorInfos == null) {
-				if (stackTraceOnCreation != null) {
+				Throwable creationTracker = this.creationTracker;
+				if (creationTracker != null) {
 					this.creatorInfos = Collections.unmodifiableList(
 						Methods.retrieveExternalCallersInfo(
-							this.stackTraceOnCreation,
+							creationTracker.getStackTrace(),
 							(clientMethodSTE, currentIteratedSTE) -> !currentIteratedSTE.getClassName().startsWith(QueuedTaskExecutor.class.getName()),
 							-1
 						)
@@ -786,7 +918,7 @@ public class QueuedTaskExecutor implements Closeable {
 
 		public boolean isAborted() {
 			Thread executor = this.executor;
-			return aborted && !executed && ((executor == null) || !executor.isAlive());
+			return aborted && !executed && ((executor == null) || !executor.isActive());
 		}
 
 		private boolean isExecutorTerminated() {
@@ -795,7 +927,7 @@ public class QueuedTaskExecutor implements Closeable {
 				return(Boolean)executorOrTerminatedExecutorFlag;
 			}
 			if (executorOrTerminatedExecutorFlag != null) {
-				boolean isAlive = ((Thread)executorOrTerminatedExecutorFlag).isAlive();
+				boolean isAlive = ((Thread)executorOrTerminatedExecutorFlag).isActive();
 				if (!isAlive) {
 					return (Boolean)(this.executorOrTerminatedExecutorFlag = !isAlive);
 				}
@@ -895,7 +1027,7 @@ public class QueuedTaskExecutor implements Closeable {
 		}
 
 		private boolean waitForStarting0(boolean ignoreDeadLocked, boolean ignoreSubmittedCheck, long timeout) {
-			java.lang.Thread currentThread = java.lang.Thread.currentThread();
+			java.lang.Thread currentThread = Thread.getCurrent();
 			if (currentThread == this.executor) {
 				return false;
 			}
@@ -957,7 +1089,7 @@ public class QueuedTaskExecutor implements Closeable {
 		}
 
 		private boolean waitForFinish0(boolean ignoreDeadLocked, boolean ignoreSubmittedCheck, long timeout) {
-			java.lang.Thread currentThread = java.lang.Thread.currentThread();
+			java.lang.Thread currentThread = Thread.getCurrent();
 			if (currentThread == this.executor) {
 				return false;
 			}
@@ -1096,7 +1228,7 @@ public class QueuedTaskExecutor implements Closeable {
 			executable = null;
 			java.lang.Thread creator = this.creator;
 			if (creator != null) {
-				Synchronizer.execute(Objects.getId(creator), () -> {
+				Synchronizer.execute(taskCreatorThreadsForChildTasks, creator, () -> {
 					Collection<TaskAbst<?, ?>> creatorChildTasks = taskCreatorThreadsForChildTasks.get(creator);
 					if (creatorChildTasks != null) {
 						creatorChildTasks.remove(this);
@@ -1146,7 +1278,7 @@ public class QueuedTaskExecutor implements Closeable {
 		}
 
 		public boolean setPriorityToCurrentThreadPriority() {
-			return changePriority(java.lang.Thread.currentThread().getPriority());
+			return changePriority(Thread.getCurrent().getPriority());
 		}
 
 		public int getPriority() {
@@ -1309,6 +1441,14 @@ public class QueuedTaskExecutor implements Closeable {
 						.on(configuration)
 					)
 				);
+				Object tasksQueueMaxSizeAsObject = IterableObjectHelper.resolveValue(
+					ResolveConfig.forNamedKey("tasks-queue.max-size")
+					.on(configuration)
+				);
+				String tasksQueueFullPolicy = IterableObjectHelper.resolveStringValue(
+					ResolveConfig.forNamedKey("tasks-queue.full-policy")
+					.on(configuration)
+				);
 				queuedTasksExecutorGroup.name = name;
 				Map<Integer, QueuedTaskExecutor> queuedTasksExecutors = new HashMap<>();
 				for (int i = 0;  i < java.lang.Thread.MAX_PRIORITY; i++) {
@@ -1351,14 +1491,21 @@ public class QueuedTaskExecutor implements Closeable {
 								isQueuedTasksExecutorDaemonAsObject
 							);
 						}
+						QueuedTaskExecutor queuedTasksExecutor = createQueuedTasksExecutor(
+							name + " - " + queuedTasksExecutorName,
+							queuedTasksExecutorThreadSupplier,
+							priority,
+							isQueuedTasksExecutorDaemon
+						);
+						if (tasksQueueMaxSizeAsObject != null) {
+							queuedTasksExecutor.setTasksQueueMaxSize(Objects.toInt(tasksQueueMaxSizeAsObject));
+						}
+						if (tasksQueueFullPolicy != null) {
+							queuedTasksExecutor.setTasksQueueFullPolicy(tasksQueueFullPolicy);
+						}
 						queuedTasksExecutors.put(
 							priority,
-							createQueuedTasksExecutor(
-								name + " - " + queuedTasksExecutorName,
-								queuedTasksExecutorThreadSupplier,
-								priority,
-								isQueuedTasksExecutorDaemon
-							)
+							queuedTasksExecutor
 						);
 					}
 				}
@@ -1386,6 +1533,23 @@ public class QueuedTaskExecutor implements Closeable {
 			}
 		}
 
+		public Group setTasksCreationTrackingSamplingRate(int samplingRate) {
+			if (initializator == null) {
+				setTasksCreationTrackingSamplingRate(this, samplingRate);
+			} else {
+				initializator = initializator.andThen(queuedTasksExecutorGroup -> {
+					setTasksCreationTrackingSamplingRate(queuedTasksExecutorGroup, samplingRate);
+				});
+			}
+			return this;
+		}
+
+		private void setTasksCreationTrackingSamplingRate(Group queuedTasksExecutorGroup, int samplingRate) {
+			for (Entry<Integer, QueuedTaskExecutor> queuedTasksExecutorBox : queuedTasksExecutorGroup.queuedTasksExecutors.entrySet()) {
+				queuedTasksExecutorBox.getValue().setTasksCreationTrackingSamplingRate(samplingRate);
+			}
+		}
+
 		public Group startAllTasksMonitoring(TasksMonitorer.Config config) {
 			if (initializator == null) {
 				startAllTasksMonitoring(this, config);
@@ -1456,7 +1620,7 @@ public class QueuedTaskExecutor implements Closeable {
 		}
 
 		public <T> ProducerTask<T> createProducerTask(ThrowingFunction<ProducerTask<T>, T, ? extends Throwable> executable) {
-			return createProducerTask(executable, java.lang.Thread.currentThread().getPriority());
+			return createProducerTask(executable, Thread.getCurrent().getPriority());
 		}
 
 		public <T> ProducerTask<T> createProducerTask(ThrowingFunction<ProducerTask<T>, T, ? extends Throwable> executable, int priority) {
@@ -1464,7 +1628,7 @@ public class QueuedTaskExecutor implements Closeable {
 		}
 
 		public <T> ProducerTask<T> createProducerTask(ThrowingSupplier<T, ? extends Throwable> executable) {
-			return createProducerTask(executable, java.lang.Thread.currentThread().getPriority());
+			return createProducerTask(executable, Thread.getCurrent().getPriority());
 		}
 
 		public <T> ProducerTask<T> createProducerTask(ThrowingSupplier<T, ? extends Throwable> executable, int priority) {
@@ -1520,7 +1684,7 @@ public class QueuedTaskExecutor implements Closeable {
 		}
 
 		public Task createTask(ThrowingConsumer<QueuedTaskExecutor.Task, ? extends Throwable> executable) {
-			return createTask(executable, java.lang.Thread.currentThread().getPriority());
+			return createTask(executable, Thread.getCurrent().getPriority());
 		}
 
 		public Task createTask(ThrowingConsumer<QueuedTaskExecutor.Task, ? extends Throwable> executable, int priority) {
@@ -1528,7 +1692,7 @@ public class QueuedTaskExecutor implements Closeable {
 		}
 
 		public Task createTask(ThrowingRunnable<? extends Throwable> executable) {
-			return createTask(executable, java.lang.Thread.currentThread().getPriority());
+			return createTask(executable, Thread.getCurrent().getPriority());
 		}
 
 		public Task createTask(ThrowingRunnable<? extends Throwable> executable, int priority) {
@@ -1540,7 +1704,7 @@ public class QueuedTaskExecutor implements Closeable {
 
 				@Override
 				<T> Function<ThrowingFunction<QueuedTaskExecutor.ProducerTask<T>, T, ? extends Throwable>, QueuedTaskExecutor.ProducerTask<T>> getProducerTaskSupplier() {
-					return executable -> new QueuedTaskExecutor.ProducerTask<T>(executable, taskCreationTrackingEnabled) {
+					return executable -> new QueuedTaskExecutor.ProducerTask<T>(executable, isTaskCreationToBeTracked()) {
 
 						@Override
 						QueuedTaskExecutor getQueuedTasksExecutor() {
@@ -1563,7 +1727,7 @@ public class QueuedTaskExecutor implements Closeable {
 
 				@Override
 				<T> Function<ThrowingConsumer<QueuedTaskExecutor.Task, ? extends Throwable> , QueuedTaskExecutor.Task> getTaskSupplier() {
-					return executable -> new QueuedTaskExecutor.Task(executable, taskCreationTrackingEnabled) {
+					return executable -> new QueuedTaskExecutor.Task(executable, isTaskCreationToBeTracked()) {
 
 						@Override
 						QueuedTaskExecutor getQueuedTasksExecutor() {
@@ -1650,15 +1814,15 @@ public class QueuedTaskExecutor implements Closeable {
 		}
 
 		public Group waitForTasksEnding() {
-			return waitForTasksEnding(java.lang.Thread.currentThread().getPriority(), false, false);
+			return waitForTasksEnding(Thread.getCurrent().getPriority(), false, false);
 		}
 
 		public Group waitForTasksEnding(boolean ignoreDeadLocked) {
-			return waitForTasksEnding(java.lang.Thread.currentThread().getPriority(), false, ignoreDeadLocked);
+			return waitForTasksEnding(Thread.getCurrent().getPriority(), false, ignoreDeadLocked);
 		}
 
 		public Group waitForTasksEnding(boolean waitForNewAddedTasks, boolean ignoreDeadLocked) {
-			return waitForTasksEnding(java.lang.Thread.currentThread().getPriority(), waitForNewAddedTasks, ignoreDeadLocked);
+			return waitForTasksEnding(Thread.getCurrent().getPriority(), waitForNewAddedTasks, ignoreDeadLocked);
 		}
 
 		public Group waitForTasksEnding(int priority, boolean waitForNewAddedTasks, boolean ignoreDeadLocked) {
@@ -1687,7 +1851,7 @@ public class QueuedTaskExecutor implements Closeable {
 		}
 
 		public <E, T extends TaskAbst<E, T>> Group waitFor(T task, boolean ignoreDeadLocked) {
-			return waitFor(task, java.lang.Thread.currentThread().getPriority(), ignoreDeadLocked);
+			return waitFor(task, Thread.getCurrent().getPriority(), ignoreDeadLocked);
 		}
 
 		public <E, T extends TaskAbst<E, T>> Group waitFor(T task, int priority, boolean ignoreDeadLocked) {
@@ -1767,7 +1931,7 @@ public class QueuedTaskExecutor implements Closeable {
 					initializator = null;
 					return;
 				}
-				QueuedTaskExecutor lastToBeWaitedFor = getByPriority(java.lang.Thread.currentThread().getPriority());
+				QueuedTaskExecutor lastToBeWaitedFor = getByPriority(Thread.getCurrent().getPriority());
 				for (Entry<Integer, QueuedTaskExecutor> queuedTasksExecutorBox : queuedTasksExecutors.entrySet()) {
 					QueuedTaskExecutor queuedTasksExecutor = queuedTasksExecutorBox.getValue();
 					if (queuedTasksExecutor != lastToBeWaitedFor) {
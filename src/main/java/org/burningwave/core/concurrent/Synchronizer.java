@@ -40,6 +40,9 @@ import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
@@ -54,10 +57,19 @@ public class Synchronizer implements Closeable {
 	Map<String, Mutex> mutexes;
 	String name;
 	ThreadsMonitorer allThreadsMonitorer;
+	Map<LockKey, KeyedLock> keyedLocks;
+	volatile boolean lockStatisticsEnabled;
+	LongAdder lockAcquisitionCount;
+	LongAdder lockContentionCount;
+	LongAdder lockHoldTime;
 
 	private Synchronizer(String name) {
 		this.name = name;
 		mutexes = new ConcurrentHashMap<>();
+		keyedLocks = new ConcurrentHashMap<>();
+		lockAcquisitionCount = new LongAdder();
+		lockContentionCount = new LongAdder();
+		lockHoldTime = new LongAdder();
 	}
 
 	public static Synchronizer create(String name, boolean undestroyable) {
@@ -83,7 +95,7 @@ public class Synchronizer implements Closeable {
 	        if (oldMutex == null) {
 		        return newMutex;
 	        }
-	        if (++oldMutex.clientsCount > 1 && mutexes.get(id) == oldMutex) {
+	        if (oldMutex.acquire()) {
 	        	return oldMutex;
         	}
         	//logWarn("Unvalid mutex with id \"{}\": a new mutex will be created", id);
@@ -91,6 +103,105 @@ public class Synchronizer implements Closeable {
 		}
     }
 
+	//Each owner (compared by identity) and key (compared by equals) pair has its own lock, that is removed when
+	//no thread uses it anymore: unlike a striped lock, two unrelated pairs never share the same lock
+	KeyedLock acquireLock(LockKey lockKey) {
+		return keyedLocks.compute(lockKey, (key, lock) -> {
+			if (lock == null) {
+				lock = new KeyedLock();
+			}
+			++lock.usersCount;
+			return lock;
+		});
+	}
+
+	void releaseLock(LockKey lockKey) {
+		keyedLocks.computeIfPresent(lockKey, (key, lock) ->
+			--lock.usersCount == 0 ? null : lock
+		);
+	}
+
+	private long lock(ReentrantLock lock) {
+		if (!lockStatisticsEnabled) {
+			lock.lock();
+			return 0;
+		}
+		if (!lock.tryLock()) {
+			lockContentionCount.increment();
+			lock.lock();
+		}
+		lockAcquisitionCount.increment();
+		return System.nanoTime();
+	}
+
+	private void unlock(ReentrantLock lock, long lockTime) {
+		if (lockTime != 0) {
+			lockHoldTime.add(System.nanoTime() - lockTime);
+		}
+		lock.unlock();
+	}
+
+	public void execute(Object owner, Object key, Runnable executable) {
+		LockKey lockKey = new LockKey(owner, key);
+		KeyedLock lock = acquireLock(lockKey);
+		try {
+			long lockTime = lock(lock);
+			try {
+				executable.run();
+			} finally {
+				unlock(lock, lockTime);
+			}
+		} finally {
+			releaseLock(lockKey);
+		}
+	}
+
+	public <T> T execute(Object owner, Object key, Supplier<T> executable) {
+		LockKey lockKey = new LockKey(owner, key);
+		KeyedLock lock = acquireLock(lockKey);
+		try {
+			long lockTime = lock(lock);
+			try {
+				return executable.get();
+			} finally {
+				unlock(lock, lockTime);
+			}
+		} finally {
+			releaseLock(lockKey);
+		}
+	}
+
+	public <T, E extends Throwable> T executeThrower(Object owner, Object key, ThrowingSupplier<T, E> executable) throws E {
+		LockKey lockKey = new LockKey(owner, key);
+		KeyedLock lock = acquireLock(lockKey);
+		try {
+			long lockTime = lock(lock);
+			try {
+				return executable.get();
+			} finally {
+				unlock(lock, lockTime);
+			}
+		} finally {
+			releaseLock(lockKey);
+		}
+	}
+
+	public void enableLockStatistics(boolean flag) {
+		lockStatisticsEnabled = flag;
+	}
+
+	public long getLockAcquisitionCount() {
+		return lockAcquisitionCount.sum();
+	}
+
+	public long getLockContentionCount() {
+		return lockContentionCount.sum();
+	}
+
+	public long getLockHoldTimeInNanoseconds() {
+		return lockHoldTime.sum();
+	}
+
 	public void execute(String id, Runnable executable) {
 		try (Mutex mutex = getMutex(id);) {
 			synchronized (mutex) {
@@ -159,6 +270,7 @@ public class Synchronizer implements Closeable {
 		}
 		clear();
 		mutexes = null;
+		keyedLocks = null;
 	}
 
 	public void logAllThreadsState(boolean logMutexes) {
@@ -190,7 +302,17 @@ public class Synchronizer implements Closeable {
 		if (getMutexesInfo) {
 			log.append(
 				":\n" +
-				IterableObjectHelper.toString(mutexes, key -> key, value -> "" + value.clientsCount + " clients", 1)
+				IterableObjectHelper.toString(mutexes, key -> key, value -> "" + value.clientsCount.get() + " clients", 1)
+			);
+		}
+		if (lockStatisticsEnabled) {
+			log.append(
+				Strings.compile(
+					"\nKeyed locks acquisitions: {}, contentions: {}, total hold time: {}ms",
+					lockAcquisitionCount.sum(),
+					lockContentionCount.sum(),
+					lockHoldTime.sum() / 1_000_000
+				)
 			);
 		}
 		log.append("\n");
@@ -225,17 +347,63 @@ public class Synchronizer implements Closeable {
 		}
 	}
 
+	static class LockKey {
+		private final Object owner;
+		private final Object key;
+		private final int hashCode;
+
+		LockKey(Object owner, Object key) {
+			this.owner = owner;
+			this.key = key;
+			this.hashCode = System.identityHashCode(owner) * 31 + key.hashCode();
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override
+		public boolean equals(Object object) {
+			if (object == this) {
+				return true;
+			}
+			if (!(object instanceof LockKey)) {
+				return false;
+			}
+			LockKey lockKey = (LockKey)object;
+			return owner == lockKey.owner && key.equals(lockKey.key);
+		}
+	}
+
+	static class KeyedLock extends ReentrantLock {
+		private static final long serialVersionUID = -2386413760235840391L;
+
+		int usersCount;
+	}
+
 	public class Mutex implements java.io.Closeable {
 		Mutex(String id) {
 			this.id = id;
+			this.clientsCount = new AtomicInteger(1);
 		}
 		String id;
-		int clientsCount = 1;
+		AtomicInteger clientsCount;
+
+		boolean acquire() {
+			int currentClientsCount;
+			while ((currentClientsCount = clientsCount.get()) > 0) {
+				if (clientsCount.compareAndSet(currentClientsCount, currentClientsCount + 1)) {
+					return true;
+				}
+			}
+			return false;
+		}
 
 		@Override
 		public void close() {
-			if (--clientsCount < 1) {
-				Synchronizer.this.mutexes.remove(id);
+			if (clientsCount.decrementAndGet() < 1) {
+				Synchronizer.this.mutexes.remove(id, this);
 			}
 		}
 	}
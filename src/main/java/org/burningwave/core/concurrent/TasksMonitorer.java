@@ -68,14 +68,14 @@ public class TasksMonitorer implements Closeable {
 		long currentTime = System.currentTimeMillis();
 		for (QueuedTaskExecutor.TaskAbst<?, ?> task : queuedTasksExecutorGroup.getAllTasksInExecution()) {
 			if (currentTime - task.startTime > minimumElapsedTimeToConsiderATaskAsProbablyDeadLocked) {
-				java.lang.Thread taskThread = task.executor;
-				Thread.State threadState = Optional.ofNullable(taskThread).map(java.lang.Thread::getState).orElseGet(() -> null);
+				Thread taskThread = task.executor;
+				Thread.State threadState = Optional.ofNullable(taskThread).map(Thread::getExecutionState).orElseGet(() -> null);
 				if (taskThread != null &&
 				(Thread.State.BLOCKED.equals(threadState) ||
 				Thread.State.WAITING.equals(threadState) ||
 				Thread.State.TIMED_WAITING.equals(threadState))) {
 					StackTraceElement[] previousRegisteredStackTrace = waitingTasksAndLastStackTrace.get(task);
-					StackTraceElement[] currentStackTrace = taskThread.getStackTrace();
+					StackTraceElement[] currentStackTrace = taskThread.getExecutionStackTrace();
 					if (previousRegisteredStackTrace != null) {
 						if (areStrackTracesEquals(previousRegisteredStackTrace, currentStackTrace)) {
 							if (!task.hasFinished()) {
@@ -41,6 +41,7 @@ import java.util.Iterator;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -52,11 +53,13 @@ import org.burningwave.core.iterable.IterableObjectHelper.ResolveConfig;
 
 public abstract class Thread extends java.lang.Thread {
 	private final static ThrowingConsumer<Thread, ? extends Throwable> nullExecutableNotifier;
+	private final static ThreadLocal<Thread> virtualThreadHandles;
 
 	static {
 		nullExecutableNotifier = thread -> {
 			ManagedLoggerRepository.logError(thread.getClass()::getName, "Executable is null");
 		};
+		virtualThreadHandles = new ThreadLocal<>();
 	}
 
 	ThrowingConsumer<Thread, ? extends Throwable> originalExecutable;
@@ -118,6 +121,15 @@ public abstract class Thread extends java.lang.Thread {
 		return this instanceof Poolable;
 	}
 
+	public boolean isVirtualThreadBacked() {
+		return this instanceof Virtual;
+	}
+
+	public static java.lang.Thread getCurrent() {
+		Thread virtualThreadHandle = virtualThreadHandles.get();
+		return virtualThreadHandle != null ? virtualThreadHandle : java.lang.Thread.currentThread();
+	}
+
 	@Override
 	public void start() {
 		if (this.originalExecutable == null) {
@@ -159,7 +171,19 @@ public abstract class Thread extends java.lang.Thread {
 	}
 
 	public boolean isRunning() {
-		return isAlive() && running;
+		return isActive() && running;
+	}
+
+	boolean isActive() {
+		return isAlive();
+	}
+
+	State getExecutionState() {
+		return getState();
+	}
+
+	StackTraceElement[] getExecutionStackTrace() {
+		return getStackTrace();
 	}
 
 	public boolean isLooping() {
@@ -195,7 +219,7 @@ public abstract class Thread extends java.lang.Thread {
 			getClass()::getName,
 			"Called {} by {}{}\n\ton {} (executable: {}):{}",
 			operationName,
-			java.lang.Thread.currentThread(),
+			getCurrent(),
 			Strings.from(Methods.retrieveExternalCallersInfo(), 2),
 			this,
 			executableWrapper.get(),
@@ -203,7 +227,7 @@ public abstract class Thread extends java.lang.Thread {
 		);
 		shutDown();
 		removePermanently();
-		java.lang.Thread currentThread = java.lang.Thread.currentThread();
+		java.lang.Thread currentThread = getCurrent();
 		if (this != currentThread) {
 			try {
 				operation.accept(this);
@@ -231,7 +255,7 @@ public abstract class Thread extends java.lang.Thread {
 		return Strings.compile(
 			"{}{}",
 			super.toString(),
-			Optional.ofNullable(getState()).map(threadState ->
+			Optional.ofNullable(getExecutionState()).map(threadState ->
 				Strings.compile("({})", Strings.capitalizeFirstCharacter(threadState.name().toLowerCase().replace("_", " ")))
 			).orElseGet(() -> "")
 		);
@@ -393,6 +417,68 @@ public abstract class Thread extends java.lang.Thread {
 		}
 	}
 
+	private static class Virtual extends Detached {
+		private volatile java.lang.Thread backingThread;
+
+		private Virtual(Thread.Supplier supplier, long number) {
+			super(supplier, number);
+		}
+
+		@Override
+		void startRunning() {
+			java.lang.Thread backingThread = supplier.virtualThreadFactory.newThread(this);
+			backingThread.setName(getName());
+			this.backingThread = backingThread;
+			backingThread.start();
+		}
+
+		@Override
+		public void run() {
+			virtualThreadHandles.set(this);
+			try {
+				super.run();
+			} finally {
+				virtualThreadHandles.remove();
+			}
+		}
+
+		@Override
+		boolean isActive() {
+			java.lang.Thread backingThread = this.backingThread;
+			return backingThread != null && backingThread.isAlive();
+		}
+
+		@Override
+		State getExecutionState() {
+			java.lang.Thread backingThread = this.backingThread;
+			return backingThread != null ? backingThread.getState() : getState();
+		}
+
+		@Override
+		StackTraceElement[] getExecutionStackTrace() {
+			java.lang.Thread backingThread = this.backingThread;
+			return backingThread != null ? backingThread.getStackTrace() : getStackTrace();
+		}
+
+		@Override
+		public void kill() {
+			//Virtual threads cannot be stopped: interrupting is the only way to terminate them
+			terminate(thread -> interruptBackingThread(), "stop");
+		}
+
+		@Override
+		public void interrupt() {
+			terminate(thread -> interruptBackingThread(), "interrupt");
+		}
+
+		private void interruptBackingThread() {
+			java.lang.Thread backingThread = this.backingThread;
+			if (backingThread != null) {
+				backingThread.interrupt();
+			}
+		}
+	}
+
 
 	public static class Supplier implements Identifiable {
 		public static class Configuration {
@@ -405,6 +491,7 @@ public abstract class Thread extends java.lang.Thread {
 					"thread-supplier.max-detached-thread-count.elapsed-time-threshold-from-last-increase-for-gradual-decreasing-to-initial-value";
 				public static final String MAX_DETACHED_THREAD_COUNT_INCREASING_STEP = "thread-supplier.max-detached-thread-count.increasing-step";
 				public static final String DEFAULT_THREAD_PRIORITY = "thread-supplier.default-thread-priority";
+				public static final String MODE = "thread-supplier.mode";
 			}
 
 			public final static Map<String, Object> DEFAULT_VALUES;
@@ -447,6 +534,11 @@ public abstract class Thread extends java.lang.Thread {
 					java.lang.Thread.NORM_PRIORITY
 				);
 
+				defaultValues.put(
+					Key.MODE,
+					"platform"
+				);
+
 				DEFAULT_VALUES = Collections.unmodifiableMap(defaultValues);
 			}
 		}
@@ -476,6 +568,7 @@ public abstract class Thread extends java.lang.Thread {
 		private java.util.function.Supplier<Thread.Poolable> getReversePoolableThreadFunction;
 		private java.util.function.Supplier<Thread.Poolable> getPoolableThreadFunction;
 		private int defaultThreadPriority;
+		private ThreadFactory virtualThreadFactory;
 
 		Supplier (
 			String name,
@@ -585,6 +678,32 @@ public abstract class Thread extends java.lang.Thread {
 			} catch (Throwable exc) {
 				this.defaultThreadPriority = java.lang.Thread.currentThread().getPriority();
 			}
+			if ("virtual".equalsIgnoreCase(
+				IterableObjectHelper.resolveStringValue(
+					ResolveConfig.forNamedKey(Configuration.Key.MODE)
+					.on(config)
+				)
+			)) {
+				this.virtualThreadFactory = retrieveVirtualThreadFactory();
+			}
+		}
+
+		private ThreadFactory retrieveVirtualThreadFactory() {
+			try {
+				Object virtualThreadBuilder = java.lang.Thread.class.getMethod("ofVirtual").invoke(null);
+				return (ThreadFactory)Class.forName("java.lang.Thread$Builder").getMethod("factory").invoke(virtualThreadBuilder);
+			} catch (Throwable exc) {
+				ManagedLoggerRepository.logWarn(
+					getClass()::getName,
+					"Virtual threads are not supported by the running JVM: {} will use platform threads",
+					name
+				);
+				return null;
+			}
+		}
+
+		public boolean isVirtualThreadModeEnabled() {
+			return virtualThreadFactory != null;
 		}
 
 		public static Supplier create(
@@ -647,6 +766,9 @@ public abstract class Thread extends java.lang.Thread {
 		}
 
 		final Thread getOrCreateThread(int initialValue, int tentativeCount) {
+			if (virtualThreadFactory != null) {
+				return createVirtualThread();
+			}
 			Thread thread = getPoolableThreadFunction.get();
 			if (thread != null) {
 				return thread;
@@ -721,6 +843,11 @@ public abstract class Thread extends java.lang.Thread {
 			return new Detached(this, ++threadNumberSupplier);
 		}
 
+		Thread createVirtualThread() {
+			++threadCount;
+			return new Virtual(this, ++threadNumberSupplier);
+		}
+
 		private Integer addForwardPoolableSleepingThread(Thread.Poolable thread) {
 			addPoolableSleepingThreadFunction = addReversePoolableSleepingThreadFunction;
 			for (int index = 0; index < poolableSleepingThreads.length; index++) {
@@ -837,7 +964,7 @@ public abstract class Thread extends java.lang.Thread {
 		}
 
 		public Thread joinThread(Thread thread) {
-			if (java.lang.Thread.currentThread() == thread) {
+			if (getCurrent() == thread) {
 				ManagedLoggerRepository.logWarn(getClass()::getName, "Join ignored: the current thread could not wait itself");
 				return thread;
 			}
@@ -41,6 +41,8 @@ public class ByteBufferOutputStream extends OutputStream {
     private Integer initialCapacity;
     private Integer initialPosition;
     private ByteBuffer buffer;
+    private boolean pooled;
+    private boolean shared;
 
     public ByteBufferOutputStream(ByteBuffer buffer) {
         this.buffer = buffer;
@@ -49,23 +51,31 @@ public class ByteBufferOutputStream extends OutputStream {
     }
 
     public ByteBufferOutputStream(int initialCapacity) {
-        this(BufferHandler.allocate(initialCapacity));
+        this(BufferHandler.acquire(initialCapacity));
+        this.pooled = true;
+    }
+
+    private ByteBuffer ensureRemaining(int requiredBytes) {
+    	if (pooled && !shared) {
+    		return BufferHandler.ensureRemainingOfAcquired(buffer, requiredBytes, initialPosition);
+    	}
+    	return BufferHandler.ensureRemaining(buffer, requiredBytes, initialPosition);
     }
 
     @Override
 	public void write(int b) {
-    	buffer = BufferHandler.ensureRemaining(buffer, 1, initialPosition);
+    	buffer = ensureRemaining(1);
         buffer.put((byte) b);
     }
 
     @Override
 	public void write(byte[] bytes, int off, int len) {
-    	buffer = BufferHandler.ensureRemaining(buffer, len, initialPosition);
+    	buffer = ensureRemaining(len);
         buffer.put(bytes, off, len);
     }
 
     public void write(ByteBuffer sourceBuffer) {
-    	buffer = BufferHandler.ensureRemaining(buffer, BufferHandler.remaining(sourceBuffer), initialPosition);
+    	buffer = ensureRemaining(BufferHandler.remaining(sourceBuffer));
         buffer.put(sourceBuffer);
     }
 
@@ -82,7 +92,7 @@ public class ByteBufferOutputStream extends OutputStream {
     }
 
     public void position(int position) {
-    	buffer = BufferHandler.ensureRemaining(buffer, position - BufferHandler.position(buffer), initialPosition);
+    	buffer = ensureRemaining(position - BufferHandler.position(buffer));
         BufferHandler.position(buffer, position);
     }
 
@@ -91,19 +101,24 @@ public class ByteBufferOutputStream extends OutputStream {
     }
 
     InputStream toBufferedInputStream() {
+    	shared = true;
         return new ByteBufferInputStream(buffer);
     }
 
 	public ByteBuffer toByteBuffer() {
+		shared = true;
 		return BufferHandler.shareContent(buffer);
 	}
 
 	public byte[] toByteArray() {
-		return BufferHandler.toByteArray(toByteBuffer());
+		return BufferHandler.toByteArray(buffer);
 	}
 
     @Override
     public void close() {
+    	if (pooled && !shared && buffer != null) {
+    		BufferHandler.release(buffer);
+    	}
     	this.initialCapacity = null;
 		this.initialPosition = null;
 		this.buffer = null;
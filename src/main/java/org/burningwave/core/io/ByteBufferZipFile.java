@@ -0,0 +1,433 @@
+/*
+ * This file is part of Burningwave Core.
+ *
+ * Author: Roberto Gentili
+ *
+ * Hosted at: https://github.com/burningwave/core
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019 Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.burningwave.core.io;
+
+
+import static org.burningwave.core.assembler.StaticComponentContainer.BufferHandler;
+import static org.burningwave.core.assembler.StaticComponentContainer.Cache;
+import static org.burningwave.core.assembler.StaticComponentContainer.ManagedLoggerRepository;
+import static org.burningwave.core.assembler.StaticComponentContainer.Paths;
+import static org.burningwave.core.assembler.StaticComponentContainer.Streams;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+@SuppressWarnings("unchecked")
+class ByteBufferZipFile implements IterableZipContainer {
+	private final static int END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06054b50;
+	private final static int ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIGNATURE = 0x07064b50;
+	private final static int ZIP64_END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06064b50;
+	private final static int CENTRAL_DIRECTORY_FILE_HEADER_SIGNATURE = 0x02014b50;
+	private final static int LOCAL_FILE_HEADER_SIGNATURE = 0x04034b50;
+	private final static int STORED = 0;
+	private final static int DEFLATED = 8;
+
+	String absolutePath;
+	String conventionedAbsolutePath;
+	IterableZipContainer parent;
+	IterableZipContainer.Entry currentZipEntry;
+	Iterator<Entry> entriesIterator;
+	List<Entry> entries;
+	Map<String, Entry> entriesByName;
+	ByteBuffer content;
+	boolean isDestroyed;
+
+	private ByteBufferZipFile(String absolutePath, ByteBuffer content) throws ZipException {
+		this.absolutePath = Paths.clean(absolutePath);
+		this.content = content;
+		this.entries = new ArrayList<>();
+		this.entriesByName = new HashMap<>();
+		readCentralDirectory(BufferHandler.duplicate(content).order(ByteOrder.LITTLE_ENDIAN));
+		//The entries are shared with the duplicates, so they are never modified after being read
+		this.entries = Collections.unmodifiableList(entries);
+		this.entriesByName = Collections.unmodifiableMap(entriesByName);
+		this.entriesIterator = entries.iterator();
+	}
+
+	private ByteBufferZipFile(ByteBufferZipFile zipFile) {
+		this.absolutePath = zipFile.absolutePath;
+		this.content = zipFile.content;
+		this.entries = zipFile.entries;
+		this.entriesByName = zipFile.entriesByName;
+		this.entriesIterator = entries.iterator();
+	}
+
+	static ByteBufferZipFile create(String absolutePath, ByteBuffer content) {
+		try {
+			return new ByteBufferZipFile(absolutePath, content);
+		} catch (ZipException | IndexOutOfBoundsException exc) {
+			ManagedLoggerRepository.logWarn(ByteBufferZipFile.class::getName, "Could not read central directory of {}: {}", absolutePath, exc.getMessage());
+			return null;
+		}
+	}
+
+	private void readCentralDirectory(ByteBuffer buffer) throws ZipException {
+		int limit = BufferHandler.limit(buffer);
+		int endOfCentralDirectoryPosition = -1;
+		for (int position = limit - 22; position >= Math.max(0, limit - 22 - 0xFFFF); position--) {
+			if (buffer.getInt(position) == END_OF_CENTRAL_DIRECTORY_SIGNATURE) {
+				endOfCentralDirectoryPosition = position;
+				break;
+			}
+		}
+		if (endOfCentralDirectoryPosition < 0) {
+			throw new ZipException("end of central directory not found");
+		}
+		long entriesCount = buffer.getShort(endOfCentralDirectoryPosition + 10) & 0xFFFF;
+		long centralDirectorySize = buffer.getInt(endOfCentralDirectoryPosition + 12) & 0xFFFFFFFFL;
+		long centralDirectoryOffset = buffer.getInt(endOfCentralDirectoryPosition + 16) & 0xFFFFFFFFL;
+		long centralDirectoryEnd = endOfCentralDirectoryPosition;
+		int zip64LocatorPosition = endOfCentralDirectoryPosition - 20;
+		if (zip64LocatorPosition >= 0 && buffer.getInt(zip64LocatorPosition) == ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIGNATURE) {
+			int zip64EndOfCentralDirectoryPosition = toPosition(buffer.getLong(zip64LocatorPosition + 8));
+			if (buffer.getInt(zip64EndOfCentralDirectoryPosition) == ZIP64_END_OF_CENTRAL_DIRECTORY_SIGNATURE) {
+				entriesCount = buffer.getLong(zip64EndOfCentralDirectoryPosition + 32);
+				centralDirectorySize = buffer.getLong(zip64EndOfCentralDirectoryPosition + 40);
+				centralDirectoryOffset = buffer.getLong(zip64EndOfCentralDirectoryPosition + 48);
+				centralDirectoryEnd = zip64EndOfCentralDirectoryPosition;
+			}
+		}
+		//Bytes prepended to the archive (e.g. a launch script) shift all the recorded offsets
+		long archiveStart = centralDirectoryEnd - centralDirectorySize - centralDirectoryOffset;
+		int position = toPosition(archiveStart + centralDirectoryOffset);
+		for (long i = 0; i < entriesCount; i++) {
+			if (buffer.getInt(position) != CENTRAL_DIRECTORY_FILE_HEADER_SIGNATURE) {
+				throw new ZipException("invalid central directory file header at " + position);
+			}
+			int method = buffer.getShort(position + 10) & 0xFFFF;
+			long compressedSize = buffer.getInt(position + 20) & 0xFFFFFFFFL;
+			long size = buffer.getInt(position + 24) & 0xFFFFFFFFL;
+			int nameLength = buffer.getShort(position + 28) & 0xFFFF;
+			int extraLength = buffer.getShort(position + 30) & 0xFFFF;
+			int commentLength = buffer.getShort(position + 32) & 0xFFFF;
+			long localHeaderOffset = buffer.getInt(position + 42) & 0xFFFFFFFFL;
+			byte[] name = new byte[nameLength];
+			ByteBuffer nameBuffer = BufferHandler.duplicate(buffer);
+			BufferHandler.position(nameBuffer, position + 46);
+			nameBuffer.get(name);
+			if (size == 0xFFFFFFFFL || compressedSize == 0xFFFFFFFFL || localHeaderOffset == 0xFFFFFFFFL) {
+				int extraPosition = position + 46 + nameLength;
+				int extraEnd = extraPosition + extraLength;
+				while (extraPosition + 4 <= extraEnd) {
+					int extraId = buffer.getShort(extraPosition) & 0xFFFF;
+					int extraSize = buffer.getShort(extraPosition + 2) & 0xFFFF;
+					if (extraId == 0x0001) {
+						int valuePosition = extraPosition + 4;
+						if (size == 0xFFFFFFFFL) {
+							size = buffer.getLong(valuePosition);
+							valuePosition += 8;
+						}
+						if (compressedSize == 0xFFFFFFFFL) {
+							compressedSize = buffer.getLong(valuePosition);
+							valuePosition += 8;
+						}
+						if (localHeaderOffset == 0xFFFFFFFFL) {
+							localHeaderOffset = buffer.getLong(valuePosition);
+						}
+						break;
+					}
+					extraPosition += 4 + extraSize;
+				}
+			}
+			Entry entry = new Entry(
+				this,
+				new String(name, StandardCharsets.UTF_8),
+				method,
+				toPosition(compressedSize),
+				toPosition(size),
+				toPosition(archiveStart + localHeaderOffset)
+			);
+			entries.add(entry);
+			entriesByName.putIfAbsent(entry.getName(), entry);
+			position += 46 + nameLength + extraLength + commentLength;
+		}
+	}
+
+	private static int toPosition(long value) throws ZipException {
+		if (value < 0 || value > Integer.MAX_VALUE) {
+			throw new ZipException("offset or size out of range: " + value);
+		}
+		return (int)value;
+	}
+
+	@Override
+	public IterableZipContainer duplicate() {
+		return new ByteBufferZipFile(this);
+	}
+
+	@Override
+	public String getAbsolutePath() {
+		return absolutePath;
+	}
+
+	@Override
+	public String getConventionedAbsolutePath() {
+		if (conventionedAbsolutePath == null) {
+			synchronized (this) {
+				if (parent != null) {
+					conventionedAbsolutePath = parent.getConventionedAbsolutePath() + absolutePath.replace(parent.getAbsolutePath() + "/", "");
+				} else {
+					FileSystemItem zipFis = FileSystemItem.ofPath(absolutePath);
+					if (zipFis.getParentContainer().isArchive()) {
+						parent = IterableZipContainer.create(zipFis.getParentContainer().getAbsolutePath());
+						return getConventionedAbsolutePath();
+					} else {
+						conventionedAbsolutePath = absolutePath;
+					}
+				}
+				conventionedAbsolutePath += IterableZipContainer.PATH_SUFFIX;
+			}
+		}
+		return conventionedAbsolutePath;
+	}
+
+	@Override
+	public IterableZipContainer getParent() {
+		if (conventionedAbsolutePath == null) {
+			getConventionedAbsolutePath();
+		}
+		return parent;
+	}
+
+	@Override
+	public ByteBuffer toByteBuffer() {
+		return BufferHandler.shareContent(content);
+	}
+
+	@Override
+	public synchronized <Z extends IterableZipContainer.Entry> Z getNextEntry() {
+		return (Z) (currentZipEntry = entriesIterator.hasNext()? entriesIterator.next() : null);
+	}
+
+	@Override
+	public synchronized Entry getNextEntry(Predicate<IterableZipContainer.Entry> loadZipEntryData) {
+		Entry zipEntry = (Entry)(currentZipEntry = entriesIterator.hasNext()? entriesIterator.next() : null);
+		if (zipEntry != null && loadZipEntryData.test(zipEntry)) {
+			zipEntry.toByteBuffer();
+		}
+		return zipEntry;
+	}
+
+	@Override
+	public IterableZipContainer.Entry findEntry(String name) {
+		return entriesByName.get(name);
+	}
+
+	@Override
+	public IterableZipContainer.Entry getCurrentZipEntry() {
+		return currentZipEntry;
+	}
+
+	@Override
+	public Function<IterableZipContainer.Entry, IterableZipContainer.Entry> getEntrySupplier() {
+		return (entry) -> entry;
+	}
+
+	@Override
+	public synchronized void closeEntry() {
+		currentZipEntry = null;
+	}
+
+	@Override
+	public void close() {
+		closeEntry();
+		this.absolutePath = null;
+		this.entriesIterator = null;
+		this.entries = null;
+		this.entriesByName = null;
+		this.content = null;
+	}
+
+	@Override
+	public void destroy(boolean removeFromCache) {
+		boolean destroy = false;
+		synchronized (this) {
+			if (!isDestroyed) {
+				destroy = isDestroyed = true;
+			}
+		}
+		if (destroy) {
+			IterableZipContainer.super.destroy(removeFromCache);
+			close();
+		}
+	}
+
+	public static class Entry implements IterableZipContainer.Entry {
+		private ByteBufferZipFile zipFile;
+		private ByteBuffer zipFileContent;
+		private String cleanedName;
+		private String name;
+		private String absolutePath;
+		private int method;
+		private int compressedSize;
+		private int size;
+		private int localHeaderPosition;
+		private Boolean archive;
+
+		Entry(ByteBufferZipFile zipFile, String name, int method, int compressedSize, int size, int localHeaderPosition) {
+			this.zipFile = zipFile;
+			this.zipFileContent = zipFile.content;
+			this.name = name;
+			this.method = method;
+			this.compressedSize = compressedSize;
+			this.size = size;
+			this.localHeaderPosition = localHeaderPosition;
+			this.absolutePath = Paths.clean(zipFile.getAbsolutePath() + "/" + name);
+		}
+
+		@Override
+		public boolean isArchive() {
+			if (archive != null) {
+				return archive;
+			}
+			ByteBuffer header = toHeaderByteBuffer();
+			return archive = header != null ? Streams.isArchive(header) : false;
+		}
+
+		@Override
+		public IterableZipContainer getParentContainer() {
+			return zipFile;
+		}
+
+		@Override
+		public String getCleanedName() {
+			if (cleanedName != null) {
+				return cleanedName;
+			}
+			String cleanedName = name;
+			if (!cleanedName.startsWith("/")) {
+				this.cleanedName = cleanedName;
+			} else {
+				if (!cleanedName.equals("/")) {
+					this.cleanedName =  cleanedName.substring(1, cleanedName.length());
+				} else {
+					this.cleanedName = "";
+				}
+			}
+			return this.cleanedName;
+		}
+
+		@Override
+		public String getName() {
+			return name;
+		}
+
+		@Override
+		public String getAbsolutePath() {
+			return absolutePath;
+		}
+
+		@Override
+		public boolean isDirectory() {
+			return name.endsWith("/");
+		}
+
+		public long getSize() {
+			return size;
+		}
+
+		@Override
+		public ByteBuffer toByteBuffer() {
+			return Cache.pathForContents.getOrUploadIfAbsent(getAbsolutePath(), () -> loadContent(size));
+		}
+
+		@Override
+		public ByteBuffer toHeaderByteBuffer() {
+			ByteBuffer content = Cache.pathForContents.get(getAbsolutePath());
+			if (content != null) {
+				return content;
+			}
+			return loadContent(Math.min(size, HEADER_SIZE));
+		}
+
+		private ByteBuffer loadContent(int maxSize) {
+			try {
+				ByteBuffer buffer = BufferHandler.duplicate(zipFileContent).order(ByteOrder.LITTLE_ENDIAN);
+				if (buffer.getInt(localHeaderPosition) != LOCAL_FILE_HEADER_SIGNATURE) {
+					throw new ZipException("invalid local file header");
+				}
+				int dataPosition = localHeaderPosition + 30 +
+					(buffer.getShort(localHeaderPosition + 26) & 0xFFFF) +
+					(buffer.getShort(localHeaderPosition + 28) & 0xFFFF);
+				BufferHandler.limit(buffer, dataPosition + compressedSize);
+				BufferHandler.position(buffer, dataPosition);
+				ByteBuffer compressedContent = buffer.slice();
+				if (method == STORED) {
+					return compressedContent;
+				} else if (method == DEFLATED) {
+					return inflate(compressedContent, maxSize);
+				}
+				throw new ZipException("unsupported compression method " + method);
+			} catch (Throwable exc) {
+				ManagedLoggerRepository.logError(getClass()::getName, "Could not load content of {} of {}", exc, getName(), zipFile.getAbsolutePath());
+				return null;
+			}
+		}
+
+		private ByteBuffer inflate(ByteBuffer compressedContent, int maxSize) throws ZipException {
+			Inflater inflater = new Inflater(true);
+			try {
+				byte[] inputBuffer = BufferHandler.newByteArrayWithDefaultSize();
+				byte[] outputBuffer = BufferHandler.newByteArrayWithDefaultSize();
+				ByteBuffer output = BufferHandler.allocate(maxSize);
+				int remaining = maxSize;
+				while (remaining > 0 && !inflater.finished() && !inflater.needsDictionary()) {
+					if (inflater.needsInput()) {
+						int inputLength = Math.min(inputBuffer.length, BufferHandler.remaining(compressedContent));
+						if (inputLength == 0) {
+							break;
+						}
+						compressedContent.get(inputBuffer, 0, inputLength);
+						inflater.setInput(inputBuffer, 0, inputLength);
+					}
+					int bytesInflated = inflater.inflate(outputBuffer, 0, Math.min(outputBuffer.length, remaining));
+					output = BufferHandler.put(output, outputBuffer, bytesInflated);
+					remaining -= bytesInflated;
+				}
+				return BufferHandler.shareContent(output);
+			} catch (DataFormatException exc) {
+				throw new ZipException(exc.getMessage());
+			} finally {
+				inflater.end();
+			}
+		}
+	}
+}
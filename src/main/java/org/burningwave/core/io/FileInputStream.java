@@ -28,6 +28,7 @@
  */
 package org.burningwave.core.io;
 
+import static org.burningwave.core.assembler.StaticComponentContainer.BufferHandler;
 import static org.burningwave.core.assembler.StaticComponentContainer.Cache;
 import static org.burningwave.core.assembler.StaticComponentContainer.Paths;
 import static org.burningwave.core.assembler.StaticComponentContainer.Streams;
@@ -85,8 +86,15 @@ public class FileInputStream extends java.io.FileInputStream implements Componen
 
 	public ByteBuffer toByteBuffer() {
 		return Cache.pathForContents.getOrUploadIfAbsent(
-			absolutePath, () ->
-			Streams.toByteBuffer(this)
+			absolutePath, this::readContent
 		);
 	}
+
+	private ByteBuffer readContent() {
+		long size = Executor.get(getChannel()::size);
+		if (BufferHandler.isToBeMapped(size)) {
+			return BufferHandler.map(getChannel());
+		}
+		return Streams.toByteBuffer(this, size > 0 && size <= Integer.MAX_VALUE ? (int)size : -1);
+	}
 }
\ No newline at end of file
@@ -55,6 +55,8 @@ import org.burningwave.core.function.Executor;
 
 
 public class FileSystemHelper implements Component {
+	//Name of the folder, inside the Burningwave temporary folder, that is shared by all executions and never swept
+	public static final String PERSISTENT_FOLDER_NAME = "persistent";
 	private String name;
 	private File mainTemporaryFolder;
 	private String id;
@@ -116,6 +118,18 @@ public class FileSystemHelper implements Component {
 		}
 	}
 
+	public File getOrCreatePersistentFolder(String folderName) {
+		return Executor.get(() -> {
+			File persistentFolder = new File(
+				getOrCreateBurningwaveTemporaryFolder().getAbsolutePath() + "/" + PERSISTENT_FOLDER_NAME + "/" + folderName
+			);
+			if (!persistentFolder.exists()) {
+				persistentFolder.mkdirs();
+			}
+			return persistentFolder;
+		});
+	}
+
 	public File getOrCreatePingFile() {
 		File pingFile = new File(Paths.clean(getOrCreateBurningwaveTemporaryFolder() .getAbsolutePath() + "/" + id + ".ping"));
 		if (!pingFile.exists()) {
@@ -272,7 +286,8 @@ public class FileSystemHelper implements Component {
 				for (File fileSystemItem : burningwaveTemporaryFolder.listFiles()) {
 					try {
 						if (!fileSystemItem.getName().equals(fileSystemHelper.getOrCreateMainTemporaryFolder().getName()) &&
-							!fileSystemItem.getName().equals(fileSystemHelper.getOrCreatePingFile().getName())
+							!fileSystemItem.getName().equals(fileSystemHelper.getOrCreatePingFile().getName()) &&
+							!fileSystemItem.getName().equals(PERSISTENT_FOLDER_NAME)
 						) {
 							try {
 								try {
@@ -253,6 +253,24 @@ public class FileSystemItem implements Comparable<FileSystemItem> {
 		return findIn(this::getAllChildren0, filter, false, setSupplier);
 	}
 
+	//Finds in the given entries of this archive without enumerating its content: the entries must be files
+	public Collection<FileSystemItem> findInArchiveEntries(Collection<String> entryNames, FileSystemItem.Criteria filter) {
+		return findIn(() -> {
+			String conventionedAbsolutePath = computeConventionedAbsolutePath();
+			Collection<FileSystemItem> entries = newCollectionSupplier.get();
+			for (String entryName : entryNames) {
+				FileSystemItem fileSystemItem = FileSystemItem.ofPath(
+					getAbsolutePath() + "/" + entryName, conventionedAbsolutePath + entryName
+				);
+				if (fileSystemItem.parentContainer == null) {
+					fileSystemItem.parentContainer = this;
+				}
+				entries.add(fileSystemItem);
+			}
+			return entries;
+		}, filter, false, ConcurrentHashMap::newKeySet);
+	}
+
 	public Collection<FileSystemItem> findInChildren(FileSystemItem.Criteria filter) {
 		return findIn(this::getChildren0, filter, false, ConcurrentHashMap::newKeySet);
 	}
@@ -699,11 +717,11 @@ public class FileSystemItem implements Comparable<FileSystemItem> {
 	}
 
 	private void removeFromCache(FileSystemItem fileSystemItem, boolean removeFromCache) {
-		Cache.pathForContents.remove(fileSystemItem.getAbsolutePath(), true);
 		IterableZipContainer zipContainer = Cache.pathForIterableZipContainers.get(fileSystemItem.getAbsolutePath());
 		if (zipContainer != null) {
 			zipContainer.destroy();
 		}
+		Cache.pathForContents.remove(fileSystemItem.getAbsolutePath(), true);
 		if (removeFromCache) {
 			Cache.pathForFileSystemItems.remove(fileSystemItem.getAbsolutePath(), true);
 		}
@@ -980,11 +998,17 @@ public class FileSystemItem implements Comparable<FileSystemItem> {
 				try (IterableZipContainer iterableZipContainer = IterableZipContainer.create(
 					getParentContainer().reloadContent(recomputeConventionedAbsolutePath).getAbsolutePath())
 				) {
-					IterableZipContainer.Entry zipEntry = iterableZipContainer.findFirst(
-						iteratedZipEntry ->
-							iteratedZipEntry.getAbsolutePath().equals(absolutePath),
-						iteratedZipEntry ->
-							iteratedZipEntry.getAbsolutePath().equals(absolutePath)
+					IterableZipContainer.Entry zipEntry = Optional.ofNullable(
+						iterableZipContainer.findEntry(absolutePath.substring(iterableZipContainer.getAbsolutePath().length() + 1))
+					).filter(iteratedZipEntry ->
+						iteratedZipEntry.getAbsolutePath().equals(absolutePath)
+					).orElseGet(() ->
+						iterableZipContainer.findFirst(
+							iteratedZipEntry ->
+								iteratedZipEntry.getAbsolutePath().equals(absolutePath),
+							iteratedZipEntry ->
+								iteratedZipEntry.getAbsolutePath().equals(absolutePath)
+						)
 					);
 					Cache.pathForContents.upload(
 						absolutePath, () -> {
@@ -1057,6 +1081,38 @@ public class FileSystemItem implements Comparable<FileSystemItem> {
 		return null;
 	}
 
+	public ByteBuffer toHeaderByteBuffer() {
+		String absolutePath = getAbsolutePath();
+		ByteBuffer content = Cache.pathForContents.get(absolutePath);
+		if (content != null) {
+			return content;
+		}
+		if (exists() && !isFolder()) {
+			if (isCompressed()) {
+				//The parent archive is loaded and cached anyway when the conventioned path of the entry is computed,
+				//so only the entry is not loaded: the header is sliced or inflated from the cached archive
+				FileSystemItem parentContainer = getParentContainer();
+				try (IterableZipContainer zipContainer = IterableZipContainer.create(
+					parentContainer.getAbsolutePath(), parentContainer.toByteBuffer()
+				)) {
+					IterableZipContainer.Entry zipEntry = zipContainer != null ?
+						zipContainer.findEntry(absolutePath.substring(parentContainer.getAbsolutePath().length() + 1)) :
+						null;
+					if (zipEntry != null) {
+						return zipEntry.toHeaderByteBuffer();
+					}
+				}
+				return toByteBuffer();
+			}
+			try (FileInputStream fIS = FileInputStream.create(absolutePath)) {
+				byte[] header = new byte[IterableZipContainer.Entry.HEADER_SIZE];
+				int bytesRead = Executor.get(() -> fIS.read(header));
+				return ByteBuffer.wrap(header, 0, Math.max(bytesRead, 0)).slice();
+			}
+		}
+		return null;
+	}
+
 	public InputStream toInputStream() {
 		return new ByteBufferInputStream(toByteBuffer());
 	}
@@ -1161,7 +1217,7 @@ public class FileSystemItem implements Comparable<FileSystemItem> {
 						String name = file.getName();
 						return name.endsWith(".zip") || name.endsWith(".jar") || name.endsWith(".war")
 								|| name.endsWith(".ear") || name.endsWith(".jmod");
-					}, file -> Executor.get(() -> !file.isFolder() && Streams.isArchive(file.toByteBuffer())));
+					}, file -> Executor.get(() -> !file.isFolder() && Streams.isArchive(file.toHeaderByteBuffer())));
 				}
 			}
 
@@ -1172,7 +1228,7 @@ public class FileSystemItem implements Comparable<FileSystemItem> {
 						String name = file.getName();
 						return name.endsWith(".class") && !name.endsWith("module-info.class")
 								&& !name.endsWith("package-info.class");
-					}, file -> Executor.get(() -> !file.isFolder() && Streams.isClass(file.toByteBuffer())));
+					}, file -> Executor.get(() -> !file.isFolder() && Streams.isClass(file.toHeaderByteBuffer())));
 
 				}
 
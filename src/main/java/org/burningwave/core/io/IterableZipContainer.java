@@ -41,6 +41,7 @@ import java.io.InputStream;
 import java.nio.ByteBuffer;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -73,11 +74,39 @@ public interface IterableZipContainer extends Closeable {
 		if (Streams.isJModArchive(bytes)) {
 			return createZipFile(absolutePath, bytes);
 		} else if (Streams.isArchive(bytes)) {
-			return new ZipInputStream(absolutePath, new ByteBufferInputStream(bytes));
+			return createByteBufferZipFile(absolutePath, bytes);
 		}
 		return null;
 	}
 
+	@SuppressWarnings("resource")
+	static IterableZipContainer createByteBufferZipFile(String absolutePath, ByteBuffer bytes) {
+		final IterableZipContainer zipFile = Cache.pathForIterableZipContainers.getOrUploadIfAbsent(
+			absolutePath, () -> ByteBufferZipFile.create(absolutePath, bytes)
+		);
+		if (zipFile == null) {
+			return new ZipInputStream(absolutePath, new ByteBufferInputStream(bytes));
+		}
+		try {
+			return zipFile.duplicate();
+		} catch (Throwable exc) {
+			Synchronizer.execute(IterableZipContainer.classId + "_" + absolutePath, () -> {
+				IterableZipContainer oldZipFile = Cache.pathForIterableZipContainers.get(absolutePath);
+				if (oldZipFile == null || oldZipFile == zipFile ||
+					(oldZipFile instanceof ByteBufferZipFile && ((ByteBufferZipFile)oldZipFile).isDestroyed)) {
+					Cache.pathForIterableZipContainers.upload(
+						absolutePath, () -> ByteBufferZipFile.create(absolutePath, bytes), true
+					);
+				}
+			});
+			return Optional.ofNullable(Cache.pathForIterableZipContainers.get(absolutePath)).map(
+				IterableZipContainer::duplicate
+			).orElseGet(() ->
+				new ZipInputStream(absolutePath, new ByteBufferInputStream(bytes))
+			);
+		}
+	}
+
 	static IterableZipContainer createZipFile(String absolutePath, ByteBuffer bytes) {
 		final ZipFile zipFile = (ZipFile)Cache.pathForIterableZipContainers.getOrUploadIfAbsent(
 			absolutePath, () -> new ZipFile(absolutePath, bytes)
@@ -112,7 +141,7 @@ public interface IterableZipContainer extends Closeable {
 			if (Streams.isJModArchive(iS.toByteBuffer())) {
 				return createZipFile(absolutePath, iS.toByteBuffer());
 			} else if (Streams.isArchive(iS.toByteBuffer())) {
-				return new ZipInputStream(absolutePath, new ByteBufferInputStream(iS.toByteBuffer()));
+				return createByteBufferZipFile(absolutePath, iS.toByteBuffer());
 			}
 		} finally {
 			try {
@@ -145,6 +174,10 @@ public interface IterableZipContainer extends Closeable {
 
 	public Entry getCurrentZipEntry();
 
+	public default Entry findEntry(String name) {
+		return findFirst(entry -> entry.getName().equals(name), entry -> false);
+	}
+
 	public Function<Entry, Entry> getEntrySupplier();
 
 	public void closeEntry();
@@ -271,6 +304,7 @@ public interface IterableZipContainer extends Closeable {
 	}
 
 	public static interface Entry extends Component {
+		public final static int HEADER_SIZE = 8;
 
 		public IterableZipContainer getParentContainer();
 
@@ -288,6 +322,10 @@ public interface IterableZipContainer extends Closeable {
 
 		public ByteBuffer toByteBuffer();
 
+		default public ByteBuffer toHeaderByteBuffer() {
+			return toByteBuffer();
+		}
+
 		default public byte[] toByteArray() {
 			return BufferHandler.toByteArray(toByteBuffer());
 		}
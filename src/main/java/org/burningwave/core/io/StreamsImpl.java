@@ -131,11 +131,25 @@ class StreamsImpl implements Streams, Identifiable, Properties.Listener {
 		try {
 			byte[] heapBuffer = BufferHandler.newByteArrayWithDefaultSize();
 			int bytesRead;
-			ByteBuffer byteBuffer = BufferHandler.newByteBuffer(streamSize);
-			while (-1 != (bytesRead = inputStream.read(heapBuffer))) {
-				byteBuffer = BufferHandler.put(byteBuffer, heapBuffer, bytesRead);
+			if (streamSize > -1) {
+				ByteBuffer byteBuffer = BufferHandler.newByteBuffer(streamSize);
+				while (-1 != (bytesRead = inputStream.read(heapBuffer))) {
+					byteBuffer = BufferHandler.put(byteBuffer, heapBuffer, bytesRead);
+				}
+				return BufferHandler.shareContent(byteBuffer);
+			}
+			ByteBuffer pooledBuffer = BufferHandler.acquire(BufferHandler.getDefaultBufferSize());
+			try {
+				while (-1 != (bytesRead = inputStream.read(heapBuffer))) {
+					pooledBuffer = BufferHandler.ensureRemainingOfAcquired(pooledBuffer, bytesRead, 0);
+					pooledBuffer.put(heapBuffer, 0, bytesRead);
+				}
+				ByteBuffer byteBuffer = BufferHandler.allocate(BufferHandler.position(pooledBuffer));
+				byteBuffer.put(BufferHandler.flip(pooledBuffer));
+				return BufferHandler.shareContent(byteBuffer);
+			} finally {
+				BufferHandler.release(pooledBuffer);
 			}
-			return BufferHandler.shareContent(byteBuffer);
 		} catch (Throwable exc) {
 			return org.burningwave.core.assembler.StaticComponentContainer.Driver.throwException(exc);
 		}
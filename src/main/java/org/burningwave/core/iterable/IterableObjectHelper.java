@@ -40,7 +40,10 @@ import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
 import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
@@ -263,6 +266,10 @@ public interface IterableObjectHelper {
 			return (C)new IterableObjectHelperImpl.Iterator.Config<Character, char[]>(input);
 		}
 
+		public static <I, C extends IterationConfig<Short, short[], C>> C ofShorts(short[] input) {
+			return (C)new IterableObjectHelperImpl.Iterator.Config<Short, short[]>(input);
+		}
+
 		public static <J, I, C extends IterationConfig<Map.Entry<J, I>, Collection<I>, C>> C ofNullable(Map<J, I> input) {
 			return (C)new IterableObjectHelperImpl.Iterator.Config<Map.Entry<J, I>, Collection<I>>(input != null ? input.entrySet() : IterableObjectHelperImpl.Iterator.NO_ITEMS);
 		}
@@ -303,8 +310,18 @@ public interface IterableObjectHelper {
 			return (C)new IterableObjectHelperImpl.Iterator.Config<Character, char[]>(input != null ? input : IterableObjectHelperImpl.Iterator.NO_ITEMS);
 		}
 
+		public static <I, C extends IterationConfig<Short, short[], C>> C ofNullableShorts(short[] input) {
+			return (C)new IterableObjectHelperImpl.Iterator.Config<Short, short[]>(input != null ? input : IterableObjectHelperImpl.Iterator.NO_ITEMS);
+		}
+
 		public C withAction(Consumer<I> action);
 
+		public C withIntAction(IntConsumer action);
+
+		public C withLongAction(LongConsumer action);
+
+		public C withDoubleAction(DoubleConsumer action);
+
 		public <O, OC extends Collection<O>> WithOutputOfCollection<I, IC, O, OC> withOutput(OC output);
 
 		public <K, O, OM extends Map<K, O>> WithOutputOfMap<I, IC, K, O, OM> withOutput(OM output);
@@ -317,6 +334,8 @@ public interface IterableObjectHelper {
 
 		public C threadBased();
 
+		public C workStealing();
+
 		public static class WithOutputOfMap<I, IC, K, O, OM> extends IterableObjectHelperImpl.Iterator.Config.WithOutput<I, IC, WithOutputOfMap<I, IC, K, O, OM>> {
 
 			WithOutputOfMap(IterableObjectHelperImpl.Iterator.Config<I, IC> configuration) {
@@ -29,6 +29,7 @@
 package org.burningwave.core.iterable;
 
 import static org.burningwave.core.assembler.StaticComponentContainer.BackgroundExecutor;
+import static org.burningwave.core.assembler.StaticComponentContainer.Classes;
 import static org.burningwave.core.assembler.StaticComponentContainer.Driver;
 import static org.burningwave.core.assembler.StaticComponentContainer.ManagedLoggerRepository;
 import static org.burningwave.core.assembler.StaticComponentContainer.Objects;
@@ -39,6 +40,7 @@ import static org.burningwave.core.assembler.StaticComponentContainer.ThreadSupp
 import java.io.File;
 import java.lang.reflect.Array;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
@@ -50,7 +52,10 @@ import java.util.TreeMap;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
 import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.regex.Pattern;
@@ -68,6 +73,8 @@ import org.burningwave.core.iterable.Properties.Event;
 
 @SuppressWarnings("unchecked")
 public class IterableObjectHelperImpl implements IterableObjectHelper, Properties.Listener, Identifiable {
+	private final static Class<?> UNMODIFIABLE_MAP_CLASS;
+	private final static Object SYSTEM_PROPERTIES_DEPENDENCY;
 	Predicate<Object> defaultMinimumCollectionSizeForParallelIterationPredicate;
 	private String defaultValuesSeparator;
 	private Integer maxThreadCountsForParallelIteration;
@@ -75,6 +82,11 @@ public class IterableObjectHelperImpl implements IterableObjectHelper, Propertie
 	private Supplier<Class<?>[]> parallelCollectionClassesSupplier;
 	private Class<?>[] parallelCollectionClasses;
 
+	static {
+		UNMODIFIABLE_MAP_CLASS = Collections.unmodifiableMap(new HashMap<>()).getClass();
+		SYSTEM_PROPERTIES_DEPENDENCY = new Object();
+	}
+
 	IterableObjectHelperImpl(Map<?, ?> config) {
 		this.defaultValuesSeparator = resolveStringValue(
 			ResolveConfig.ForNamedKey.forNamedKey(
@@ -273,7 +285,7 @@ public class IterableObjectHelperImpl implements IterableObjectHelper, Propertie
 	public <T> T resolveValue(ResolveConfig.ForNamedKey config) {
 		return resolveValue(
 			config.filter, () ->
-			resolve(
+			resolveWithCache(
 				config.map, config.filter,
 				config.valuesSeparator, config.defaultValueSeparator,
 				config.deleteUnresolvedPlaceHolder, config.defaultValues
@@ -288,7 +300,8 @@ public class IterableObjectHelperImpl implements IterableObjectHelper, Propertie
 			resolve(
 				config.map, config.filter,
 				config.valuesSeparator, config.defaultValueSeparator,
-				config.deleteUnresolvedPlaceHolder, config.defaultValues
+				config.deleteUnresolvedPlaceHolder, config.defaultValues,
+				null
 			)
 		);
 	}
@@ -306,7 +319,7 @@ public class IterableObjectHelperImpl implements IterableObjectHelper, Propertie
 
 	@Override
 	public <T> Collection<T> resolveValues(ResolveConfig.ForNamedKey config) {
-		return resolve(
+		return resolveWithCache(
 			config.map, config.filter,
 			config.valuesSeparator != null ?
 				config.valuesSeparator :
@@ -334,7 +347,7 @@ public class IterableObjectHelperImpl implements IterableObjectHelper, Propertie
 
 	@Override
 	public Collection<String> resolveStringValues(ResolveConfig.ForNamedKey config) {
-		return resolve(
+		return resolveWithCache(
 			config.map, config.filter,
 			config.valuesSeparator != null ?
 				config.valuesSeparator :
@@ -411,25 +424,66 @@ public class IterableObjectHelperImpl implements IterableObjectHelper, Propertie
 					valuesSeparator,
 					defaultValueSeparator,
 					deleteUnresolvedPlaceHolder,
-					defaultValues
+					defaultValues,
+					null
 				)
 			);
 		}
 		return values;
 	}
 
-	private <T> T resolve(
+	private <T> T resolveWithCache(
 		Map<?,?> map,
 		Object key,
 		String valuesSeparator,
 		String defaultValueSeparator,
 		boolean deleteUnresolvedPlaceHolder,
 		Map<?,?> defaultValues
+	) {
+		if (!(map instanceof Properties) || (defaultValues != null && !UNMODIFIABLE_MAP_CLASS.isInstance(defaultValues))) {
+			return resolve(map, key, valuesSeparator, defaultValueSeparator, deleteUnresolvedPlaceHolder, defaultValues, null);
+		}
+		Properties properties = (Properties)map;
+		ResolutionKey resolutionKey = new ResolutionKey(
+			key, valuesSeparator, defaultValueSeparator, deleteUnresolvedPlaceHolder, defaultValues, defaultValuesSeparator
+		);
+		Properties.ResolvedValue resolvedValue = properties.getResolvedValue(resolutionKey);
+		if (resolvedValue != null) {
+			return (T)copyOf(resolvedValue.value);
+		}
+		Map<Object, Object> dependencies = new HashMap<>();
+		T value = resolve(map, key, valuesSeparator, defaultValueSeparator, deleteUnresolvedPlaceHolder, defaultValues, dependencies);
+		if (!dependencies.containsKey(SYSTEM_PROPERTIES_DEPENDENCY)) {
+			properties.putResolvedValue(resolutionKey, copyOf(value), dependencies);
+		}
+		return value;
+	}
+
+	private Object copyOf(Object value) {
+		if (value instanceof IterableObjectHelperImpl.ArrayList) {
+			Collection<Object> values = new IterableObjectHelperImpl.ArrayList<>();
+			values.addAll((Collection<?>)value);
+			return values;
+		}
+		return value;
+	}
+
+	private <T> T resolve(
+		Map<?,?> map,
+		Object key,
+		String valuesSeparator,
+		String defaultValueSeparator,
+		boolean deleteUnresolvedPlaceHolder,
+		Map<?,?> defaultValues,
+		Map<Object, Object> dependencies
 	) {
 		String valuesSeparatorForSplitting = valuesSeparator != null ? valuesSeparator : defaultValueSeparator != null ? defaultValueSeparator : defaultValuesSeparator;
 		T value = (T) map.get(key);
+		if (dependencies != null && map instanceof Properties) {
+			dependencies.put(key, value);
+		}
 		if (value == null && defaultValues != null) {
-			value = (T) resolve(defaultValues, key, valuesSeparator, defaultValueSeparator, deleteUnresolvedPlaceHolder, null);
+			value = (T) resolve(defaultValues, key, valuesSeparator, defaultValueSeparator, deleteUnresolvedPlaceHolder, null, dependencies);
 		}
 		if (value != null && value instanceof String) {
 			String stringValue = (String)value;
@@ -441,8 +495,11 @@ public class IterableObjectHelperImpl implements IterableObjectHelper, Propertie
 						for (String placeHolder : entry.getValue()) {
 							Object valueObjects = null;
 							if (!placeHolder.startsWith("system.properties:")) {
-								valueObjects = resolve(map, placeHolder, valuesSeparator, defaultValueSeparator, deleteUnresolvedPlaceHolder, defaultValues);
+								valueObjects = resolve(map, placeHolder, valuesSeparator, defaultValueSeparator, deleteUnresolvedPlaceHolder, defaultValues, dependencies);
 							} else {
+								if (dependencies != null) {
+									dependencies.put(SYSTEM_PROPERTIES_DEPENDENCY, null);
+								}
 								valueObjects = StaticComponentContainer.SystemProperties.get(placeHolder.split(":")[1]);
 								if (valuesSeparatorForSplitting != null) {
 									valueObjects = ((String)valueObjects).replace(
@@ -768,6 +825,61 @@ public class IterableObjectHelperImpl implements IterableObjectHelper, Propertie
 
 	}
 
+	private static class ResolutionKey {
+		private final Object key;
+		private final String valuesSeparator;
+		private final String defaultValueSeparator;
+		private final boolean deleteUnresolvedPlaceHolder;
+		private final Map<?, ?> defaultValues;
+		private final String defaultValuesSeparator;
+		private final int hashCode;
+
+		private ResolutionKey(
+			Object key,
+			String valuesSeparator,
+			String defaultValueSeparator,
+			boolean deleteUnresolvedPlaceHolder,
+			Map<?, ?> defaultValues,
+			String defaultValuesSeparator
+		) {
+			this.key = key;
+			this.valuesSeparator = valuesSeparator;
+			this.defaultValueSeparator = defaultValueSeparator;
+			this.deleteUnresolvedPlaceHolder = deleteUnresolvedPlaceHolder;
+			this.defaultValues = defaultValues;
+			this.defaultValuesSeparator = defaultValuesSeparator;
+			int hashCode = java.util.Objects.hashCode(key);
+			hashCode = 31 * hashCode + java.util.Objects.hashCode(valuesSeparator);
+			hashCode = 31 * hashCode + java.util.Objects.hashCode(defaultValueSeparator);
+			hashCode = 31 * hashCode + (deleteUnresolvedPlaceHolder ? 1 : 0);
+			hashCode = 31 * hashCode + System.identityHashCode(defaultValues);
+			this.hashCode = 31 * hashCode + java.util.Objects.hashCode(defaultValuesSeparator);
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override
+		public boolean equals(Object object) {
+			if (this == object) {
+				return true;
+			}
+			if (!(object instanceof ResolutionKey)) {
+				return false;
+			}
+			ResolutionKey resolutionKey = (ResolutionKey)object;
+			return hashCode == resolutionKey.hashCode &&
+				deleteUnresolvedPlaceHolder == resolutionKey.deleteUnresolvedPlaceHolder &&
+				defaultValues == resolutionKey.defaultValues &&
+				java.util.Objects.equals(key, resolutionKey.key) &&
+				java.util.Objects.equals(valuesSeparator, resolutionKey.valuesSeparator) &&
+				java.util.Objects.equals(defaultValueSeparator, resolutionKey.defaultValueSeparator) &&
+				java.util.Objects.equals(defaultValuesSeparator, resolutionKey.defaultValuesSeparator);
+		}
+	}
+
 	static abstract class Iterator {
 		static final Object NO_ITEMS;
 
@@ -806,6 +918,66 @@ public class IterableObjectHelperImpl implements IterableObjectHelper, Propertie
 			return outputItemsHandler;
 		}
 
+		<I, OC> IntConsumer buildArrayItemConsumer(
+			Object array,
+			BiConsumer<I, Consumer<Consumer<OC>>> action,
+			Consumer<Consumer<OC>> outputItemsHandler
+		) {
+			//The primitive actions read the array directly so that neither the index nor the value are boxed
+			if (action instanceof PrimitiveAction) {
+				if (array.getClass().getComponentType().isPrimitive()) {
+					((PrimitiveAction)action).checkApplicabilityTo(array.getClass().getComponentType());
+				}
+				Object primitiveAction = ((PrimitiveAction)action).action;
+				if (primitiveAction instanceof IntConsumer) {
+					IntConsumer intAction = (IntConsumer)primitiveAction;
+					IntConsumer itemConsumer = buildIntegralArrayItemConsumer(array, intAction::accept);
+					if (itemConsumer != null) {
+						return itemConsumer;
+					}
+				} else if (primitiveAction instanceof LongConsumer) {
+					LongConsumer longAction = (LongConsumer)primitiveAction;
+					if (array instanceof long[]) {
+						long[] items = (long[])array;
+						return index -> longAction.accept(items[index]);
+					}
+					IntConsumer itemConsumer = buildIntegralArrayItemConsumer(array, longAction::accept);
+					if (itemConsumer != null) {
+						return itemConsumer;
+					}
+				} else if (primitiveAction instanceof DoubleConsumer) {
+					DoubleConsumer doubleAction = (DoubleConsumer)primitiveAction;
+					if (array instanceof double[]) {
+						double[] items = (double[])array;
+						return index -> doubleAction.accept(items[index]);
+					} else if (array instanceof float[]) {
+						float[] items = (float[])array;
+						return index -> doubleAction.accept(items[index]);
+					}
+				}
+			}
+			Function<Integer, ?> itemRetriever = Classes.buildArrayValueRetriever(array);
+			return index -> action.accept((I)itemRetriever.apply(index), outputItemsHandler);
+		}
+
+		//The items are widened to int without boxing: the returned consumer receives the index
+		IntConsumer buildIntegralArrayItemConsumer(Object array, IntConsumer action) {
+			if (array instanceof int[]) {
+				int[] items = (int[])array;
+				return index -> action.accept(items[index]);
+			} else if (array instanceof short[]) {
+				short[] items = (short[])array;
+				return index -> action.accept(items[index]);
+			} else if (array instanceof byte[]) {
+				byte[] items = (byte[])array;
+				return index -> action.accept(items[index]);
+			} else if (array instanceof char[]) {
+				char[] items = (char[])array;
+				return index -> action.accept(items[index]);
+			}
+			return null;
+		}
+
 		void checkAndNotifyTerminationOfIteration(
 			AtomicReference<IterableObjectHelper.TerminateIteration> terminateIterationNotification,
 			IterableObjectHelper.TerminateIteration exc
@@ -815,14 +987,76 @@ public class IterableObjectHelperImpl implements IterableObjectHelper, Propertie
 			}
 		}
 
+		static class PrimitiveAction implements BiConsumer<Object, Consumer<Consumer<?>>> {
+			final Object action;
+
+			PrimitiveAction(IntConsumer action) {
+				this.action = action;
+			}
+
+			PrimitiveAction(LongConsumer action) {
+				this.action = action;
+			}
+
+			PrimitiveAction(DoubleConsumer action) {
+				this.action = action;
+			}
+
+			//The items are never narrowed: an int action can not be applied to long items and
+			//a long action can not be applied to floating point items
+			void checkApplicabilityTo(Class<?> itemType) {
+				boolean isIntegral = itemType == int.class || itemType == Integer.class ||
+					itemType == short.class || itemType == Short.class ||
+					itemType == byte.class || itemType == Byte.class ||
+					itemType == char.class || itemType == Character.class;
+				if (action instanceof IntConsumer) {
+					if (!isIntegral) {
+						throwNotApplicableException(IntConsumer.class, itemType);
+					}
+				} else if (action instanceof LongConsumer) {
+					if (!isIntegral && itemType != long.class && itemType != Long.class) {
+						throwNotApplicableException(LongConsumer.class, itemType);
+					}
+				} else if (!Number.class.isAssignableFrom(itemType) && itemType != Character.class &&
+					(!itemType.isPrimitive() || itemType == boolean.class)
+				) {
+					throwNotApplicableException(DoubleConsumer.class, itemType);
+				}
+			}
+
+			private void throwNotApplicableException(Class<?> actionType, Class<?> itemType) {
+				throw new IllegalArgumentException(
+					Strings.compile("{} action could not be applied to items of type {}", actionType.getSimpleName(), itemType.getName())
+				);
+			}
+
+			@Override
+			public void accept(Object item, Consumer<Consumer<?>> outputItemCollector) {
+				checkApplicabilityTo(item.getClass());
+				if (item instanceof Character) {
+					item = (int)((Character)item).charValue();
+				}
+				if (action instanceof IntConsumer) {
+					((IntConsumer)action).accept(((Number)item).intValue());
+				} else if (action instanceof LongConsumer) {
+					((LongConsumer)action).accept(((Number)item).longValue());
+				} else {
+					((DoubleConsumer)action).accept(((Number)item).doubleValue());
+				}
+			}
+
+		}
+
 		static class Config<I, IC> implements IterableObjectHelper.IterationConfig<I, IC, Config<I, IC>>{
 			private final static Function<IterableObjectHelperImpl, IterableObjectHelperImpl.Iterator> taskBasedIteratorSupplier;
 			private final static Function<IterableObjectHelperImpl, IterableObjectHelperImpl.Iterator> threadBasedIteratorSupplier;
+			private final static Function<IterableObjectHelperImpl, IterableObjectHelperImpl.Iterator> workStealingIteratorSupplier;
 
 
 			static {
 				taskBasedIteratorSupplier = TaskBasedIterator::new;
 				threadBasedIteratorSupplier = ThreadBasedIterator::new;
+				workStealingIteratorSupplier = WorkStealingIterator::new;
 			}
 
 			Object items;
@@ -854,6 +1088,24 @@ public class IterableObjectHelperImpl implements IterableObjectHelper, Propertie
 				return this;
 			}
 
+			@Override
+			public Config<I, IC> withIntAction(IntConsumer action) {
+				this.action = new PrimitiveAction(action);
+				return this;
+			}
+
+			@Override
+			public Config<I, IC> withLongAction(LongConsumer action) {
+				this.action = new PrimitiveAction(action);
+				return this;
+			}
+
+			@Override
+			public Config<I, IC> withDoubleAction(DoubleConsumer action) {
+				this.action = new PrimitiveAction(action);
+				return this;
+			}
+
 			@Override
 			public Config<I, IC> withPriority(Integer priority) {
 				this.priority = priority;
@@ -883,6 +1135,12 @@ public class IterableObjectHelperImpl implements IterableObjectHelper, Propertie
 				return this;
 			}
 
+			@Override
+			public Config<I, IC> workStealing() {
+				this.iteratorSupplier = workStealingIteratorSupplier;
+				return this;
+			}
+
 			@Override
 			public <O, OC extends Collection<O>> WithOutputOfCollection<I, IC, O, OC> withOutput(OC output) {
 				return new WithOutputOfCollection<>(setOutput(output));
@@ -906,6 +1164,24 @@ public class IterableObjectHelperImpl implements IterableObjectHelper, Propertie
 					return (CWO)this;
 				}
 
+				@Override
+				public CWO withIntAction(IntConsumer action) {
+					wrappedConfiguration.withIntAction(action);
+					return (CWO)this;
+				}
+
+				@Override
+				public CWO withLongAction(LongConsumer action) {
+					wrappedConfiguration.withLongAction(action);
+					return (CWO)this;
+				}
+
+				@Override
+				public CWO withDoubleAction(DoubleConsumer action) {
+					wrappedConfiguration.withDoubleAction(action);
+					return (CWO)this;
+				}
+
 				@Override
 				public <O, OC extends Collection<O>> WithOutputOfCollection<I, IC, O, OC> withOutput(OC output) {
 					wrappedConfiguration.setOutput(output);
@@ -936,6 +1212,12 @@ public class IterableObjectHelperImpl implements IterableObjectHelper, Propertie
 					return (CWO)this;
 				}
 
+				@Override
+				public CWO workStealing() {
+					wrappedConfiguration.workStealing();
+					return (CWO)this;
+				}
+
 				@Override
 				public CWO withPriority(Integer priority) {
 					wrappedConfiguration.withPriority(priority);
@@ -35,6 +35,7 @@ import static org.burningwave.core.assembler.StaticComponentContainer.Streams;
 
 import java.io.InputStream;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
@@ -54,6 +55,8 @@ public class Properties extends ConcurrentHashMap<Object, Object> {
 
 	private Set<Listener> listeners;
 	private String defaultValuesSeparator;
+	private transient Map<Object, ResolvedValue> resolvedValues;
+	private transient Map<Object, Set<Object>> resolvedValueKeysForDependency;
 
 	public Properties() {
 		super();
@@ -264,6 +267,7 @@ public class Properties extends ConcurrentHashMap<Object, Object> {
 		} else {
 			oldValue = super.remove(key);
 		}
+		removeResolvedValuesThatDependOn(key);
 		notifyChange(Event.PUT, key, value, oldValue);
 		return oldValue;
 	}
@@ -271,10 +275,72 @@ public class Properties extends ConcurrentHashMap<Object, Object> {
 	@Override
 	public synchronized Object remove(Object key) {
 		Object removed = super.remove(key);
+		removeResolvedValuesThatDependOn(key);
 		notifyChange(Event.REMOVE, key, null, removed);
 		return removed;
 	}
 
+	@Override
+	public void putAll(Map<?, ?> map) {
+		super.putAll(map);
+		removeAllResolvedValues();
+	}
+
+	@Override
+	public void clear() {
+		super.clear();
+		removeAllResolvedValues();
+	}
+
+	ResolvedValue getResolvedValue(Object resolutionKey) {
+		Map<Object, ResolvedValue> resolvedValues = this.resolvedValues;
+		if (resolvedValues == null) {
+			return null;
+		}
+		ResolvedValue resolvedValue = resolvedValues.get(resolutionKey);
+		if (resolvedValue != null && !resolvedValue.isValidFor(this)) {
+			resolvedValues.remove(resolutionKey, resolvedValue);
+			return null;
+		}
+		return resolvedValue;
+	}
+
+	void putResolvedValue(Object resolutionKey, Object value, Map<Object, Object> dependencies) {
+		if (resolvedValues == null) {
+			synchronized (this) {
+				if (resolvedValues == null) {
+					resolvedValueKeysForDependency = new ConcurrentHashMap<>();
+					resolvedValues = new ConcurrentHashMap<>();
+				}
+			}
+		}
+		for (Object dependency : dependencies.keySet()) {
+			resolvedValueKeysForDependency.computeIfAbsent(dependency, key -> newKeySet()).add(resolutionKey);
+		}
+		resolvedValues.put(resolutionKey, new ResolvedValue(value, dependencies));
+	}
+
+	private void removeResolvedValuesThatDependOn(Object key) {
+		Map<Object, ResolvedValue> resolvedValues = this.resolvedValues;
+		if (resolvedValues == null) {
+			return;
+		}
+		Set<Object> resolutionKeys = resolvedValueKeysForDependency.remove(key);
+		if (resolutionKeys != null) {
+			for (Object resolutionKey : resolutionKeys) {
+				resolvedValues.remove(resolutionKey);
+			}
+		}
+	}
+
+	private void removeAllResolvedValues() {
+		Map<Object, ResolvedValue> resolvedValues = this.resolvedValues;
+		if (resolvedValues != null) {
+			resolvedValues.clear();
+			resolvedValueKeysForDependency.clear();
+		}
+	}
+
 	public Map<Object, Object> toMap(Supplier<Map<Object, Object>> mapSupplier) {
 		Map<Object, Object> allValues = mapSupplier.get();
 		allValues.putAll(this);
@@ -307,6 +373,29 @@ public class Properties extends ConcurrentHashMap<Object, Object> {
 		}
 	}
 
+	static class ResolvedValue {
+		final Object value;
+		//The values of the keys read while resolving: the resolved value is valid until one of them changes
+		private final Map<Object, Object> dependencies;
+
+		private ResolvedValue(Object value, Map<Object, Object> dependencies) {
+			this.value = value;
+			this.dependencies = dependencies;
+		}
+
+		private boolean isValidFor(Properties properties) {
+			Iterator<Map.Entry<Object, Object>> dependenciesIterator = dependencies.entrySet().iterator();
+			while (dependenciesIterator.hasNext()) {
+				Map.Entry<Object, Object> dependency = dependenciesIterator.next();
+				if (properties.get(dependency.getKey()) != dependency.getValue()) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+	}
+
 	public static interface Listener {
 
 
@@ -29,7 +29,6 @@
 package org.burningwave.core.iterable;
 
 
-import static org.burningwave.core.assembler.StaticComponentContainer.Classes;
 import static org.burningwave.core.assembler.StaticComponentContainer.ManagedLoggerRepository;
 import static org.burningwave.core.assembler.StaticComponentContainer.ThreadSupplier;
 
@@ -43,7 +42,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
-import java.util.function.Function;
+import java.util.function.IntConsumer;
 import java.util.function.Predicate;
 
 import org.burningwave.core.concurrent.Thread;
@@ -160,7 +159,7 @@ class ThreadBasedIterator extends IterableObjectHelperImpl.Iterator {
 					Class<?> componentType = items.getClass().getComponentType();
 					/* Iterate primitive array */
 					if (componentType.isPrimitive()) {
-						final Function<Integer, ?> itemRetriever = Classes.buildArrayValueRetriever(items);
+						final IntConsumer itemConsumer = buildArrayItemConsumer(items, action, outputItemsHandler);
 						for (
 							int taskIndex = 0, currentSplittedIteratorIndex = 0;
 							taskIndex < taskCountThatCanBeCreated && terminateIterationNotification.get() == null;
@@ -178,7 +177,7 @@ class ThreadBasedIterator extends IterableObjectHelperImpl.Iterator {
 										terminateIterationNotification.get() == null && remainedItems > 0;
 										--remainedItems
 									) {
-										action.accept((I)itemRetriever.apply(itemIndex++), outputItemsHandler);
+										itemConsumer.accept(itemIndex++);
 									}
 								} catch (IterableObjectHelper.TerminateIteration exc) {
 									checkAndNotifyTerminationOfIteration(terminateIterationNotification, exc);
@@ -264,10 +263,10 @@ class ThreadBasedIterator extends IterableObjectHelperImpl.Iterator {
 						action.accept(item, outputItemsHandler);
 					}
 				} else {
-					Function<Integer, ?> itemRetriever = Classes.buildArrayValueRetriever(items);
+					IntConsumer itemConsumer = buildArrayItemConsumer(items, action, outputItemsHandler);
 					int arrayLength = Array.getLength(items);
 					for (int i = 0; i < arrayLength; i++) {
-						action.accept((I)itemRetriever.apply(i), outputItemsHandler);
+						itemConsumer.accept(i);
 					}
 				}
 			} catch (IterableObjectHelper.TerminateIteration t) {
@@ -0,0 +1,218 @@
+/*
+ * This file is part of Burningwave Core.
+ *
+ * Author: Roberto Gentili
+ *
+ * Hosted at: https://github.com/burningwave/core
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019 Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.burningwave.core.iterable;
+
+import static org.burningwave.core.assembler.StaticComponentContainer.BackgroundExecutor;
+import static org.burningwave.core.assembler.StaticComponentContainer.ManagedLoggerRepository;
+
+import java.lang.reflect.Array;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+import org.burningwave.core.concurrent.QueuedTaskExecutor;
+import org.burningwave.core.function.ThrowingConsumer;
+
+@SuppressWarnings("unchecked")
+class WorkStealingIterator extends IterableObjectHelperImpl.Iterator {
+	//Each worker splits its chunk until it is not greater than the total size divided by this value
+	private static final int SPLITS_PER_WORKER = 8;
+
+	WorkStealingIterator(IterableObjectHelperImpl iterableObjectHelper) {
+		super(iterableObjectHelper);
+	}
+
+	@Override
+	<I, IC, OC> OC iterate(
+		IC items,
+		Predicate<IC> predicateForParallelIteration,
+		OC output,
+		BiConsumer<I, Consumer<Consumer<OC>>> action,
+		Integer priority
+	) {
+		if (items == IterableObjectHelperImpl.Iterator.NO_ITEMS) {
+			return output;
+		}
+		Thread currentThread = Thread.currentThread();
+		int initialThreadPriority = currentThread.getPriority();
+		if (priority == null) {
+			priority = initialThreadPriority;
+		} else if (initialThreadPriority != priority) {
+			currentThread.setPriority(priority);
+		}
+		try {
+			if (predicateForParallelIteration == null) {
+				predicateForParallelIteration = collectionOrArray -> iterableObjectHelper.defaultMinimumCollectionSizeForParallelIterationPredicate.test(collectionOrArray);
+			}
+			int taskCountThatCanBeCreated = iterableObjectHelper.getCountOfTasksThatCanBeCreated(items, predicateForParallelIteration);
+			Consumer<Consumer<OC>> outputItemsHandler = taskCountThatCanBeCreated > 1 ?
+				buildOutputCollectionHandler(output) :
+				output != null ?
+					(outputCollectionConsumer) -> {
+						outputCollectionConsumer.accept(output);
+					}
+				: null;
+			Spliterator<Object> rootSpliterator;
+			Consumer<Object> itemConsumer = null;
+			IntConsumer arrayItemConsumer = null;
+			if (items instanceof Collection) {
+				rootSpliterator = ((Collection<Object>)items).spliterator();
+				itemConsumer = item -> action.accept((I)item, outputItemsHandler);
+			} else if (!items.getClass().getComponentType().isPrimitive()) {
+				rootSpliterator = Arrays.spliterator((Object[])items);
+				itemConsumer = item -> action.accept((I)item, outputItemsHandler);
+			} else {
+				//Primitive arrays are split by index ranges
+				rootSpliterator = (Spliterator<Object>)(Spliterator<?>)IntStream.range(0, Array.getLength(items)).spliterator();
+				arrayItemConsumer = buildArrayItemConsumer(items, action, outputItemsHandler);
+			}
+			final Consumer<Object> finalItemConsumer = itemConsumer;
+			final IntConsumer finalArrayItemConsumer = arrayItemConsumer;
+			if (taskCountThatCanBeCreated > 1) {
+				// Used for break the iteration
+				AtomicReference<IterableObjectHelper.TerminateIteration> terminateIterationNotification = new AtomicReference<>();
+				Collection<QueuedTaskExecutor.Task> tasks = ConcurrentHashMap.newKeySet();
+				ConcurrentLinkedDeque<Spliterator<Object>>[] workersDeques = new ConcurrentLinkedDeque[taskCountThatCanBeCreated];
+				for (int workerIndex = 0; workerIndex < workersDeques.length; workerIndex++) {
+					workersDeques[workerIndex] = new ConcurrentLinkedDeque<>();
+				}
+				long splittingThreshold = Math.max(1, rootSpliterator.estimateSize() / (taskCountThatCanBeCreated * SPLITS_PER_WORKER));
+				ArrayDeque<Spliterator<Object>> initialChunks = new ArrayDeque<>();
+				initialChunks.offerLast(rootSpliterator);
+				Spliterator<Object> prefix;
+				while (initialChunks.size() < taskCountThatCanBeCreated && (prefix = initialChunks.peekFirst().trySplit()) != null) {
+					initialChunks.offerLast(initialChunks.pollFirst());
+					initialChunks.offerLast(prefix);
+				}
+				for (int chunkIndex = 0; !initialChunks.isEmpty(); chunkIndex++) {
+					workersDeques[chunkIndex % workersDeques.length].offerLast(initialChunks.pollFirst());
+				}
+				for (int workerIndex = 0; workerIndex < taskCountThatCanBeCreated && terminateIterationNotification.get() == null; workerIndex++) {
+					final int currentWorkerIndex = workerIndex;
+					ThrowingConsumer<QueuedTaskExecutor.Task, ? extends Throwable> worker = task -> {
+						try {
+							Spliterator<Object> spliterator;
+							while (terminateIterationNotification.get() == null &&
+								(spliterator = retrieveSpliterator(workersDeques, currentWorkerIndex)) != null
+							) {
+								consume(
+									spliterator, workersDeques[currentWorkerIndex], splittingThreshold,
+									finalItemConsumer, finalArrayItemConsumer, terminateIterationNotification
+								);
+							}
+						} catch (IterableObjectHelper.TerminateIteration exc) {
+							checkAndNotifyTerminationOfIteration(terminateIterationNotification, exc);
+						} catch (Throwable exc) {
+							terminateIterationNotification.set(IterableObjectHelper.TerminateIteration.NOTIFICATION);
+							throw exc;
+						} finally {
+							if (task != null) {
+								tasks.remove(task);
+							}
+						}
+					};
+					if (workerIndex < (taskCountThatCanBeCreated - 1)) {
+						tasks.add(
+							BackgroundExecutor.createTask(worker, priority).submit()
+						);
+					} else {
+						try {
+							worker.accept(null);
+						} catch (Throwable exc) {
+							ManagedLoggerRepository.logError(getClass()::getName, exc);
+						}
+					}
+				}
+				for (QueuedTaskExecutor.Task task : tasks) {
+					task.join();
+				}
+				return output;
+			}
+			try {
+				if (finalArrayItemConsumer == null) {
+					rootSpliterator.forEachRemaining(finalItemConsumer);
+				} else {
+					((Spliterator.OfInt)(Spliterator<?>)rootSpliterator).forEachRemaining(finalArrayItemConsumer);
+				}
+			} catch (IterableObjectHelper.TerminateIteration t) {
+
+			}
+		} finally {
+			if (initialThreadPriority != priority) {
+				currentThread.setPriority(initialThreadPriority);
+			}
+		}
+		return output;
+	}
+
+	private Spliterator<Object> retrieveSpliterator(ConcurrentLinkedDeque<Spliterator<Object>>[] workersDeques, int workerIndex) {
+		//The owner takes the most recently split chunks while the thieves take the oldest, and therefore biggest, ones
+		Spliterator<Object> spliterator = workersDeques[workerIndex].pollLast();
+		if (spliterator != null) {
+			return spliterator;
+		}
+		for (int index = 1; index < workersDeques.length; index++) {
+			if ((spliterator = workersDeques[(workerIndex + index) % workersDeques.length].pollFirst()) != null) {
+				return spliterator;
+			}
+		}
+		return null;
+	}
+
+	private void consume(
+		Spliterator<Object> spliterator,
+		ConcurrentLinkedDeque<Spliterator<Object>> workerDeque,
+		long splittingThreshold,
+		Consumer<Object> itemConsumer,
+		IntConsumer arrayItemConsumer,
+		AtomicReference<IterableObjectHelper.TerminateIteration> terminateIterationNotification
+	) {
+		Spliterator<Object> prefix;
+		while (spliterator.estimateSize() > splittingThreshold && (prefix = spliterator.trySplit()) != null) {
+			workerDeque.offerLast(spliterator);
+			spliterator = prefix;
+		}
+		if (arrayItemConsumer == null) {
+			while (terminateIterationNotification.get() == null && spliterator.tryAdvance(itemConsumer)) {}
+		} else {
+			Spliterator.OfInt indexSpliterator = (Spliterator.OfInt)(Spliterator<?>)spliterator;
+			while (terminateIterationNotification.get() == null && indexSpliterator.tryAdvance(arrayItemConsumer)) {}
+		}
+	}
+
+}
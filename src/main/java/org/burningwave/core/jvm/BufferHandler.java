@@ -39,6 +39,7 @@ import java.lang.reflect.Field;
 import java.math.BigDecimal;
 import java.nio.Buffer;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -61,6 +62,12 @@ public class BufferHandler implements Component {
 
 			static final String BUFFER_SIZE = "buffer-handler.default-buffer-size";
 			static final String BUFFER_ALLOCATION_MODE = "buffer-handler.default-allocation-mode";
+			static final String POOL_ENABLED = "buffer-handler.pool.enabled";
+			static final String POOL_MAX_BUFFER_SIZE = "buffer-handler.pool.max-buffer-size";
+			static final String POOL_MAX_BUFFERS_PER_SIZE_CLASS = "buffer-handler.pool.max-buffers-per-size-class";
+			static final String POOL_THREAD_LOCAL_CACHE_SIZE = "buffer-handler.pool.thread-local-cache-size";
+			static final String FILE_MAPPING_ENABLED = "buffer-handler.file-mapping.enabled";
+			static final String FILE_MAPPING_MIN_FILE_SIZE = "buffer-handler.file-mapping.min-file-size";
 
 		}
 
@@ -74,6 +81,12 @@ public class BufferHandler implements Component {
 				Key.BUFFER_ALLOCATION_MODE,
 				"ByteBuffer::allocateDirect"
 			);
+			defaultValues.put(Key.POOL_ENABLED, "true");
+			defaultValues.put(Key.POOL_MAX_BUFFER_SIZE, "256KB");
+			defaultValues.put(Key.POOL_MAX_BUFFERS_PER_SIZE_CLASS, "16");
+			defaultValues.put(Key.POOL_THREAD_LOCAL_CACHE_SIZE, "2");
+			defaultValues.put(Key.FILE_MAPPING_ENABLED, "false");
+			defaultValues.put(Key.FILE_MAPPING_MIN_FILE_SIZE, "16MB");
 
 			DEFAULT_VALUES = Collections.unmodifiableMap(defaultValues);
 		}
@@ -82,6 +95,9 @@ public class BufferHandler implements Component {
 	Field directAllocatedByteBufferAddressField;
 	int defaultBufferSize;
 	Function<Integer, ByteBuffer> defaultByteBufferAllocator;
+	ByteBufferPool pool;
+	boolean poolEnabled;
+	long fileMappingMinFileSize;
     final static float reallocationFactor = 1.1f;
 
 	public BufferHandler(Map<?, ?> config) {
@@ -91,6 +107,8 @@ public class BufferHandler implements Component {
 	void init(Map<?, ?> config) {
 		setDefaultByteBufferSize(config);
 		setDefaultByteBufferAllocationMode(config);
+		setPool(config);
+		setFileMapping(config);
 		checkAndListenTo(config);
 		Class<?> directByteBufferClass = ByteBuffer.allocateDirect(0).getClass();
 		mainCycle:
@@ -106,25 +124,72 @@ public class BufferHandler implements Component {
 	}
 
 	private void setDefaultByteBufferSize(Map<?, ?> config) {
-		String defaultBufferSize = IterableObjectHelper.resolveStringValue(
-			ResolveConfig.forNamedKey(Configuration.Key.BUFFER_SIZE)
+		this.defaultBufferSize = resolveSize(config, Configuration.Key.BUFFER_SIZE);
+		ManagedLoggerRepository.logInfo(getClass()::getName, "default buffer size: {} bytes", this.defaultBufferSize);
+	}
+
+	private int resolveSize(Map<?, ?> config, String key) {
+		String size = IterableObjectHelper.resolveStringValue(
+			ResolveConfig.forNamedKey(key)
 			.on(config)
 			.withDefaultValues(Configuration.DEFAULT_VALUES)
 		);
 		try {
-			this.defaultBufferSize = Integer.valueOf(defaultBufferSize);
+			return Integer.valueOf(size);
 		} catch (Throwable exc) {
-			String unit = defaultBufferSize.substring(defaultBufferSize.length()-2);
-			String value = defaultBufferSize.substring(0, defaultBufferSize.length()-2);
+			String unit = size.substring(size.length()-2);
+			String value = size.substring(0, size.length()-2);
 			if (unit.equalsIgnoreCase("KB")) {
-				this.defaultBufferSize = new BigDecimal(value).multiply(new BigDecimal(1024)).intValue();
+				return new BigDecimal(value).multiply(new BigDecimal(1024)).intValue();
 			} else if (unit.equalsIgnoreCase("MB")) {
-				this.defaultBufferSize = new BigDecimal(value).multiply(new BigDecimal(1024 * 1024)).intValue();
+				return new BigDecimal(value).multiply(new BigDecimal(1024 * 1024)).intValue();
 			} else {
-				this.defaultBufferSize = Integer.valueOf(value);
+				return Integer.valueOf(value);
 			}
 		}
-		ManagedLoggerRepository.logInfo(getClass()::getName, "default buffer size: {} bytes", this.defaultBufferSize);
+	}
+
+	private void setPool(Map<?, ?> config) {
+		boolean poolEnabled = Boolean.valueOf(
+			IterableObjectHelper.resolveStringValue(
+				ResolveConfig.forNamedKey(Configuration.Key.POOL_ENABLED)
+				.on(config)
+				.withDefaultValues(Configuration.DEFAULT_VALUES)
+			)
+		);
+		//Once created the pool is never replaced and its configuration can not be changed anymore: disabling it stops
+		//both the acquisitions and the releases, so the buffers acquired before are simply dropped
+		if (poolEnabled && this.pool == null) {
+			this.pool = ByteBufferPool.create(
+				capacity -> defaultByteBufferAllocator.apply(capacity),
+				defaultBufferSize,
+				resolveSize(config, Configuration.Key.POOL_MAX_BUFFER_SIZE),
+				resolveSize(config, Configuration.Key.POOL_MAX_BUFFERS_PER_SIZE_CLASS),
+				resolveSize(config, Configuration.Key.POOL_THREAD_LOCAL_CACHE_SIZE)
+			);
+		}
+		this.poolEnabled = poolEnabled;
+		if (poolEnabled) {
+			ManagedLoggerRepository.logInfo(getClass()::getName, "buffer pool enabled: max pooled buffer size {} bytes", this.pool.getMaxBufferSize());
+		} else {
+			ManagedLoggerRepository.logInfo(getClass()::getName, "buffer pool disabled");
+		}
+	}
+
+	private void setFileMapping(Map<?, ?> config) {
+		boolean fileMappingEnabled = Boolean.valueOf(
+			IterableObjectHelper.resolveStringValue(
+				ResolveConfig.forNamedKey(Configuration.Key.FILE_MAPPING_ENABLED)
+				.on(config)
+				.withDefaultValues(Configuration.DEFAULT_VALUES)
+			)
+		);
+		if (fileMappingEnabled) {
+			this.fileMappingMinFileSize = resolveSize(config, Configuration.Key.FILE_MAPPING_MIN_FILE_SIZE);
+			ManagedLoggerRepository.logInfo(getClass()::getName, "file mapping enabled for files of at least {} bytes", this.fileMappingMinFileSize);
+		} else {
+			this.fileMappingMinFileSize = -1;
+		}
 	}
 
 	private void setDefaultByteBufferAllocationMode(Map<?, ?> config) {
@@ -151,6 +216,10 @@ public class BufferHandler implements Component {
 					setDefaultByteBufferSize(config);
 				} else if (keyAsString.equals(Configuration.Key.BUFFER_ALLOCATION_MODE)) {
 					setDefaultByteBufferAllocationMode(config);
+				} else if (keyAsString.equals(Configuration.Key.POOL_ENABLED)) {
+					setPool(config);
+				} else if (keyAsString.startsWith("buffer-handler.file-mapping.")) {
+					setFileMapping(config);
 				}
 			}
 		}
@@ -168,6 +237,39 @@ public class BufferHandler implements Component {
 		return defaultByteBufferAllocator.apply(capacity);
 	}
 
+	public ByteBuffer acquire(int capacity) {
+		ByteBufferPool pool = this.pool;
+		if (pool != null && poolEnabled) {
+			return pool.acquire(capacity);
+		}
+		return allocate(capacity);
+	}
+
+	public boolean release(ByteBuffer buffer) {
+		ByteBufferPool pool = this.pool;
+		if (pool != null && poolEnabled) {
+			return pool.release(buffer);
+		}
+		return false;
+	}
+
+	public ByteBufferPool getPool() {
+		return pool;
+	}
+
+	public boolean isToBeMapped(long fileSize) {
+		long fileMappingMinFileSize = this.fileMappingMinFileSize;
+		return fileMappingMinFileSize > -1 && fileSize >= fileMappingMinFileSize && fileSize <= Integer.MAX_VALUE;
+	}
+
+	public ByteBuffer map(FileChannel fileChannel) {
+		try {
+			return fileChannel.map(FileChannel.MapMode.READ_ONLY, 0, fileChannel.size());
+		} catch (Throwable exc) {
+			return Driver.throwException(exc);
+		}
+	}
+
 	public ByteBuffer allocateInHeap(int capacity) {
 		return ByteBuffer.allocate(capacity);
 	}
@@ -248,6 +350,19 @@ public class BufferHandler implements Component {
         return byteBuffer;
     }
 
+	public ByteBuffer ensureRemainingOfAcquired(ByteBuffer byteBuffer, int requiredBytes, int initialPosition) {
+		if (requiredBytes > remaining(byteBuffer)) {
+			int limit = limit(byteBuffer);
+			ByteBuffer newBuffer = acquire(Math.max((int)Math.min(limit * 2L, Integer.MAX_VALUE), position(byteBuffer) + requiredBytes));
+			flip(byteBuffer);
+			newBuffer.put(byteBuffer);
+			position(byteBuffer, initialPosition);
+			release(byteBuffer);
+			return newBuffer;
+		}
+		return byteBuffer;
+	}
+
 	public ByteBuffer expandBuffer(ByteBuffer byteBuffer, int requiredBytes) {
 		return expandBuffer(byteBuffer, requiredBytes, 0);
 	}
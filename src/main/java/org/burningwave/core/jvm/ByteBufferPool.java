@@ -0,0 +1,207 @@
+/*
+ * This file is part of Burningwave Core.
+ *
+ * Author: Roberto Gentili
+ *
+ * Hosted at: https://github.com/burningwave/core
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019 Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.burningwave.core.jvm;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+@SuppressWarnings("unchecked")
+public class ByteBufferPool {
+	private final Function<Integer, ByteBuffer> allocator;
+	private final int minSizeClass;
+	private final int maxSizeClass;
+	private final int maxBuffersPerSizeClass;
+	private final int threadLocalCacheSize;
+	private final ConcurrentLinkedDeque<ByteBuffer>[] sharedBuffers;
+	private final AtomicInteger[] sharedBuffersCount;
+	private final ThreadLocal<ArrayDeque<ByteBuffer>[]> threadLocalBuffers;
+	private final LongAdder hitCount;
+	private final LongAdder missCount;
+	private final AtomicLong outstandingBytes;
+	private final Map<IssuedBuffer, Boolean> issuedBuffers;
+	private final ReferenceQueue<ByteBuffer> unreachableIssuedBuffers;
+
+	ByteBufferPool(
+		Function<Integer, ByteBuffer> allocator,
+		int minBufferSize,
+		int maxBufferSize,
+		int maxBuffersPerSizeClass,
+		int threadLocalCacheSize
+	) {
+		this.allocator = allocator;
+		this.minSizeClass = sizeClassOf(Math.max(minBufferSize, 1));
+		this.maxSizeClass = Math.max(sizeClassOf(Math.max(maxBufferSize, 1)), minSizeClass);
+		this.maxBuffersPerSizeClass = maxBuffersPerSizeClass;
+		this.threadLocalCacheSize = threadLocalCacheSize;
+		int sizeClassesCount = maxSizeClass - minSizeClass + 1;
+		this.sharedBuffers = new ConcurrentLinkedDeque[sizeClassesCount];
+		this.sharedBuffersCount = new AtomicInteger[sizeClassesCount];
+		for (int i = 0; i < sizeClassesCount; i++) {
+			sharedBuffers[i] = new ConcurrentLinkedDeque<>();
+			sharedBuffersCount[i] = new AtomicInteger();
+		}
+		this.threadLocalBuffers = ThreadLocal.withInitial(() -> {
+			ArrayDeque<ByteBuffer>[] buffers = new ArrayDeque[sizeClassesCount];
+			for (int i = 0; i < sizeClassesCount; i++) {
+				buffers[i] = new ArrayDeque<>(threadLocalCacheSize);
+			}
+			return buffers;
+		});
+		this.hitCount = new LongAdder();
+		this.missCount = new LongAdder();
+		this.outstandingBytes = new AtomicLong();
+		this.issuedBuffers = new ConcurrentHashMap<>();
+		this.unreachableIssuedBuffers = new ReferenceQueue<>();
+	}
+
+	public static ByteBufferPool create(
+		Function<Integer, ByteBuffer> allocator,
+		int minBufferSize,
+		int maxBufferSize,
+		int maxBuffersPerSizeClass,
+		int threadLocalCacheSize
+	) {
+		return new ByteBufferPool(allocator, minBufferSize, maxBufferSize, maxBuffersPerSizeClass, threadLocalCacheSize);
+	}
+
+	private static int sizeClassOf(int capacity) {
+		return 32 - Integer.numberOfLeadingZeros(capacity - 1);
+	}
+
+	public ByteBuffer acquire(int capacity) {
+		int sizeClass = Math.max(sizeClassOf(Math.max(capacity, 1)), minSizeClass);
+		if (sizeClass > maxSizeClass) {
+			missCount.increment();
+			return allocator.apply(capacity);
+		}
+		int index = sizeClass - minSizeClass;
+		ByteBuffer buffer = threadLocalBuffers.get()[index].pollLast();
+		if (buffer == null && (buffer = sharedBuffers[index].pollFirst()) != null) {
+			sharedBuffersCount[index].decrementAndGet();
+		}
+		if (buffer != null) {
+			hitCount.increment();
+			((Buffer)buffer).clear();
+		} else {
+			missCount.increment();
+			buffer = allocator.apply(1 << sizeClass);
+		}
+		removeUnreachableIssuedBuffers();
+		issuedBuffers.put(new IssuedBuffer(buffer, unreachableIssuedBuffers), Boolean.TRUE);
+		outstandingBytes.addAndGet(buffer.capacity());
+		return buffer;
+	}
+
+	//Only the buffers issued by this pool and not yet released are accepted: the other ones, even if their
+	//capacity matches a size class, are ignored
+	public boolean release(ByteBuffer buffer) {
+		if (issuedBuffers.remove(new IssuedBuffer(buffer, null)) == null) {
+			return false;
+		}
+		int capacity = buffer.capacity();
+		int sizeClass = sizeClassOf(capacity);
+		outstandingBytes.addAndGet(-capacity);
+		((Buffer)buffer).clear();
+		int index = sizeClass - minSizeClass;
+		ArrayDeque<ByteBuffer> threadLocalCache = threadLocalBuffers.get()[index];
+		if (threadLocalCache.size() < threadLocalCacheSize) {
+			threadLocalCache.addLast(buffer);
+			return true;
+		}
+		AtomicInteger sharedBufferCount = sharedBuffersCount[index];
+		if (sharedBufferCount.incrementAndGet() <= maxBuffersPerSizeClass) {
+			sharedBuffers[index].addFirst(buffer);
+			return true;
+		}
+		sharedBufferCount.decrementAndGet();
+		return false;
+	}
+
+	//The issued buffers that are never released (e.g. because their content has been shared) are removed from
+	//the tracked ones once they are garbage collected
+	private void removeUnreachableIssuedBuffers() {
+		Object issuedBuffer;
+		while ((issuedBuffer = unreachableIssuedBuffers.poll()) != null) {
+			issuedBuffers.remove(issuedBuffer);
+		}
+	}
+
+	public int getMaxBufferSize() {
+		return 1 << maxSizeClass;
+	}
+
+	public long getHitCount() {
+		return hitCount.sum();
+	}
+
+	public long getMissCount() {
+		return missCount.sum();
+	}
+
+	public long getOutstandingBytes() {
+		return outstandingBytes.get();
+	}
+
+	private static class IssuedBuffer extends WeakReference<ByteBuffer> {
+		private final int hashCode;
+
+		IssuedBuffer(ByteBuffer buffer, ReferenceQueue<ByteBuffer> queue) {
+			super(buffer, queue);
+			this.hashCode = System.identityHashCode(buffer);
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override
+		public boolean equals(Object object) {
+			if (object == this) {
+				return true;
+			}
+			if (!(object instanceof IssuedBuffer)) {
+				return false;
+			}
+			ByteBuffer buffer = get();
+			return buffer != null && buffer == ((IssuedBuffer)object).get();
+		}
+	}
+
+}
@@ -2,11 +2,19 @@ package org.burningwave.core;
 
 
 import static org.burningwave.core.assembler.StaticComponentContainer.BackgroundExecutor;
+import static org.burningwave.core.assembler.StaticComponentContainer.JVMInfo;
 import static org.burningwave.core.assembler.StaticComponentContainer.ManagedLoggerRepository;
+import static org.burningwave.core.assembler.StaticComponentContainer.Synchronizer;
+import static org.burningwave.core.assembler.StaticComponentContainer.ThreadSupplier;
 import static org.junit.Assert.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
+import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Random;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -34,6 +42,27 @@ public class BackgroundExecutorTest extends BaseTest {
 		});
 	}
 
+	@Test
+	public void keyedLocksTestOne() {
+		testDoesNotThrow(() -> {
+			int[] counter = new int[1];
+			Collection<QueuedTaskExecutor.Task> tasks = new ArrayList<>();
+			for (int i = 0; i < 8; i++) {
+				tasks.add(
+					BackgroundExecutor.createTask(task -> {
+						for (int j = 0; j < 10_000; j++) {
+							Synchronizer.execute(BackgroundExecutorTest.class, "counter", () -> {
+								counter[0]++;
+							});
+						}
+					}).submit()
+				);
+			}
+			tasks.forEach(QueuedTaskExecutor.Task::waitForFinish);
+			assertTrue(counter[0] == 80_000);
+		});
+	}
+
 	//@Test
 	public void stressTestOne() {
 		testDoesNotThrow(() -> {
@@ -123,4 +152,87 @@ public class BackgroundExecutorTest extends BaseTest {
 		});
 	}
 
+	@Test
+	public void submitWithBlockingTasksQueueTestOne() {
+		testSubmitWithBoundedTasksQueue("block");
+	}
+
+	@Test
+	public void submitWithCallerRunsTasksQueueTestOne() {
+		testSubmitWithBoundedTasksQueue("caller runs");
+	}
+
+	@Test
+	public void virtualThreadSupplierTestOne() {
+		assumeTrue(JVMInfo.getVersion() >= 21);
+		testDoesNotThrow(() -> {
+			Map<Object, Object> config = new HashMap<>(org.burningwave.core.concurrent.Thread.Supplier.Configuration.DEFAULT_VALUES);
+			config.put(org.burningwave.core.concurrent.Thread.Supplier.Configuration.Key.MODE, "virtual");
+			org.burningwave.core.concurrent.Thread.Supplier threadSupplier =
+				org.burningwave.core.concurrent.Thread.Supplier.create("Virtual thread supplier", config, false);
+			assertTrue(threadSupplier.isVirtualThreadModeEnabled());
+			Method isVirtual = Thread.class.getMethod("isVirtual");
+			int tasksCount = 1_000;
+			AtomicInteger executedTasksCount = new AtomicInteger();
+			AtomicInteger executedOnVirtualThreadTasksCount = new AtomicInteger();
+			QueuedTaskExecutor queuedTaskExecutor = QueuedTaskExecutor.create(
+				"Virtual thread executor", threadSupplier, Thread.NORM_PRIORITY
+			);
+			try {
+				Collection<QueuedTaskExecutor.Task> tasks = new ArrayList<>();
+				for (int i = 0; i < tasksCount; i++) {
+					tasks.add(queuedTaskExecutor.createTask(() -> {
+						executedTasksCount.incrementAndGet();
+						if ((boolean)isVirtual.invoke(Thread.currentThread())) {
+							executedOnVirtualThreadTasksCount.incrementAndGet();
+						}
+					}).submit());
+				}
+				tasks.forEach(QueuedTaskExecutor.Task::waitForFinish);
+				assertTrue(executedTasksCount.get() == tasksCount);
+				assertTrue(executedOnVirtualThreadTasksCount.get() == tasksCount);
+			} finally {
+				queuedTaskExecutor.shutDown(false);
+				threadSupplier.shutDownAllThreads();
+			}
+		});
+	}
+
+	@Test
+	public void tasksCreationTrackingTestOne() {
+		testDoesNotThrow(() -> {
+			QueuedTaskExecutor queuedTaskExecutor = QueuedTaskExecutor.create(
+				"Tracked tasks executor", ThreadSupplier, Thread.NORM_PRIORITY
+			).setTasksCreationTrackingFlag(true).setTasksCreationTrackingSamplingRate(1);
+			try {
+				QueuedTaskExecutor.Task task = queuedTaskExecutor.createTask(() -> {}).submit().waitForFinish();
+				assertTrue(task.getCreatorInfos().stream().anyMatch(
+					stackTraceElement -> stackTraceElement.getClassName().startsWith(BackgroundExecutorTest.class.getName())
+				));
+			} finally {
+				queuedTaskExecutor.shutDown(false);
+			}
+		});
+	}
+
+	private void testSubmitWithBoundedTasksQueue(String tasksQueueFullPolicy) {
+		testDoesNotThrow(() -> {
+			int tasksCount = 50_000;
+			AtomicInteger executedTasksCount = new AtomicInteger();
+			QueuedTaskExecutor queuedTaskExecutor = QueuedTaskExecutor.create(
+				"Bounded tasks queue executor", ThreadSupplier, Thread.NORM_PRIORITY
+			).setTasksQueueMaxSize(64).setTasksQueueFullPolicy(tasksQueueFullPolicy);
+			try {
+				Collection<QueuedTaskExecutor.Task> tasks = new ArrayList<>();
+				for (int i = 0; i < tasksCount; i++) {
+					tasks.add(queuedTaskExecutor.createTask(executedTasksCount::incrementAndGet).submit());
+				}
+				tasks.forEach(QueuedTaskExecutor.Task::waitForFinish);
+				assertTrue(executedTasksCount.get() == tasksCount);
+			} finally {
+				queuedTaskExecutor.shutDown(false);
+			}
+		});
+	}
+
 }
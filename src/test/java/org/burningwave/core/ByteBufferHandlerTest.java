@@ -1,8 +1,13 @@
 package org.burningwave.core;
 
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.burningwave.core.assembler.StaticComponentContainer.BufferHandler;
 
+import java.nio.ByteBuffer;
+
+import org.burningwave.core.iterable.Properties;
 import org.burningwave.core.jvm.BufferHandler.Deallocator;
+import org.burningwave.core.jvm.ByteBufferPool;
 import org.junit.jupiter.api.Test;
 
 public class ByteBufferHandlerTest extends BaseTest {
@@ -33,4 +38,43 @@ public class ByteBufferHandlerTest extends BaseTest {
 		});
 	}
 
+	@Test
+	public void acquireAndReleaseTest() {
+		testNotNull(() -> {
+			ByteBufferPool pool = ByteBufferPool.create(ByteBuffer::allocateDirect, 1024, 8192, 4, 1);
+			ByteBuffer buffer = pool.acquire(3000);
+			assertTrue(buffer.capacity() == 4096 && pool.getOutstandingBytes() == 4096);
+			assertTrue(pool.release(buffer));
+			assertTrue(pool.acquire(2049) == buffer && pool.getHitCount() == 1);
+			assertTrue(pool.release(buffer) && pool.getOutstandingBytes() == 0);
+			assertTrue(!pool.release(buffer) && pool.getOutstandingBytes() == 0);
+			assertTrue(!pool.release(ByteBuffer.allocateDirect(4096)) && pool.getOutstandingBytes() == 0);
+			assertTrue(pool.acquire(16384).capacity() == 16384 && !pool.release(ByteBuffer.allocate(16384)));
+			return pool;
+		});
+	}
+
+	@Test
+	public void acquireAndReleaseTestTwo() {
+		testNotNull(() -> {
+			Properties config = new Properties();
+			config.put("buffer-handler.pool.enabled", "true");
+			org.burningwave.core.jvm.BufferHandler bufferHandler = org.burningwave.core.jvm.BufferHandler.create(config);
+			ByteBufferPool pool = bufferHandler.getPool();
+			ByteBuffer buffer = bufferHandler.acquire(3000);
+			assertTrue(bufferHandler.release(buffer) && pool.getOutstandingBytes() == 0);
+			buffer = bufferHandler.acquire(3000);
+			//The configuration changes do not replace the pool that owns the acquired buffer
+			config.put("buffer-handler.pool.max-buffer-size", "8KB");
+			config.put("buffer-handler.default-buffer-size", "2KB");
+			config.put("buffer-handler.pool.enabled", "false");
+			assertTrue(bufferHandler.getPool() == pool && pool.getOutstandingBytes() == buffer.capacity());
+			//Once disabled the pool neither issues nor adopts buffers
+			ByteBuffer allocatedBuffer = bufferHandler.acquire(4096);
+			assertTrue(!bufferHandler.release(allocatedBuffer) && !pool.release(allocatedBuffer));
+			assertTrue(!bufferHandler.release(buffer) && pool.getOutstandingBytes() == buffer.capacity());
+			return pool;
+		});
+	}
+
 }
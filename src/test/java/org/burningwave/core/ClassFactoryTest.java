@@ -2,9 +2,11 @@ package org.burningwave.core;
 
 import static org.burningwave.core.assembler.StaticComponentContainer.Classes;
 import static org.burningwave.core.assembler.StaticComponentContainer.Constructors;
+import static org.burningwave.core.assembler.StaticComponentContainer.Fields;
 import static org.burningwave.core.assembler.StaticComponentContainer.JVMInfo;
 import static org.burningwave.core.assembler.StaticComponentContainer.Methods;
 import static org.burningwave.core.assembler.StaticComponentContainer.ThreadSupplier;
+import static org.junit.Assert.assertTrue;
 
 import java.io.InputStream;
 import java.lang.reflect.Method;
@@ -13,6 +15,9 @@ import java.net.URL;
 import java.net.URLClassLoader;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -462,6 +467,43 @@ public class ClassFactoryTest extends BaseTest {
 		});
 	}
 
+	@Test
+	public void loadOrBuildAndDefineInBatchTestOne() throws Exception {
+		ComponentSupplier componentSupplier = getComponentSupplier();
+		testNotEmpty(() -> {
+			Collection<LoadOrBuildAndDefineConfig> configs = new ArrayList<>();
+			Collection<String> classNames = new ArrayList<>();
+			for (int i = 0; i < 3; i++) {
+				String className = this.getClass().getPackage().getName() + ".BatchPojoImpl" + i;
+				classNames.add(className);
+				configs.add(
+					LoadOrBuildAndDefineConfig.forUnitSourceGenerator(
+						UnitSourceGenerator.create(Classes.retrievePackageName(className)).
+						addClass(PojoSourceGenerator.create().generate(
+							className,
+							PojoSourceGenerator.BUILDING_METHODS_CREATION_ENABLED,
+							Complex.Data.Item.class,
+							PojoInterface.class
+						))
+					)
+				);
+			}
+			List<ClassFactory.ClassRetriever> classRetrievers = componentSupplier.getClassFactory().loadOrBuildAndDefineInBatch(configs);
+			Collection<Class<?>> classes = new ArrayList<>();
+			Collection<Object> compilationTasks = Collections.newSetFromMap(new IdentityHashMap<>());
+			Iterator<String> classNamesIterator = classNames.iterator();
+			for (ClassFactory.ClassRetriever classRetriever : classRetrievers) {
+				classes.add(classRetriever.get(classNamesIterator.next()));
+				Object compilationTask = Fields.getDirect(classRetriever, "compilationTask");
+				if (compilationTask != null) {
+					compilationTasks.add(compilationTask);
+				}
+			}
+			assertTrue(compilationTasks.size() == 1);
+			return classes;
+		});
+	}
+
 	@Test
 	public void regenerateClassesTest() throws Exception {
 		ComponentSupplier componentSupplier = getComponentSupplier();
@@ -1,8 +1,13 @@
 package org.burningwave.core;
 
+import static org.burningwave.core.assembler.StaticComponentContainer.BackgroundExecutor;
 import static org.burningwave.core.assembler.StaticComponentContainer.Cache;
+import static org.burningwave.core.assembler.StaticComponentContainer.Fields;
+import static org.burningwave.core.assembler.StaticComponentContainer.FileSystemHelper;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.Closeable;
+import java.io.File;
 import java.io.Serializable;
 import java.math.BigDecimal;
 import java.util.AbstractList;
@@ -10,12 +15,19 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
+import org.burningwave.core.assembler.ComponentContainer;
 import org.burningwave.core.assembler.ComponentSupplier;
 import org.burningwave.core.bean.Complex;
 import org.burningwave.core.classes.ClassCriteria;
 import org.burningwave.core.classes.ClassHunter;
+import org.burningwave.core.classes.ClassPathScanner;
 import org.burningwave.core.classes.ConstructorCriteria;
 import org.burningwave.core.classes.MethodCriteria;
 import org.burningwave.core.classes.PathScannerClassLoader;
@@ -1395,6 +1407,167 @@ public class ClassHunterTest extends BaseTest {
 	}
 
 
+	@Test
+	public void findAllAnnotatedWithPreFilterTestOne() {
+		ComponentSupplier componentSupplier = getComponentSupplier();
+		Collection<Class<?>> testedClasses = ConcurrentHashMap.newKeySet();
+		testNotEmpty(
+			() -> componentSupplier.getClassHunter().findBy(
+				SearchConfig.forPaths(
+					componentSupplier.getPathHelper().getAllMainClassPaths()
+				).by(
+					//Only the classes whose class file declares the annotation are loaded
+					ClassCriteria.create().preFilterByAnnotationName(
+						"org.junit.runner.RunWith"::equals
+					).allThoseThatMatch((cls) -> {
+						testedClasses.add(cls);
+						return isAnnotatedWithRunWith(cls);
+					})
+				)
+			),
+			(result) ->
+				result.getClasses()
+		);
+		assertTrue(!testedClasses.isEmpty() && testedClasses.stream().allMatch(this::isAnnotatedWithRunWith));
+	}
+
+	@Test
+	public void findAllAnnotatedWithPreFilterTestTwo() {
+		ComponentSupplier componentSupplier = getComponentSupplier();
+		AtomicReference<Collection<Class<?>>> classesFound = new AtomicReference<>();
+		testNotEmpty(
+			() -> componentSupplier.getClassHunter().findBy(
+				SearchConfig.forPaths(
+					componentSupplier.getPathHelper().getAllMainClassPaths()
+				).by(
+					//The right side has no pre-filter, so the union must not be pre-filtered
+					ClassCriteria.create().preFilterByAnnotationName(
+						"org.junit.runner.RunWith"::equals
+					).allThoseThatMatch(
+						this::isAnnotatedWithRunWith
+					).or(
+						ClassCriteria.create().allThoseThatMatch((cls) ->
+							cls.getName().equals(ClassHunter.class.getName())
+						)
+					)
+				)
+			),
+			(result) -> {
+				classesFound.set(new HashSet<>(result.getClasses()));
+				return result.getClasses();
+			}
+		);
+		assertTrue(classesFound.get().stream().anyMatch(cls -> cls.getName().equals(ClassHunter.class.getName())));
+		assertTrue(classesFound.get().stream().anyMatch(this::isAnnotatedWithRunWith));
+	}
+
+	private boolean isAnnotatedWithRunWith(Class<?> cls) {
+		return Arrays.stream(cls.getAnnotations()).anyMatch(annotation ->
+			annotation.annotationType().getName().equals("org.junit.runner.RunWith")
+		);
+	}
+
+
+	@Test
+	public void findAllWithClassPathIndexTestOne() {
+		ComponentContainer componentSupplier = getComponentSupplier();
+		ClassHunter classHunter = componentSupplier.getClassHunter();
+		Supplier<SearchConfig> searchConfigSupplier = () -> SearchConfig.forPaths(
+			componentSupplier.getPathHelper().getAbsolutePathOfResource("../../src/test/external-resources/spring-core-4.3.4.RELEASE.jar")
+		).by(
+			ClassCriteria.create().preFilterBySuperClassName(
+				"java.lang.Object"::equals
+			).preFilterByInterfaceName(
+				"java.io.Serializable"::equals
+			)
+		).useNewIsolatedClassLoader();
+		Collection<String> classNamesFoundWithoutIndex = getClassNames(classHunter.findBy(searchConfigSupplier.get()).getClasses());
+		for (File indexFile : FileSystemHelper.getOrCreatePersistentFolder("class-path-index").listFiles()) {
+			indexFile.delete();
+		}
+		componentSupplier.setConfigProperty(ClassPathScanner.Configuration.Key.CLASS_PATH_INDEX_ENABLED, "true");
+		try {
+			//The first search indexes only the children accepted by its file filter: the following
+			//broader searches must find all the classes and complete the index
+			classHunter.findBy(
+				searchConfigSupplier.get().addFileFilter(
+					FileSystemItem.Criteria.forAllFileThat(fileSystemItem ->
+						fileSystemItem.getAbsolutePath().contains("/org/springframework/util/")
+					)
+				)
+			).getClasses();
+			BackgroundExecutor.waitForTasksEnding(true);
+			assertTrue(getClassNames(classHunter.findBy(searchConfigSupplier.get()).getClasses()).equals(classNamesFoundWithoutIndex));
+			BackgroundExecutor.waitForTasksEnding(true);
+			testNotEmpty(
+				() -> classHunter.findBy(searchConfigSupplier.get()),
+				(result) -> {
+					Collection<Class<?>> classesFound = result.getClasses();
+					assertTrue(getClassNames(classesFound).equals(classNamesFoundWithoutIndex));
+					return classesFound;
+				}
+			);
+		} finally {
+			componentSupplier.setConfigProperty(ClassPathScanner.Configuration.Key.CLASS_PATH_INDEX_ENABLED, "false");
+		}
+	}
+
+	@Test
+	public void findAllWithClassPathIndexTestTwo() {
+		ComponentContainer componentSupplier = getComponentSupplier();
+		ClassHunter classHunter = componentSupplier.getClassHunter();
+		String jarAbsolutePath = componentSupplier.getPathHelper().getAbsolutePathOfResource("../../src/test/external-resources/spring-core-4.3.4.RELEASE.jar");
+		Supplier<SearchConfig> searchConfigSupplier = () -> SearchConfig.forPaths(jarAbsolutePath).by(
+			ClassCriteria.create().preFilterByInterfaceName(
+				"java.io.Serializable"::equals
+			)
+		);
+		Collection<String> classNamesFoundWithoutIndex = getClassNames(classHunter.findBy(searchConfigSupplier.get().useNewIsolatedClassLoader()).getClasses());
+		for (File indexFile : FileSystemHelper.getOrCreatePersistentFolder("class-path-index").listFiles()) {
+			indexFile.delete();
+		}
+		componentSupplier.setConfigProperty(ClassPathScanner.Configuration.Key.CLASS_PATH_INDEX_ENABLED, "true");
+		PathScannerClassLoader classLoader = PathScannerClassLoader.create(
+			Thread.currentThread().getContextClassLoader(),
+			componentSupplier.getPathHelper(),
+			FileSystemItem.Criteria.forClassTypeFiles(FileSystemItem.CheckingOption.FOR_NAME)
+		);
+		try {
+			classHunter.findBy(searchConfigSupplier.get().useNewIsolatedClassLoader()).getClasses();
+			BackgroundExecutor.waitForTasksEnding(true);
+			//The classes of the indexed archive are registered in the class loader without reading their byte code,
+			//that is read from the indexed position only when requested
+			testNotEmpty(
+				() -> classHunter.findBy(searchConfigSupplier.get().useClassLoader(classLoader)),
+				(result) -> {
+					Collection<Class<?>> classesFound = result.getClasses();
+					assertTrue(getClassNames(classesFound).equals(classNamesFoundWithoutIndex));
+					Map<String, ?> notReadByteCodes = Fields.getDirect(classLoader, "notReadByteCodes");
+					assertTrue(!notReadByteCodes.isEmpty());
+					String className = notReadByteCodes.keySet().iterator().next();
+					assertTrue(
+						classLoader.getByteCodeOf(className).equals(
+							FileSystemItem.ofPath(jarAbsolutePath + "/" + className.replace(".", "/") + ".class").toByteBuffer()
+						)
+					);
+					return classesFound;
+				}
+			);
+		} finally {
+			componentSupplier.setConfigProperty(ClassPathScanner.Configuration.Key.CLASS_PATH_INDEX_ENABLED, "false");
+			classLoader.close();
+		}
+	}
+
+	private Collection<String> getClassNames(Collection<Class<?>> classes) {
+		Collection<String> classNames = new HashSet<>();
+		for (Class<?> cls : classes) {
+			classNames.add(cls.getName());
+		}
+		return classNames;
+	}
+
+
 	@Test
 	public void findByPackageNameTestOne() {
 		testNotEmpty(() -> {
@@ -1436,4 +1609,44 @@ public class ClassHunterTest extends BaseTest {
 	        }
 		}, true);
 	}
+
+	@Test
+	public void findAllSubtypeOfWithConsumerTestOne() {
+		ComponentSupplier componentSupplier = getComponentSupplier();
+		testDoesNotThrow(() -> {
+			Collection<Class<?>> classesFound = ConcurrentHashMap.newKeySet();
+			componentSupplier.getClassHunter().findBy(
+				SearchConfig.forPaths(
+					componentSupplier.getPathHelper().getMainClassPaths()
+				).by(
+					ClassCriteria.create().byClassesThatMatch((uploadedClasses, targetClass) ->
+						uploadedClasses.get(Closeable.class).isAssignableFrom(targetClass)
+					).useClasses(
+						Closeable.class
+					)
+				),
+				classesFound::add
+			);
+			assertTrue(!classesFound.isEmpty());
+		});
+	}
+
+	@Test
+	public void findAllWithItemsFoundConsistencyTestOne() {
+		ComponentSupplier componentSupplier = getComponentSupplier();
+		testDoesNotThrow(() -> {
+			try (ClassHunter.SearchResult searchResult = componentSupplier.getClassHunter().findBy(
+				SearchConfig.forPaths(
+					componentSupplier.getPathHelper().getMainClassPaths()
+				).waitForSearchEnding(false)
+			)) {
+				searchResult.waitForSearchEnding();
+				Collection<Class<?>> classes = searchResult.getClasses();
+				assertTrue(!classes.isEmpty());
+				assertTrue(classes == searchResult.getClasses());
+				assertTrue(classes.size() == new HashSet<>(searchResult.getClassesFlatMap().values()).size());
+			}
+		});
+	}
+
 }
@@ -1,11 +1,16 @@
 package org.burningwave.core;
 
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 import java.io.Closeable;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.burningwave.core.assembler.ComponentSupplier;
 import org.burningwave.core.bean.Complex;
 import org.burningwave.core.classes.ClassCriteria;
 import org.burningwave.core.classes.SearchConfig;
+import org.burningwave.core.io.FileSystemItem;
 import org.junit.jupiter.api.Test;
 
 public class ClassPathHunterTest extends BaseTest {
@@ -95,4 +100,25 @@ public class ClassPathHunterTest extends BaseTest {
 		);
 	}
 
+	@Test
+	public void findAllSubtypeOfWithConsumerTestOne() {
+		ComponentSupplier componentSupplier = getComponentSupplier();
+		testDoesNotThrow(() -> {
+			Collection<FileSystemItem> classPathsFound = ConcurrentHashMap.newKeySet();
+			componentSupplier.getClassPathHunter().findBy(
+				SearchConfig.forPaths(
+					componentSupplier.getPathHelper().getMainClassPaths()
+				).by(
+					ClassCriteria.create().byClassesThatMatch((uploadedClasses, targetClass) ->
+						uploadedClasses.get(Closeable.class).isAssignableFrom(targetClass)
+					).useClasses(
+						Closeable.class
+					)
+				).waitForSearchEnding(false),
+				classPathsFound::add
+			).join();
+			assertTrue(!classPathsFound.isEmpty());
+		});
+	}
+
 }
@@ -1,5 +1,7 @@
 package org.burningwave.core;
 
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -30,6 +32,24 @@ public class CodeExecutorTest extends BaseTest {
 		});
 	}
 
+	@Test
+	public void executeCodeTestTwo() throws Exception {
+		ComponentSupplier componentSupplier = getComponentSupplier();
+		testNotNull(() -> {
+			Class<?> executorClass = null;
+			for (int i = 0; i < 2; i++) {
+				Class<?> currentExecutorClass = componentSupplier.getCodeExecutor().execute(
+					ExecuteConfig.forBodySourceGenerator()
+					.addCodeLine("return getClass();")
+					.withParameter(Integer.valueOf(i))
+				);
+				assertTrue(executorClass == null || executorClass == currentExecutorClass);
+				executorClass = currentExecutorClass;
+			}
+			return executorClass;
+		});
+	}
+
 	@Test
 	public void executeCodeOfPropertiesFileTest() throws Exception {
 		ComponentSupplier componentSupplier = getComponentSupplier();
@@ -1,6 +1,16 @@
 package org.burningwave.core;
 
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
@@ -60,6 +70,75 @@ public class FileSystemItemTest extends BaseTest {
 	}
 
 
+	@Test
+	public void readWithFileMappingTestOne() {
+		ComponentSupplier componentSupplier = getComponentSupplier();
+		String basePath = componentSupplier.getPathHelper().getPath((path) -> path.endsWith("target/test-classes"));
+		testNotEmpty(() -> {
+			FileSystemItem jar = FileSystemItem.ofPath(
+				basePath + "/../../src/test/external-resources/spring-core-4.3.4.RELEASE.jar"
+			).copyTo(
+				StaticComponentContainer.FileSystemHelper.getOrCreateMainTemporaryFolder().getAbsolutePath() + "/file-mapping"
+			).refresh();
+			StaticComponentContainer.GlobalProperties.put("buffer-handler.file-mapping.min-file-size", "1KB");
+			StaticComponentContainer.GlobalProperties.put("buffer-handler.file-mapping.enabled", "true");
+			try {
+				ByteBuffer content = jar.toByteBuffer();
+				assertTrue(content.isReadOnly());
+				Collection<FileSystemItem> children = new ArrayList<>(jar.getAllChildren());
+				ByteBuffer classFileContent = children.stream().filter(
+					child -> child.getName().endsWith(".class")
+				).findFirst().get().toByteBuffer();
+				jar.destroy();
+				//The mapped content is released by its cleaner: the buffers that outlive the cache entries remain readable
+				assertTrue(content.getInt(0) == 0x504B0304 && classFileContent.getInt(0) == 0xCAFEBABE);
+				return children;
+			} finally {
+				StaticComponentContainer.GlobalProperties.put("buffer-handler.file-mapping.enabled", "false");
+			}
+		});
+	}
+
+	@Test
+	public void toHeaderByteBufferTestOne() {
+		ComponentSupplier componentSupplier = getComponentSupplier();
+		String basePath = componentSupplier.getPathHelper().getPath((path) -> path.endsWith("target/test-classes"));
+		testDoesNotThrow(() -> {
+			FileSystemItem classFile = FileSystemItem.ofPath(
+				basePath + "/" + FileSystemItemTest.class.getName().replace(".", "/") + ".class"
+			).refresh();
+			assertTrue(StaticComponentContainer.Streams.isClass(classFile.toHeaderByteBuffer()));
+			assertTrue(StaticComponentContainer.Cache.pathForContents.get(classFile.getAbsolutePath()) == null);
+			FileSystemItem compressedClassFile = FileSystemItem.ofPath(
+				basePath + "/../../src/test/external-resources/spring-core-4.3.4.RELEASE.jar/org/springframework/core/io/Resource.class"
+			);
+			assertTrue(StaticComponentContainer.Streams.isClass(compressedClassFile.toHeaderByteBuffer()));
+		});
+	}
+
+	@Test
+	public void toHeaderByteBufferTestTwo() {
+		ComponentSupplier componentSupplier = getComponentSupplier();
+		String basePath = componentSupplier.getPathHelper().getPath((path) -> path.endsWith("target/test-classes"));
+		testDoesNotThrow(() -> {
+			File jar = new File(
+				StaticComponentContainer.FileSystemHelper.getOrCreateMainTemporaryFolder().getAbsolutePath() + "/header-reading/spring-core.jar"
+			);
+			jar.getParentFile().mkdirs();
+			Files.copy(
+				new File(basePath + "/../../src/test/external-resources/spring-core-4.3.4.RELEASE.jar").toPath(),
+				jar.toPath(), StandardCopyOption.REPLACE_EXISTING
+			);
+			String jarAbsolutePath = FileSystemItem.ofPath(jar.getAbsolutePath()).getAbsolutePath();
+			FileSystemItem compressedClassFile = FileSystemItem.ofPath(
+				jarAbsolutePath + "/org/springframework/core/io/Resource.class"
+			);
+			assertTrue(StaticComponentContainer.Streams.isClass(compressedClassFile.toHeaderByteBuffer()));
+			//The content of the entry has not been loaded
+			assertTrue(StaticComponentContainer.Cache.pathForContents.get(compressedClassFile.getAbsolutePath()) == null);
+		});
+	}
+
 	@Test
 	public void readTestTwo() {
 		ComponentSupplier componentSupplier = getComponentSupplier();
@@ -424,4 +503,23 @@ public class FileSystemItemTest extends BaseTest {
 			}, false
 		);
 	}
+
+	@Test
+	public void boundedContentCacheTestOne() {
+		testNotNull(() -> {
+			Map<String, Object> config = new HashMap<>();
+			config.put("cache.path-for-contents.max-size", "2KB");
+			Cache cache = Cache.create(config);
+			String basePath = StaticComponentContainer.SystemProperties.get("java.io.tmpdir") + "/bw-tests/bounded-cache/";
+			cache.pathForContents.getOrUploadIfAbsent(basePath + "0", () -> ByteBuffer.allocate(1024));
+			for (int i = 1; i < 8; i++) {
+				cache.pathForContents.getOrUploadIfAbsent(basePath + "0", null);
+				cache.pathForContents.getOrUploadIfAbsent(basePath + i, () -> ByteBuffer.allocate(1024));
+			}
+			assertTrue(cache.pathForContents.getEvictionCount() == 6);
+			assertTrue(cache.pathForContents.getHitCount() == 7);
+			assertTrue(cache.pathForContents.get(basePath + "7") != null);
+			return cache.pathForContents.get(basePath + "0");
+		});
+	}
 }
@@ -2,6 +2,7 @@ package org.burningwave.core;
 
 import static org.burningwave.core.assembler.StaticComponentContainer.Constructors;
 import static org.burningwave.core.assembler.StaticComponentContainer.Members;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
@@ -41,6 +42,16 @@ public class FunctionalInterfaceFactoryTest extends BaseTest {
 		testNotNull(() -> componentSupplier.getFunctionalInterfaceFactory().loadOrBuildAndDefinePredicateSubType(Thread.currentThread().getContextClassLoader(), 10));
 	}
 
+	@Test
+	public void getOrBuildFunctionClassTestSeven() {
+		ComponentSupplier componentSupplier = getComponentSupplier();
+		testNotNull(() -> {
+			Class<?> functionType = componentSupplier.getFunctionalInterfaceFactory().loadOrBuildAndDefineFunctionSubType(Thread.currentThread().getContextClassLoader(), 8);
+			assertTrue(MultiParamsFunction.class.isAssignableFrom(functionType) && functionType.getTypeParameters().length == 9);
+			return functionType.getMethod("apply", Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class);
+		});
+	}
+
 	@Test
 	public void getOrBuildFunctionClassTestOne() throws Throwable {
 		ComponentSupplier componentSupplier = getComponentSupplier();
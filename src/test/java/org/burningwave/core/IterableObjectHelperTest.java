@@ -1,10 +1,13 @@
 package org.burningwave.core;
 
 import static org.burningwave.core.assembler.StaticComponentContainer.IterableObjectHelper;
+import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -147,6 +150,91 @@ public class IterableObjectHelperTest extends BaseTest {
 //		);
 	}
 	
+	@Test
+	public void iterateParallelTestFour() {
+		Collection<Integer> input = IntStream.rangeClosed(1, 1000000).boxed().collect(Collectors.toCollection(HashSet::new));
+		testNotEmpty(() -> {
+			Collection<Integer> output = IterableObjectHelper.iterateAndGet(
+				IterationConfig.of(input)
+				.parallelIf(inputColl -> inputColl.size() > 2)
+				.withOutput(ConcurrentHashMap.<Integer>newKeySet())
+				.withAction((number, outputCollectionSupplier) -> {
+					if ((number % 2) == 0) {
+						outputCollectionSupplier.accept(outputCollection ->
+							outputCollection.add(number)
+						);
+					}
+				}).workStealing()
+			);
+			assertTrue(output.size() == input.size() / 2);
+			return output;
+		}, false);
+	}
+
+	@Test
+	public void iterateParallelTestFive() {
+		long[] input = new long[1000000];
+		for (int i = 0; i < input.length; i++) {
+			input[i] = i;
+		}
+		testDoesNotThrow(() -> {
+			LongAdder sum = new LongAdder();
+			IterableObjectHelper.iterate(
+				IterationConfig.ofLongs(input)
+				.parallelIf(inputColl -> inputColl.length > 2)
+				.withLongAction(sum::add)
+			);
+			assertTrue(sum.sum() == ((long)input.length * (input.length - 1)) / 2);
+		});
+	}
+
+	@Test
+	public void iterateParallelTestSix() {
+		long[] input = new long[] {Integer.MAX_VALUE + 1L, 1L, 2L};
+		testThrow(() -> {
+			IterableObjectHelper.iterate(
+				IterationConfig.ofLongs(input)
+				.parallelIf(inputColl -> inputColl.length > 2)
+				.withIntAction(item -> {})
+			);
+		});
+	}
+
+	@Test
+	public void iterateParallelTestSeven() {
+		byte[] bytes = new byte[] {-1, 2, 3};
+		char[] chars = "abc".toCharArray();
+		short[] shorts = new short[] {-4, 5, 6};
+		int[] ints = new int[] {Integer.MAX_VALUE, Integer.MAX_VALUE, 1};
+		testDoesNotThrow(() -> {
+			LongAdder sum = new LongAdder();
+			IterableObjectHelper.iterate(
+				IterationConfig.ofBytes(bytes)
+				.parallelIf(inputColl -> inputColl.length > 2)
+				.withIntAction(sum::add)
+			);
+			assertTrue(sum.sumThenReset() == 4);
+			IterableObjectHelper.iterate(
+				IterationConfig.ofChars(chars)
+				.parallelIf(inputColl -> inputColl.length > 2)
+				.withIntAction(sum::add)
+			);
+			assertTrue(sum.sumThenReset() == 'a' + 'b' + 'c');
+			IterableObjectHelper.iterate(
+				IterationConfig.ofShorts(shorts)
+				.parallelIf(inputColl -> inputColl.length > 2)
+				.withLongAction(sum::add)
+			);
+			assertTrue(sum.sumThenReset() == 7);
+			IterableObjectHelper.iterate(
+				IterationConfig.ofInts(ints)
+				.parallelIf(inputColl -> inputColl.length > 2)
+				.withLongAction(sum::add)
+			);
+			assertTrue(sum.sumThenReset() == 2L * Integer.MAX_VALUE + 1);
+		});
+	}
+
 	@Test
 	public void resolveTestThree() {
 		testNotNull(() -> {
@@ -1,6 +1,12 @@
 package org.burningwave.core;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.zip.ZipFile;
+
 import org.burningwave.core.assembler.ComponentSupplier;
+import org.burningwave.core.assembler.StaticComponentContainer;
 import org.burningwave.core.io.FileSystemItem;
 import org.burningwave.core.io.IterableZipContainer;
 import org.junit.jupiter.api.Test;
@@ -34,4 +40,60 @@ public class IterableZipContainerTest extends BaseTest {
 		});
 	}
 
+	@Test
+	public void findEntryTestOne() {
+		testNotNull(() ->{
+			ComponentSupplier componentSupplier = getComponentSupplier();
+			FileSystemItem fIS = componentSupplier.getPathHelper().getResource(
+				"/../../src/test/external-resources/spring-core-4.3.4.RELEASE.jar"
+			);
+			String entryName = "org/springframework/core/io/Resource.class";
+			try (
+				IterableZipContainer zip = IterableZipContainer.create(fIS.getAbsolutePath());
+				ZipFile zipFile = new ZipFile(fIS.getAbsolutePath())
+			) {
+				IterableZipContainer.Entry entry = zip.findEntry(entryName);
+				assertArrayEquals(
+					StaticComponentContainer.Streams.toByteArray(zipFile.getInputStream(zipFile.getEntry(entryName))),
+					entry.toByteArray()
+				);
+				return entry;
+			}
+		});
+	}
+
+	@Test
+	public void destroyTestOne() {
+		testNotNull(() ->{
+			ComponentSupplier componentSupplier = getComponentSupplier();
+			FileSystemItem fIS = componentSupplier.getPathHelper().getResource(
+				"/../../src/test/external-resources/spring-core-4.3.4.RELEASE.jar"
+			);
+			String entryName = "org/springframework/core/io/Resource.class";
+			try (
+				IterableZipContainer zip = IterableZipContainer.create(fIS.getAbsolutePath());
+				IterableZipContainer zipDuplicate = IterableZipContainer.create(fIS.getAbsolutePath());
+				ZipFile zipFile = new ZipFile(fIS.getAbsolutePath())
+			) {
+				//Destroying a duplicate and then the cached container must not affect the other duplicates
+				zipDuplicate.destroy(false);
+				StaticComponentContainer.Cache.pathForIterableZipContainers.remove(fIS.getAbsolutePath(), true);
+				int entriesCount = 0;
+				IterableZipContainer.Entry entry = null;
+				while(zip.getNextEntry() != null) {
+					++entriesCount;
+					if (zip.getCurrentZipEntry().getName().equals(entryName)) {
+						entry = zip.getCurrentZipEntry();
+					}
+				}
+				assertTrue(entriesCount == zipFile.size());
+				assertArrayEquals(
+					StaticComponentContainer.Streams.toByteArray(zipFile.getInputStream(zipFile.getEntry(entryName))),
+					entry.toByteArray()
+				);
+				return entry;
+			}
+		});
+	}
+
 }
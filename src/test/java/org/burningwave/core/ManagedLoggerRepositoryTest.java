@@ -1,6 +1,13 @@
 package org.burningwave.core;
 
 import static org.burningwave.core.assembler.StaticComponentContainer.GlobalProperties;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
 
 import org.burningwave.core.iterable.Properties;
 import org.junit.jupiter.api.Test;
@@ -19,4 +26,120 @@ public class ManagedLoggerRepositoryTest extends BaseTest {
 		});
 	}
 
+	@Test
+	public void asyncLogTestOne() {
+		testDoesNotThrow(() -> {
+			Properties config = new Properties();
+			config.putAll(GlobalProperties);
+			config.put(ManagedLogger.Repository.Configuration.Key.TYPE, "async");
+			config.put(ManagedLogger.Repository.Configuration.Key.ASYNC_DELEGATE_TYPE, SimpleManagedLoggerRepository.class.getName());
+			config.put(ManagedLogger.Repository.Configuration.Key.ASYNC_BUFFER_SIZE, "16");
+			config.put(ManagedLogger.Repository.Configuration.Key.ASYNC_BATCH_SIZE, "4");
+			AsyncManagedLoggerRepository managedLoggerRepository = (AsyncManagedLoggerRepository)ManagedLogger.Repository.create(config);
+			for (int i = 0; i < 100; i++) {
+				managedLoggerRepository.logInfo(() -> ManagedLoggerRepositoryTest.class.getName(), "Async message number {}", i);
+			}
+			managedLoggerRepository.close();
+			assertEquals(0, managedLoggerRepository.getPendingEventsCount());
+			assertEquals(0, managedLoggerRepository.getDroppedEventsCount());
+		});
+	}
+
+	@Test
+	public void asyncLogTestTwo() {
+		testDoesNotThrow(() -> {
+			Properties config = new Properties();
+			config.putAll(GlobalProperties);
+			config.put(ManagedLogger.Repository.Configuration.Key.TYPE, "async");
+			config.put(ManagedLogger.Repository.Configuration.Key.ASYNC_DELEGATE_TYPE, BlockingManagedLoggerRepository.class.getName());
+			config.put(ManagedLogger.Repository.Configuration.Key.ASYNC_BUFFER_SIZE, "1");
+			config.put(ManagedLogger.Repository.Configuration.Key.ASYNC_OVERFLOW_POLICY, "drop");
+			BlockingManagedLoggerRepository.emitterBlocked = new CountDownLatch(1);
+			BlockingManagedLoggerRepository.emitterReleased = new CountDownLatch(1);
+			AsyncManagedLoggerRepository managedLoggerRepository = (AsyncManagedLoggerRepository)ManagedLogger.Repository.create(config);
+			Thread callerThread = Thread.currentThread();
+			AtomicBoolean clientNameResolvedByCaller = new AtomicBoolean();
+			Supplier<String> clientNameSupplier = () -> {
+				if (Thread.currentThread() == callerThread) {
+					clientNameResolvedByCaller.set(true);
+				}
+				return ManagedLoggerRepositoryTest.class.getName();
+			};
+			try {
+				managedLoggerRepository.logInfo(clientNameSupplier, BlockingManagedLoggerRepository.BLOCKING_MESSAGE);
+				BlockingManagedLoggerRepository.emitterBlocked.await();
+				managedLoggerRepository.logInfo(clientNameSupplier, "Buffered message");
+				assertEquals(1, managedLoggerRepository.getPendingEventsCount());
+				assertEquals(0, managedLoggerRepository.getDroppedEventsCount());
+				for (int i = 0; i < 100; i++) {
+					managedLoggerRepository.logInfo(clientNameSupplier, "Async message number {}", i);
+				}
+				assertEquals(1, managedLoggerRepository.getPendingEventsCount());
+				assertEquals(100, managedLoggerRepository.getDroppedEventsCount());
+			} finally {
+				BlockingManagedLoggerRepository.emitterReleased.countDown();
+			}
+			managedLoggerRepository.close();
+			assertEquals(0, managedLoggerRepository.getPendingEventsCount());
+			assertEquals(100, managedLoggerRepository.getDroppedEventsCount());
+			assertFalse(clientNameResolvedByCaller.get());
+		});
+	}
+
+	@Test
+	public void asyncLogTestThree() {
+		testDoesNotThrow(() -> {
+			Properties config = new Properties();
+			config.putAll(GlobalProperties);
+			config.put(ManagedLogger.Repository.Configuration.Key.TYPE, "async");
+			config.put(ManagedLogger.Repository.Configuration.Key.ASYNC_DELEGATE_TYPE, BlockingManagedLoggerRepository.class.getName());
+			config.put(ManagedLogger.Repository.Configuration.Key.ASYNC_BUFFER_SIZE, "1");
+			config.put(ManagedLogger.Repository.Configuration.Key.ASYNC_OVERFLOW_POLICY, "drop");
+			config.put(ManagedLogger.Repository.Configuration.Key.ASYNC_SNAPSHOT_ENABLED, "true");
+			BlockingManagedLoggerRepository.emitterBlocked = new CountDownLatch(1);
+			BlockingManagedLoggerRepository.emitterReleased = new CountDownLatch(1);
+			AsyncManagedLoggerRepository managedLoggerRepository = (AsyncManagedLoggerRepository)ManagedLogger.Repository.create(config);
+			String clientName = ManagedLoggerRepositoryTest.class.getName();
+			managedLoggerRepository.removeLoggingLevelFor(LoggingLevel.DEBUG, clientName);
+			try {
+				managedLoggerRepository.logInfo(() -> clientName, BlockingManagedLoggerRepository.BLOCKING_MESSAGE);
+				BlockingManagedLoggerRepository.emitterBlocked.await();
+				managedLoggerRepository.logInfo(() -> clientName, "Buffered message");
+				for (int i = 0; i < 100; i++) {
+					managedLoggerRepository.logDebug(() -> clientName, "Filtered message number {}", i);
+				}
+				assertEquals(1, managedLoggerRepository.getPendingEventsCount());
+				assertEquals(0, managedLoggerRepository.getDroppedEventsCount());
+			} finally {
+				BlockingManagedLoggerRepository.emitterReleased.countDown();
+			}
+			managedLoggerRepository.close();
+			assertEquals(0, managedLoggerRepository.getPendingEventsCount());
+			assertEquals(0, managedLoggerRepository.getDroppedEventsCount());
+		});
+	}
+
+	public static class BlockingManagedLoggerRepository extends SimpleManagedLoggerRepository {
+		private static final String BLOCKING_MESSAGE = "Blocking message";
+		private static CountDownLatch emitterBlocked;
+		private static CountDownLatch emitterReleased;
+
+		public BlockingManagedLoggerRepository(Map<?, ?> properties) {
+			super(properties);
+		}
+
+		@Override
+		public void logInfo(Supplier<String> clientNameSupplier, String message) {
+			if (BLOCKING_MESSAGE.equals(message)) {
+				emitterBlocked.countDown();
+				try {
+					emitterReleased.await();
+				} catch (InterruptedException exc) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			super.logInfo(clientNameSupplier, message);
+		}
+	}
+
 }
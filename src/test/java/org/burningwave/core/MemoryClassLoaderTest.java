@@ -1,12 +1,24 @@
 package org.burningwave.core;
 
+import static org.burningwave.core.assembler.StaticComponentContainer.Constructors;
+import static org.burningwave.core.assembler.StaticComponentContainer.Fields;
+import static org.burningwave.core.assembler.StaticComponentContainer.FileSystemHelper;
+import static org.burningwave.core.assembler.StaticComponentContainer.Methods;
 import static org.junit.Assert.assertTrue;
 
+import java.io.File;
 import java.lang.reflect.Modifier;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 
 import org.burningwave.core.assembler.ComponentSupplier;
 import org.burningwave.core.assembler.StaticComponentContainer;
 import org.burningwave.core.classes.ClassSourceGenerator;
+import org.burningwave.core.classes.FunctionSourceGenerator;
 import org.burningwave.core.classes.JavaMemoryCompiler;
 import org.burningwave.core.classes.MemoryClassLoader;
 import org.burningwave.core.classes.PropertyAccessor;
@@ -83,6 +95,121 @@ public class MemoryClassLoaderTest extends BaseTest {
 		});
 	}
 
+	@Test
+	public void compilationCacheTestOne() throws ClassNotFoundException {
+		testDoesNotThrow(() -> {
+			ComponentSupplier componentSupplier = getComponentSupplier();
+			JavaMemoryCompiler jMC = componentSupplier.getJavaMemoryCompiler();
+			String value = Long.toString(System.nanoTime());
+			UnitSourceGenerator unitSG = UnitSourceGenerator.create("tryyy").addClass(
+				ClassSourceGenerator.create(
+					TypeDeclarationSourceGenerator.create("CachedReTry")
+				).addModifier(
+					Modifier.PUBLIC
+				).addMethod(
+					FunctionSourceGenerator.create("getValue").addModifier(Modifier.PUBLIC)
+					.setReturnType(TypeDeclarationSourceGenerator.create(String.class))
+					.addBodyCodeLine("return \"" + value + "\";")
+				)
+			);
+			long missCount = jMC.getCompilationCache().getMissCount();
+			Map<String, ByteBuffer> compiledFiles = jMC.compile(
+				JavaMemoryCompiler.Compilation.Config.forUnitSourceGenerator(unitSG)
+			).join().getCompiledFiles();
+			assertTrue(jMC.getCompilationCache().getMissCount() == missCount + 1);
+			long hitCount = jMC.getCompilationCache().getHitCount();
+			Map<String, ByteBuffer> cachedFiles = jMC.compile(
+				JavaMemoryCompiler.Compilation.Config.forUnitSourceGenerator(unitSG)
+			).join().getCompiledFiles();
+			assertTrue(jMC.getCompilationCache().getHitCount() == hitCount + 1);
+			assertTrue(compiledFiles.keySet().equals(cachedFiles.keySet()));
+			for (Map.Entry<String, ByteBuffer> compiledFile : compiledFiles.entrySet()) {
+				assertTrue(compiledFile.getValue().duplicate().equals(cachedFiles.get(compiledFile.getKey()).duplicate()));
+			}
+			try (
+				MemoryClassLoader memoryClassLoader = getMemoryClassLoader(null);
+				MemoryClassLoader cachedMemoryClassLoader = getMemoryClassLoader(null);
+			) {
+				memoryClassLoader.addByteCodes(compiledFiles.entrySet());
+				cachedMemoryClassLoader.addByteCodes(cachedFiles.entrySet());
+				Class<?> compiledClass = memoryClassLoader.loadClass("tryyy.CachedReTry");
+				Class<?> cachedClass = cachedMemoryClassLoader.loadClass("tryyy.CachedReTry");
+				assertTrue(compiledClass != cachedClass);
+				assertTrue(value.equals(compiledClass.getMethod("getValue").invoke(compiledClass.getDeclaredConstructor().newInstance())));
+				assertTrue(value.equals(cachedClass.getMethod("getValue").invoke(cachedClass.getDeclaredConstructor().newInstance())));
+			}
+		});
+	}
+
+	@Test
+	public void compilationCacheTestTwo() {
+		testDoesNotThrow(() -> {
+			File diskTier = FileSystemHelper.createTemporaryFolder("compilation-cache-" + System.nanoTime());
+			File dependency = new File(diskTier.getParentFile(), diskTier.getName() + ".jar");
+			Files.write(dependency.toPath(), new byte[] {1});
+			JavaMemoryCompiler.Compilation.Cache cache = Constructors.newInstanceDirectOf(
+				JavaMemoryCompiler.Compilation.Cache.class, 4, diskTier, 2
+			);
+			Map<String, ByteBuffer> compiledFiles = Collections.singletonMap("tryyy.Cached", ByteBuffer.wrap(new byte[] {1, 2, 3}));
+			for (String key : new String[] {"first", "second", "third"}) {
+				Methods.invokeDirect(cache, "put", key, compiledFiles, Arrays.asList(dependency.getAbsolutePath()));
+			}
+			assertTrue(diskTier.listFiles(File::isDirectory).length == 2);
+			assertTrue(Methods.invokeDirect(cache, "get", "third") != null);
+			Files.write(dependency.toPath(), new byte[] {1, 2});
+			assertTrue(Methods.invokeDirect(cache, "get", "third") == null);
+			FileSystemHelper.delete(dependency);
+			FileSystemHelper.delete(diskTier);
+		});
+	}
+
+	@Test
+	public void consecutiveCompilationsTestOne() throws ClassNotFoundException {
+		testNotNull(() -> {
+			try(MemoryClassLoader memoryClassLoader = getMemoryClassLoader(null);) {
+				ComponentSupplier componentSupplier = getComponentSupplier();
+				JavaMemoryCompiler jMC = componentSupplier.getJavaMemoryCompiler();
+				Object fileManagerPool = Fields.getDirect(jMC, "fileManagerPool");
+				long reusedCount = Methods.invokeDirect(fileManagerPool, "getReusedCount");
+				for (String className : new String[] {"FirstPooled", "SecondPooled"}) {
+					memoryClassLoader.addByteCodes(
+						jMC.compile(
+							JavaMemoryCompiler.Compilation.Config.forUnitSourceGenerator(
+								UnitSourceGenerator.create("tryyy").addClass(
+									ClassSourceGenerator.create(
+										TypeDeclarationSourceGenerator.create(className)
+									).addModifier(Modifier.PUBLIC)
+								)
+							)
+						).join().getCompiledFiles().entrySet()
+					);
+				}
+				assertTrue((long)Methods.invokeDirect(fileManagerPool, "getReusedCount") > reusedCount);
+				memoryClassLoader.loadClass("tryyy.FirstPooled");
+				return memoryClassLoader.loadClass("tryyy.SecondPooled");
+			}
+		});
+	}
+
+	@Test
+	public void consecutiveCompilationsTestTwo() {
+		testDoesNotThrow(() -> {
+			JavaMemoryCompiler jMC = getComponentSupplier().getJavaMemoryCompiler();
+			Object fileManagerPool = Fields.getDirect(jMC, "fileManagerPool");
+			File classPath = new File(FileSystemHelper.createTemporaryFolder("file-manager-pool-" + System.nanoTime()), "lib.jar");
+			Files.write(classPath.toPath(), new byte[] {1});
+			List<String> options = Arrays.asList("-Aoption=" + System.nanoTime());
+			Object oldFileManager = Methods.invokeDirect(fileManagerPool, "acquire", options, Arrays.asList(classPath.getAbsolutePath()), null);
+			Files.write(classPath.toPath(), new byte[] {1, 2});
+			Object newFileManager = Methods.invokeDirect(fileManagerPool, "acquire", options, Arrays.asList(classPath.getAbsolutePath()), null);
+			Methods.invokeDirect(fileManagerPool, "release", options, oldFileManager, true);
+			Methods.invokeDirect(fileManagerPool, "release", options, newFileManager, true);
+			assertTrue(Methods.invokeDirect(fileManagerPool, "acquire", options, Arrays.asList(classPath.getAbsolutePath()), null) == newFileManager);
+			assertTrue(Methods.invokeDirect(fileManagerPool, "acquire", options, Arrays.asList(classPath.getAbsolutePath()), null) != oldFileManager);
+			FileSystemHelper.delete(classPath.getParentFile());
+		});
+	}
+
 	@Test
 	public void forceCompiledClassesLoadingTestOne() throws ClassNotFoundException {
 		testNotEmpty(() -> {
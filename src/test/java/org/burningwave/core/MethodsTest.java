@@ -2,9 +2,13 @@ package org.burningwave.core;
 
 import static org.burningwave.core.assembler.StaticComponentContainer.Classes;
 import static org.burningwave.core.assembler.StaticComponentContainer.Methods;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Method;
 
 import org.burningwave.core.assembler.ComponentSupplier;
 import org.burningwave.core.classes.MethodCriteria;
+import org.burningwave.core.classes.Methods;
 import org.burningwave.core.service.Service;
 import org.junit.jupiter.api.Test;
 
@@ -34,6 +38,19 @@ public class MethodsTest extends BaseTest {
 		);
 	}
 
+	@Test
+	public void bindTestOne() {
+		testNotNull(
+			() -> {
+				Methods.Invoker<Integer> valueOf = Methods.bind(Integer.class, "valueOf", int.class);
+				Methods.Invoker<String> concat = Methods.bind(String.class, "concat", String.class);
+				assertTrue(valueOf.invoke(null, 1).intValue() == 1);
+				assertTrue("Hello World".equals(concat.invoke("Hello", " World")));
+				return valueOf.invoke(null, 2);
+			}
+		);
+	}
+
 	@Test
 	public void findAllAndMakeThemAccessibleTestOne() {
 		testNotEmpty(
@@ -44,6 +61,19 @@ public class MethodsTest extends BaseTest {
 		true);
 	}
 
+	@Test
+	public void findFirstAndMakeItAccessibleTestOne() {
+		testDoesNotThrow(
+			() -> {
+				Method stringValueOf = Methods.findFirstAndMakeItAccessible(String.class, "valueOf", int.class);
+				Method booleanValueOf = Methods.findFirstAndMakeItAccessible(String.class, "valueOf", boolean.class);
+				assertTrue(stringValueOf == Methods.findFirstAndMakeItAccessible(String.class, "valueOf", int.class));
+				assertTrue(booleanValueOf == Methods.findFirstAndMakeItAccessible(String.class, "valueOf", boolean.class));
+				assertTrue(stringValueOf != booleanValueOf);
+			}
+		);
+	}
+
 	@Test
 	public void invokeVoidTestOne() {
 		testDoesNotThrow(
@@ -1,7 +1,12 @@
 package org.burningwave.core;
 
 import static org.burningwave.core.assembler.StaticComponentContainer.GlobalProperties;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.util.HashMap;
+import java.util.Map;
+
+import org.burningwave.core.iterable.Properties;
 import org.junit.jupiter.api.Test;
 
 public class PropertiesTest extends BaseTest {
@@ -14,4 +19,23 @@ public class PropertiesTest extends BaseTest {
 
 	}
 
+	@Test
+	public void resolveStringValueTestOne() {
+		Properties properties = new Properties();
+		properties.put("path", "${root}/${folder}");
+		properties.put("root", "/home");
+		properties.put("folder", "user");
+		assertEquals("/home/user", properties.resolveStringValue("path"));
+		assertEquals("/home/user", properties.resolveStringValue("path"));
+		properties.put("folder", "admin");
+		assertEquals("/home/admin", properties.resolveStringValue("path"));
+		Map<Object, Object> newValues = new HashMap<>();
+		newValues.put("root", "/opt");
+		properties.putAll(newValues);
+		assertEquals("/opt/admin", properties.resolveStringValue("path"));
+		properties.remove("root");
+		properties.keySet().remove("folder");
+		assertEquals("${root}/${folder}", properties.resolveStringValue("path"));
+	}
+
 }
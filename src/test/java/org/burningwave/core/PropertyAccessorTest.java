@@ -1,10 +1,12 @@
 package org.burningwave.core;
 
 import static org.burningwave.core.assembler.StaticComponentContainer.ByFieldOrByMethodPropertyAccessor;
+import static org.burningwave.core.assembler.StaticComponentContainer.ByMethodOrByFieldPropertyAccessor;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 import org.burningwave.core.bean.Complex;
+import org.burningwave.core.classes.PropertyAccessor;
 import org.junit.jupiter.api.Test;
 
 public class PropertyAccessorTest extends BaseTest {
@@ -49,4 +51,28 @@ public class PropertyAccessorTest extends BaseTest {
 				(Object) ByFieldOrByMethodPropertyAccessor.get(complex, "data"));
 	}
 
+	@Test
+	public void compiledPathGetTestOne() {
+		Complex complex = new Complex();
+		PropertyAccessor.CompiledPath compiledPath = ByMethodOrByFieldPropertyAccessor.compile(Complex.class, "data.itemsMap[items][1][1].name");
+		for (int i = 0; i < 3; i++) {
+			assertEquals((Object)ByMethodOrByFieldPropertyAccessor.get(complex, "data.itemsMap[items][1][1].name"), compiledPath.get(complex));
+		}
+		assertEquals(
+			(Object)ByFieldOrByMethodPropertyAccessor.get(complex, "data.items[1][1].name"),
+			ByFieldOrByMethodPropertyAccessor.compile(Complex.class, "data.items[1][1].name").get(complex)
+		);
+	}
+
+	@Test
+	public void compiledPathSetTestOne() {
+		Complex complex = new Complex();
+		String newName = "Peter";
+		ByFieldOrByMethodPropertyAccessor.compile(Complex.class, "data.items[0][2].name").set(complex, newName);
+		assertEquals(ByFieldOrByMethodPropertyAccessor.get(complex, "data.items[0][2].name"), newName);
+		Complex.Data.Item newItem = new Complex.Data.Item("Sam");
+		ByMethodOrByFieldPropertyAccessor.compile(Complex.class, "data.items[0][1]").set(complex, newItem);
+		assertEquals(ByFieldOrByMethodPropertyAccessor.get(complex, "data.items[0][1]"), newItem);
+	}
+
 }